@@ -46,11 +46,6 @@ public class MemoryMonitor {
 	 */
 	private final static List<Consumer<MemoryUsage>> subscribers = new CopyOnWriteArrayList<>();
 
-	/**
-	 * 执行线程
-	 */
-	private static final ExecutorService executorService = ThreadPoolBuilder.buildDefaultThreadPool();
-
 	public MemoryMonitor(MethodcacheProperties methodcacheProperties) {
 
 		logger.info("开启内存监控...");
@@ -74,9 +69,13 @@ public class MemoryMonitor {
 				if (poolName.toLowerCase().endsWith(memoryPoolMXBeanOldGen) && isAlarmed(used, max, memoryThreshold)) {
 					if (subscribers.size() > 0) {
 						for (Consumer<MemoryUsage> sub : subscribers) {
-							executorService.execute(() -> {
-								sub.accept(memUsage);
-							});
+							try {
+								ThreadPoolBuilder.getExecutor(ThreadPoolBuilder.Purpose.MONITOR).execute(() -> {
+									sub.accept(memUsage);
+								});
+							} catch (RejectedExecutionException e) {
+								logger.warn(e.getMessage());
+							}
 						}
 					}
 				}
@@ -9,10 +9,17 @@ import love.kill.methodcache.annotation.DeleteData;
 import love.kill.methodcache.datahelper.DataHelper;
 import love.kill.methodcache.datahelper.impl.MemoryDataHelper;
 import love.kill.methodcache.datahelper.impl.RedisDataHelper;
+import love.kill.methodcache.datahelper.impl.TieredDataHelper;
+import love.kill.methodcache.metrics.MethodcacheMeterBinder;
 import love.kill.methodcache.util.AnnotationUtil;
+import love.kill.methodcache.util.ReactiveRedisUtil;
 import love.kill.methodcache.util.RedisUtil;
+import love.kill.methodcache.util.ThreadPoolBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.aop.framework.autoproxy.DefaultAdvisorAutoProxyCreator;
 import org.springframework.aop.support.StaticMethodMatcherPointcutAdvisor;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -22,9 +29,12 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Role;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
 
 import java.lang.reflect.Method;
 
@@ -32,16 +42,75 @@ import java.lang.reflect.Method;
 @EnableConfigurationProperties({MethodcacheProperties.class, SpringApplicationProperties.class})
 @ConditionalOnProperty(prefix = "methodcache", name = "enable", havingValue = "true")
 @ComponentScan(basePackages = {"love.kill.methodcache.controller"})
-public class MethodcacheAutoConfiguration {
+public class MethodcacheAutoConfiguration implements DisposableBean {
 
-	@Bean
+	private static Logger logger = LoggerFactory.getLogger(MethodcacheAutoConfiguration.class);
+
+	@Bean(destroyMethod = "shutdown")
 	@ConditionalOnProperty(prefix = "methodcache", name = "cache-type", havingValue = "R")
 	@ConditionalOnMissingBean
 	@ConditionalOnClass({RedisTemplate.class})
 	DataHelper redisDataHelper(MethodcacheProperties methodcacheProperties,
 							   SpringApplicationProperties springProperties,
 							   RedisTemplate redisTemplate) {
+		RedisDataHelper redisDataHelper = new RedisDataHelper(methodcacheProperties, springProperties,
+				buildRedisUtil(redisTemplate));
+		if (methodcacheProperties.isEnableAsyncRedis()) {
+			redisDataHelper.setReactiveRedisUtil(buildReactiveRedisUtil(redisTemplate));
+		}
+		return redisDataHelper;
+	}
+
+	@Bean(destroyMethod = "shutdown")
+	@ConditionalOnProperty(prefix = "methodcache", name = "cache-type", havingValue = "T")
+	@ConditionalOnMissingBean
+	@ConditionalOnClass({RedisTemplate.class})
+	DataHelper tieredDataHelper(MethodcacheProperties methodcacheProperties,
+								SpringApplicationProperties springProperties,
+								RedisTemplate redisTemplate, @Nullable MemoryMonitor memoryMonitor) {
+		if (methodcacheProperties.isEnableAsyncRedis()) {
+			logger.warn("methodcache: 多级缓存方式不支持Redis异步访问(enable-async-redis)，异步方法仍在线程池中获取数据");
+		}
+		return new TieredDataHelper(methodcacheProperties, springProperties, buildRedisUtil(redisTemplate),
+				memoryMonitor);
+	}
+
+	@Bean
+	@ConditionalOnClass({MemoryDataHelper.class})
+	@ConditionalOnProperty(prefix = "methodcache", name = "enable-memory-monitor", havingValue = "true")
+	MemoryMonitor memoryMonitor(MethodcacheProperties methodcacheProperties) {
+		return new MemoryMonitor(methodcacheProperties);
+	}
+
+	@Bean(destroyMethod = "shutdown")
+	@ConditionalOnMissingBean
+	DataHelper memoryDataHelper(MethodcacheProperties methodcacheProperties,
+								SpringApplicationProperties springProperties, @Nullable MemoryMonitor memoryMonitor) {
+		return new MemoryDataHelper(methodcacheProperties, springProperties, memoryMonitor);
+	}
 
+	/**
+	 * 缓存监控指标
+	 * 引入Micrometer时生效
+	 */
+	@Configuration
+	@ConditionalOnClass(name = "io.micrometer.core.instrument.binder.MeterBinder")
+	static class MethodcacheMetricsConfiguration {
+
+		@Bean
+		@ConditionalOnMissingBean
+		MethodcacheMeterBinder methodcacheMeterBinder(DataHelper dataHelper) {
+			return new MethodcacheMeterBinder(dataHelper);
+		}
+	}
+
+	/**
+	 * 构建缓存使用的Redis工具类
+	 *
+	 * @param redisTemplate 应用的RedisTemplate
+	 * @return redis工具类
+	 */
+	private static RedisUtil buildRedisUtil(RedisTemplate redisTemplate) {
 		RedisTemplate<Object, Object> cacheRedisTemplate = new RedisTemplate<>();
 		cacheRedisTemplate.setConnectionFactory(redisTemplate.getConnectionFactory());
 
@@ -52,21 +121,31 @@ public class MethodcacheAutoConfiguration {
 		cacheRedisTemplate.setHashValueSerializer(stringRedisSerializer);
 		cacheRedisTemplate.afterPropertiesSet();
 
-		return new RedisDataHelper(methodcacheProperties, springProperties, new RedisUtil(cacheRedisTemplate));
+		return new RedisUtil(cacheRedisTemplate);
 	}
 
-	@Bean
-	@ConditionalOnClass({MemoryDataHelper.class})
-	@ConditionalOnProperty(prefix = "methodcache", name = "enable-memory-monitor", havingValue = "true")
-	MemoryMonitor memoryMonitor(MethodcacheProperties methodcacheProperties) {
-		return new MemoryMonitor(methodcacheProperties);
+	/**
+	 * 构建缓存使用的Redis异步工具类
+	 *
+	 * @param redisTemplate 应用的RedisTemplate
+	 * @return redis异步工具类，未引入reactor-core或连接工厂不支持响应式时返回null
+	 */
+	private static ReactiveRedisUtil buildReactiveRedisUtil(RedisTemplate redisTemplate) {
+		RedisConnectionFactory connectionFactory = redisTemplate.getConnectionFactory();
+		if (!ClassUtils.isPresent("reactor.core.publisher.Mono", MethodcacheAutoConfiguration.class.getClassLoader()) ||
+				!(connectionFactory instanceof ReactiveRedisConnectionFactory)) {
+			logger.warn("methodcache: 未引入reactor-core或Redis连接工厂不支持响应式，Redis异步访问未开启");
+			return null;
+		}
+		return new ReactiveRedisUtil((ReactiveRedisConnectionFactory) connectionFactory);
 	}
 
-	@Bean
-	@ConditionalOnMissingBean
-	DataHelper memoryDataHelper(MethodcacheProperties methodcacheProperties,
-								SpringApplicationProperties springProperties, @Nullable MemoryMonitor memoryMonitor) {
-		return new MemoryDataHelper(methodcacheProperties, springProperties, memoryMonitor);
+	/**
+	 * 关闭缓存使用的线程池
+	 */
+	@Override
+	public void destroy() {
+		ThreadPoolBuilder.shutdown();
 	}
 
 	@Bean
@@ -37,6 +37,60 @@ public class MethodcacheProperties {
 	 */
 	private boolean enableStatistics = false;
 
+	/**
+	 * 统计信息刷新间隔(毫秒)
+	 * 统计信息先在本地汇总，每隔此时间批量累加至Redis，默认：1000（仅Redis缓存方式生效）
+	 */
+	private long statisticsFlushInterval = 1000L;
+
+	/**
+	 * 统计采样率
+	 * 取值范围：[0, 1]，默认：1，即统计每一次请求。采样率会换算为"每N次请求采样1次"，计数按N倍累加
+	 */
+	private double statisticsSampleRate = 1D;
+
+	/**
+	 * 统计目标采样速率
+	 * 每个方法每秒采样的目标次数，大于0时根据请求速率自适应地降低采样率，默认：0，即不自适应
+	 */
+	private long statisticsTargetQps = 0L;
+
+	/**
+	 * 线程池核心线程数
+	 * 缓存使用的线程池按用途(刷新、读写、异步、删除、内存告警)划分，每个线程池使用相同的配置，小于等于0时为：CPU核心数 + 1
+	 */
+	private int executorCoreSize = 0;
+
+	/**
+	 * 线程池最大线程数
+	 * 队列满后增加线程，小于等于0时为：CPU核心数 * 2 + 1
+	 */
+	private int executorMaxSize = 0;
+
+	/**
+	 * 线程池队列容量
+	 * 队列满且线程数达到最大值后，刷新任务及内存告警通知被丢弃，其他任务由调用线程执行，默认：1000
+	 */
+	private int executorQueueCapacity = 1000;
+
+	/**
+	 * 线程池关闭等待时间(毫秒)
+	 * 应用关闭时等待已提交任务结束的时间，超时后中断，默认：5000
+	 */
+	private long executorShutdownTimeout = 5000L;
+
+	/**
+	 * 使用虚拟线程
+	 * 刷新、读写、异步获取、删除任务改为每个任务一个虚拟线程执行，仅JDK 21及以上生效，默认：false
+	 */
+	private boolean executorVirtualThreads = false;
+
+	/**
+	 * 虚拟线程并发数
+	 * 使用虚拟线程时，每个用途同时执行的任务数上限，超出后任务等待执行，默认：256
+	 */
+	private int executorVirtualConcurrency = 256;
+
 	/**
 	 * 开启内存监控
 	 */
@@ -54,6 +108,95 @@ public class MethodcacheProperties {
 	 */
 	private int gcThreshold = 50;
 
+	/**
+	 * 内存缓存最大个数
+	 * 达到上限时按过期时间顺序淘汰数据，小于等于0表示不限制，默认：0（内存、多级缓存方式生效）
+	 */
+	private int memoryMaxSize = 0;
+
+	/**
+	 * 空结果最大缓存个数
+	 * 达到上限时不再缓存新的空结果，小于等于0表示不限制，默认：0（内存、多级缓存方式生效）
+	 */
+	private int negativeMaxSize = 0;
+
+	/**
+	 * 多级缓存中内存缓存的有效期(毫秒)，默认：5000（仅多级缓存方式生效）
+	 */
+	private long tieredMemoryExpiration = 5000L;
+
+	/**
+	 * 压缩阈值(字节)
+	 * 序列化后的缓存数据达到此大小时进行压缩，小于等于0表示不压缩，默认：0（Redis、多级缓存方式生效）
+	 */
+	private int compressThreshold = 0;
+
+	/**
+	 * 开启紧凑key
+	 * 缓存key中的方法签名替换为12位的方法标识(方法签名的MD5)，方法签名保存于Redis注册表，默认false（Redis、多级缓存方式生效）
+	 */
+	private boolean compactKey = false;
+
+	/**
+	 * 开启key哈希标签
+	 * 缓存key中的方法签名(方法标识)使用{}包裹，同一方法的数据及锁位于同一slot，适用于Redis Cluster，默认false（Redis、多级缓存方式生效）
+	 */
+	private boolean keyHashTag = false;
+
+	/**
+	 * 开启Redis异步访问
+	 * 返回值为 CompletionStage 的方法使用响应式连接非阻塞地查询Redis，需引入reactor-core且连接工厂支持响应式(如Lettuce)，默认false（仅Redis缓存方式生效）
+	 */
+	private boolean enableAsyncRedis = false;
+
+	/**
+	 * 开启Redis熔断
+	 * Redis连续失败(异常或慢调用)达到阈值后熔断，熔断期间使用本地缓存或直接发起请求，到达熔断时长后放行探测请求，默认false（Redis、多级缓存方式生效）
+	 */
+	private boolean enableCircuitBreaker = false;
+
+	/**
+	 * Redis熔断连续失败次数阈值，默认：5
+	 */
+	private int circuitBreakerFailureThreshold = 5;
+
+	/**
+	 * Redis慢调用阈值(毫秒)，耗时达到此值视为失败，小于等于0表示不判断耗时，默认：1000
+	 */
+	private long circuitBreakerSlowCallThreshold = 1000L;
+
+	/**
+	 * Redis熔断时长(毫秒)，同时也是熔断期间本地缓存的有效期，默认：10000
+	 */
+	private long circuitBreakerOpenDuration = 10000L;
+
+	/**
+	 * 熔断期间本地缓存最大个数，小于等于0表示不使用本地缓存(直接发起请求)，默认：10000
+	 */
+	private int circuitBreakerFallbackMaxSize = 10000;
+
+	/**
+	 * Redis命令超时(毫秒)
+	 * 查询、批量查询、脚本、加锁及解锁超过此时长未返回时放弃等待并视为失败(计入熔断)，小于等于0表示仅使用Redis客户端的超时设置，默认：0（Redis、多级缓存方式生效）
+	 */
+	private long redisCommandTimeout = 0L;
+
+	/**
+	 * 开启近端缓存
+	 * 在本地保存Redis缓存数据的副本，通过Redis发布订阅保持各节点数据一致（仅Redis缓存方式生效）
+	 */
+	private boolean enableNearCache = false;
+
+	/**
+	 * 近端缓存本地有效期(毫秒)，默认：1000
+	 */
+	private long nearCacheExpiration = 1000L;
+
+	/**
+	 * 近端缓存最大个数，默认：10000
+	 */
+	private int nearCacheMaxSize = 10000;
+
 	/**
 	 * 切面排序值
 	 * 控制 Advisor 的执行顺序
@@ -109,6 +252,54 @@ public class MethodcacheProperties {
 		this.enableStatistics = enableStatistics;
 	}
 
+	public int getExecutorCoreSize() {
+		return executorCoreSize;
+	}
+
+	public void setExecutorCoreSize(int executorCoreSize) {
+		this.executorCoreSize = executorCoreSize;
+	}
+
+	public int getExecutorMaxSize() {
+		return executorMaxSize;
+	}
+
+	public void setExecutorMaxSize(int executorMaxSize) {
+		this.executorMaxSize = executorMaxSize;
+	}
+
+	public int getExecutorQueueCapacity() {
+		return executorQueueCapacity;
+	}
+
+	public void setExecutorQueueCapacity(int executorQueueCapacity) {
+		this.executorQueueCapacity = executorQueueCapacity;
+	}
+
+	public long getExecutorShutdownTimeout() {
+		return executorShutdownTimeout;
+	}
+
+	public void setExecutorShutdownTimeout(long executorShutdownTimeout) {
+		this.executorShutdownTimeout = executorShutdownTimeout;
+	}
+
+	public boolean isExecutorVirtualThreads() {
+		return executorVirtualThreads;
+	}
+
+	public void setExecutorVirtualThreads(boolean executorVirtualThreads) {
+		this.executorVirtualThreads = executorVirtualThreads;
+	}
+
+	public int getExecutorVirtualConcurrency() {
+		return executorVirtualConcurrency;
+	}
+
+	public void setExecutorVirtualConcurrency(int executorVirtualConcurrency) {
+		this.executorVirtualConcurrency = executorVirtualConcurrency;
+	}
+
 	public boolean isEnableMemoryMonitor() {
 		return enableMemoryMonitor;
 	}
@@ -133,6 +324,158 @@ public class MethodcacheProperties {
 		this.gcThreshold = gcThreshold;
 	}
 
+	public int getMemoryMaxSize() {
+		return memoryMaxSize;
+	}
+
+	public void setMemoryMaxSize(int memoryMaxSize) {
+		this.memoryMaxSize = memoryMaxSize;
+	}
+
+	public int getNegativeMaxSize() {
+		return negativeMaxSize;
+	}
+
+	public void setNegativeMaxSize(int negativeMaxSize) {
+		this.negativeMaxSize = negativeMaxSize;
+	}
+
+	public long getTieredMemoryExpiration() {
+		return tieredMemoryExpiration;
+	}
+
+	public void setTieredMemoryExpiration(long tieredMemoryExpiration) {
+		this.tieredMemoryExpiration = tieredMemoryExpiration;
+	}
+
+	public long getStatisticsFlushInterval() {
+		return statisticsFlushInterval;
+	}
+
+	public void setStatisticsFlushInterval(long statisticsFlushInterval) {
+		this.statisticsFlushInterval = statisticsFlushInterval;
+	}
+
+	public double getStatisticsSampleRate() {
+		return statisticsSampleRate;
+	}
+
+	public void setStatisticsSampleRate(double statisticsSampleRate) {
+		this.statisticsSampleRate = statisticsSampleRate;
+	}
+
+	public long getStatisticsTargetQps() {
+		return statisticsTargetQps;
+	}
+
+	public void setStatisticsTargetQps(long statisticsTargetQps) {
+		this.statisticsTargetQps = statisticsTargetQps;
+	}
+
+	public int getCompressThreshold() {
+		return compressThreshold;
+	}
+
+	public void setCompressThreshold(int compressThreshold) {
+		this.compressThreshold = compressThreshold;
+	}
+
+	public boolean isCompactKey() {
+		return compactKey;
+	}
+
+	public void setCompactKey(boolean compactKey) {
+		this.compactKey = compactKey;
+	}
+
+	public boolean isKeyHashTag() {
+		return keyHashTag;
+	}
+
+	public void setKeyHashTag(boolean keyHashTag) {
+		this.keyHashTag = keyHashTag;
+	}
+
+	public boolean isEnableAsyncRedis() {
+		return enableAsyncRedis;
+	}
+
+	public void setEnableAsyncRedis(boolean enableAsyncRedis) {
+		this.enableAsyncRedis = enableAsyncRedis;
+	}
+
+	public boolean isEnableCircuitBreaker() {
+		return enableCircuitBreaker;
+	}
+
+	public void setEnableCircuitBreaker(boolean enableCircuitBreaker) {
+		this.enableCircuitBreaker = enableCircuitBreaker;
+	}
+
+	public int getCircuitBreakerFailureThreshold() {
+		return circuitBreakerFailureThreshold;
+	}
+
+	public void setCircuitBreakerFailureThreshold(int circuitBreakerFailureThreshold) {
+		this.circuitBreakerFailureThreshold = circuitBreakerFailureThreshold;
+	}
+
+	public long getCircuitBreakerSlowCallThreshold() {
+		return circuitBreakerSlowCallThreshold;
+	}
+
+	public void setCircuitBreakerSlowCallThreshold(long circuitBreakerSlowCallThreshold) {
+		this.circuitBreakerSlowCallThreshold = circuitBreakerSlowCallThreshold;
+	}
+
+	public long getCircuitBreakerOpenDuration() {
+		return circuitBreakerOpenDuration;
+	}
+
+	public void setCircuitBreakerOpenDuration(long circuitBreakerOpenDuration) {
+		this.circuitBreakerOpenDuration = circuitBreakerOpenDuration;
+	}
+
+	public int getCircuitBreakerFallbackMaxSize() {
+		return circuitBreakerFallbackMaxSize;
+	}
+
+	public void setCircuitBreakerFallbackMaxSize(int circuitBreakerFallbackMaxSize) {
+		this.circuitBreakerFallbackMaxSize = circuitBreakerFallbackMaxSize;
+	}
+
+	public long getRedisCommandTimeout() {
+		return redisCommandTimeout;
+	}
+
+	public void setRedisCommandTimeout(long redisCommandTimeout) {
+		this.redisCommandTimeout = redisCommandTimeout;
+	}
+
+	public boolean isEnableNearCache() {
+		return enableNearCache;
+	}
+
+	public void setEnableNearCache(boolean enableNearCache) {
+		this.enableNearCache = enableNearCache;
+	}
+
+	public long getNearCacheExpiration() {
+		return nearCacheExpiration;
+	}
+
+	public void setNearCacheExpiration(long nearCacheExpiration) {
+		this.nearCacheExpiration = nearCacheExpiration;
+	}
+
+	public int getNearCacheMaxSize() {
+		return nearCacheMaxSize;
+	}
+
+	public void setNearCacheMaxSize(int nearCacheMaxSize) {
+		this.nearCacheMaxSize = nearCacheMaxSize;
+	}
+
 	public int getOrder() {
 		return order;
 	}
@@ -149,9 +492,34 @@ public class MethodcacheProperties {
 				", enableLog=" + enableLog +
 				", enableEndpoint=" + enableEndpoint +
 				", enableStatistics=" + enableStatistics +
+				", statisticsFlushInterval=" + statisticsFlushInterval +
+				", statisticsSampleRate=" + statisticsSampleRate +
+				", statisticsTargetQps=" + statisticsTargetQps +
+				", executorCoreSize=" + executorCoreSize +
+				", executorMaxSize=" + executorMaxSize +
+				", executorQueueCapacity=" + executorQueueCapacity +
+				", executorShutdownTimeout=" + executorShutdownTimeout +
+				", executorVirtualThreads=" + executorVirtualThreads +
+				", executorVirtualConcurrency=" + executorVirtualConcurrency +
 				", enableMemoryMonitor=" + enableMemoryMonitor +
 				", memoryThreshold=" + memoryThreshold +
 				", gcThreshold=" + gcThreshold +
+				", memoryMaxSize=" + memoryMaxSize +
+				", negativeMaxSize=" + negativeMaxSize +
+				", tieredMemoryExpiration=" + tieredMemoryExpiration +
+				", compressThreshold=" + compressThreshold +
+				", compactKey=" + compactKey +
+				", keyHashTag=" + keyHashTag +
+				", enableAsyncRedis=" + enableAsyncRedis +
+				", enableCircuitBreaker=" + enableCircuitBreaker +
+				", circuitBreakerFailureThreshold=" + circuitBreakerFailureThreshold +
+				", circuitBreakerSlowCallThreshold=" + circuitBreakerSlowCallThreshold +
+				", circuitBreakerOpenDuration=" + circuitBreakerOpenDuration +
+				", circuitBreakerFallbackMaxSize=" + circuitBreakerFallbackMaxSize +
+				", redisCommandTimeout=" + redisCommandTimeout +
+				", enableNearCache=" + enableNearCache +
+				", nearCacheExpiration=" + nearCacheExpiration +
+				", nearCacheMaxSize=" + nearCacheMaxSize +
 				", order=" + order +
 				'}';
 	}
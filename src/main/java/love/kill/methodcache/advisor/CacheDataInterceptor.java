@@ -4,15 +4,25 @@ import love.kill.methodcache.MethodcacheProperties;
 import love.kill.methodcache.annotation.CacheData;
 import love.kill.methodcache.annotation.CapitalExpiration;
 import love.kill.methodcache.datahelper.DataHelper;
+import love.kill.methodcache.datahelper.IsolationScope;
 import love.kill.methodcache.util.AnnotationUtil;
 import org.aopalliance.intercept.MethodInterceptor;
 import org.aopalliance.intercept.MethodInvocation;
-import org.springframework.beans.factory.annotation.Autowired;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.aop.support.AopUtils;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 /**
  * CacheData 拦截通知
@@ -22,6 +32,8 @@ import java.util.Map;
  */
 public class CacheDataInterceptor implements MethodInterceptor {
 
+	private static Logger logger = LoggerFactory.getLogger(CacheDataInterceptor.class);
+
 	private MethodcacheProperties methodcacheProperties;
 
 	/**
@@ -86,31 +98,134 @@ public class CacheDataInterceptor implements MethodInterceptor {
 		}
 
 		boolean refresh = cacheData.refresh(); // 刷新数据
-		long expiration = cacheData.expiration(); // 数据过期时间，毫秒
-		long behindExpiration = cacheData.behindExpiration(); //  数据过期宽限期，毫秒
-		CapitalExpiration capitalExpiration = cacheData.capitalExpiration(); // 数据过期时间累加基础
 		boolean nullable = cacheData.nullable(); // 空返回
 		boolean shared = cacheData.shared(); // 共享式缓存
-		String isolationSignal = dataHelper.threadLocal.get(); // 隔离标记
-		return dataHelper.getData(proxy, methodInvocation.getMethod(),
-				methodInvocation.getArguments(), isolationSignal, refresh, new DataHelper.ActualDataFunctional() {
-					@Autowired
-					public Object getActualData() throws Throwable {
-						try {
-							return methodInvocation.proceed();
-						} catch (Throwable throwable) {
-							throwable.printStackTrace();
-							throw throwable;
+
+		Class<?> returnType = method.getReturnType();
+		boolean async = CompletionStage.class.isAssignableFrom(returnType) &&
+				returnType.isAssignableFrom(CompletableFuture.class); // 异步方法
+
+		IsolationScope isolationScope = IsolationScope.current(); // 隔离范围
+		if (isolationScope != null) {
+			// 线程隔离，数据仅缓存在隔离范围内，随范围结束丢弃
+			DataHelper.ActualDataFunctional scopeDataFunctional = new CacheDataFunctional(cacheData) {
+				@Override
+				public Object getActualData() throws Throwable {
+					return methodInvocation.proceed();
+				}
+			};
+			if (async) {
+				return isolationScope.getDataAsync(method, methodInvocation.getArguments(), scopeDataFunctional,
+						nullable, shared);
+			}
+			return isolationScope.getData(method, methodInvocation.getArguments(), scopeDataFunctional, nullable,
+					shared);
+		}
+
+		if (async) {
+			// 异步方法，缓存异步结果
+			return dataHelper.getDataAsync(proxy, method, methodInvocation.getArguments(), refresh,
+					new AsyncCacheDataFunctional(cacheData) {
+						@Override
+						public CompletionStage<?> getActualDataAsync() throws Throwable {
+							return (CompletionStage<?>) methodInvocation.proceed();
+						}
+					}, cacheData.id(), cacheData.remark(), nullable, shared);
+		}
+
+		int batchIndex = cacheData.batch() ? batchIndex(method) : -1; // 批量参数下标
+		if (batchIndex >= 0) {
+			// 批量缓存，每个元素单独缓存
+			Class<?> batchType = method.getParameterTypes()[batchIndex];
+			return dataHelper.getBatchData(proxy, method, methodInvocation.getArguments(), batchIndex,
+					new BatchCacheDataFunctional(cacheData) {
+						@Override
+						public Map<?, ?> getActualData(Collection<Object> elements) throws Throwable {
+							Object[] batchArgs = methodInvocation.getArguments().clone();
+							batchArgs[batchIndex] = batchType.isAssignableFrom(ArrayList.class) ?
+									new ArrayList<>(elements) : new LinkedHashSet<>(elements);
+							try {
+								if (methodInvocation instanceof ProxyMethodInvocation) {
+									return (Map<?, ?>) ((ProxyMethodInvocation) methodInvocation)
+											.invocableClone(batchArgs).proceed();
+								}
+								return (Map<?, ?>) AopUtils.invokeJoinpointUsingReflection(proxy, method, batchArgs);
+							} catch (Throwable throwable) {
+								logger.error("批量请求数据出现异常：" + throwable.getMessage(), throwable);
+								throw throwable;
+							}
 						}
-					}
 
+						@Override
+						public Object getActualData() throws Throwable {
+							return proceed(methodInvocation);
+						}
+					}, cacheData.id(), cacheData.remark(), nullable, shared);
+		}
+
+		return dataHelper.getData(proxy, methodInvocation.getMethod(),
+				methodInvocation.getArguments(), refresh, new CacheDataFunctional(cacheData) {
 					@Override
-					public long getExpirationTime() {
-						return expirationTime(expiration, behindExpiration, capitalExpiration);
+					public Object getActualData() throws Throwable {
+						return proceed(methodInvocation);
 					}
 				}, cacheData.id(), cacheData.remark(), nullable, shared);
 	}
 
+	/**
+	 * 发起实际请求
+	 * 请求异常时记录日志后抛出
+	 *
+	 * @param methodInvocation 方法调用
+	 * @return 请求结果
+	 * @throws Throwable 请求时发生的异常
+	 */
+	private static Object proceed(MethodInvocation methodInvocation) throws Throwable {
+		try {
+			return methodInvocation.proceed();
+		} catch (Throwable throwable) {
+			logger.error("请求数据出现异常：" + throwable.getMessage(), throwable);
+			throw throwable;
+		}
+	}
+
+
+	/**
+	 * 获取批量参数下标
+	 * 返回值为 Map 且可为 LinkedHashMap 时，取第一个可为 ArrayList 或 LinkedHashSet 的集合参数
+	 *
+	 * @param method 方法
+	 * @return 批量参数下标，不支持批量缓存时返回-1
+	 */
+	private static int batchIndex(Method method) {
+		Class<?> returnType = method.getReturnType();
+		if (!Map.class.isAssignableFrom(returnType) || !returnType.isAssignableFrom(LinkedHashMap.class)) {
+			return -1;
+		}
+
+		Class<?>[] parameterTypes = method.getParameterTypes();
+		for (int i = 0; i < parameterTypes.length; i++) {
+			Class<?> parameterType = parameterTypes[i];
+			if (Collection.class.isAssignableFrom(parameterType) &&
+					(parameterType.isAssignableFrom(ArrayList.class) ||
+							parameterType.isAssignableFrom(LinkedHashSet.class))) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * 计算空结果过期时间
+	 * 小于0时与数据过期时间相同
+	 */
+	private static long negativeExpirationTime(long expiration, long behindExpiration,
+											   CapitalExpiration capitalExpiration, long negativeExpiration) {
+		if (negativeExpiration < 0L) {
+			return expirationTime(expiration, behindExpiration, capitalExpiration);
+		}
+		return System.currentTimeMillis() + negativeExpiration;
+	}
 
 	/**
 	 * 计算数据过期时间
@@ -165,4 +280,90 @@ public class CacheDataInterceptor implements MethodInterceptor {
 
 		return calendar.getTime().getTime() + expiration;
 	}
+
+	/**
+	 * 由 CacheData 注解构建的请求模型
+	 * 过期时间、旧数据有效期、刷新及统计相关配置取自注解
+	 */
+	private static abstract class CacheDataFunctional implements DataHelper.ActualDataFunctional {
+
+		private final long expiration; // 数据过期时间，毫秒
+		private final long behindExpiration; // 数据过期宽限期，毫秒
+		private final long negativeExpiration; // 空结果过期时间，毫秒
+		private final long staleExpiration; // 旧数据有效期，毫秒
+		private final CapitalExpiration capitalExpiration; // 数据过期时间累加基础
+		private final long refreshInterval; // 刷新间隔，毫秒
+		private final double refreshThreshold; // 刷新阈值
+		private final double earlyRefreshBeta; // 提前刷新系数
+		private final double statisticsSampleRate; // 统计采样率
+
+		CacheDataFunctional(CacheData cacheData) {
+			this.expiration = cacheData.expiration();
+			this.behindExpiration = cacheData.behindExpiration();
+			this.negativeExpiration = cacheData.negativeExpiration();
+			this.staleExpiration = cacheData.staleExpiration();
+			this.capitalExpiration = cacheData.capitalExpiration();
+			this.refreshInterval = cacheData.refreshInterval();
+			this.refreshThreshold = cacheData.refreshThreshold();
+			this.earlyRefreshBeta = cacheData.earlyRefreshBeta();
+			this.statisticsSampleRate = cacheData.statisticsSampleRate();
+		}
+
+		@Override
+		public long getExpirationTime() {
+			return expirationTime(expiration, behindExpiration, capitalExpiration);
+		}
+
+		@Override
+		public long getNegativeExpirationTime() {
+			return negativeExpirationTime(expiration, behindExpiration, capitalExpiration, negativeExpiration);
+		}
+
+		@Override
+		public long getStaleExpiration() {
+			return staleExpiration;
+		}
+
+		@Override
+		public long getRefreshInterval() {
+			return refreshInterval;
+		}
+
+		@Override
+		public double getRefreshThreshold() {
+			return refreshThreshold;
+		}
+
+		@Override
+		public double getEarlyRefreshBeta() {
+			return earlyRefreshBeta;
+		}
+
+		@Override
+		public double getStatisticsSampleRate() {
+			return statisticsSampleRate;
+		}
+	}
+
+	/**
+	 * 由 CacheData 注解构建的异步请求模型
+	 */
+	private static abstract class AsyncCacheDataFunctional extends CacheDataFunctional
+			implements DataHelper.AsyncDataFunctional {
+
+		AsyncCacheDataFunctional(CacheData cacheData) {
+			super(cacheData);
+		}
+	}
+
+	/**
+	 * 由 CacheData 注解构建的批量请求模型
+	 */
+	private static abstract class BatchCacheDataFunctional extends CacheDataFunctional
+			implements DataHelper.BatchDataFunctional {
+
+		BatchCacheDataFunctional(CacheData cacheData) {
+			super(cacheData);
+		}
+	}
 }
@@ -3,15 +3,14 @@ package love.kill.methodcache.advisor;
 import love.kill.methodcache.annotation.CacheIsolation;
 import love.kill.methodcache.constant.IsolationStrategy;
 import love.kill.methodcache.datahelper.DataHelper;
+import love.kill.methodcache.datahelper.IsolationScope;
 import love.kill.methodcache.util.AnnotationUtil;
 import org.aopalliance.intercept.MethodInterceptor;
 import org.aopalliance.intercept.MethodInvocation;
-import org.springframework.util.StringUtils;
 
 import java.lang.reflect.Method;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.UUID;
 /**
  * CacheIsolation 拦截通知
  *
@@ -77,27 +76,16 @@ public class CacheIsolationInterceptor implements MethodInterceptor {
 
 
 		if (IsolationStrategy.THREAD == cacheIsolation.isolationStrategy()) {
-			String isolationSignal; // 隔离标记
-			boolean setIsolationSignal = false; // 当前方法设置了"隔离标记"
+			// 开启隔离范围，当前线程已在隔离范围内时沿用外层范围
+			IsolationScope isolationScope = IsolationScope.open();
 			try {
-				isolationSignal = dataHelper.threadLocal.get();
-				if(StringUtils.isEmpty(isolationSignal)){
-					isolationSignal = UUID.randomUUID().toString() + "@" + String.valueOf(Thread.currentThread().getId());
-					dataHelper.threadLocal.set(isolationSignal);
-					setIsolationSignal = true;
-				}
-
 				return methodInvocation.proceed();
-
-			}catch (Exception e){
-				e.printStackTrace();
-			}finally {
-				if(setIsolationSignal){
-					// 谁设置，谁清除
-					dataHelper.threadLocal.remove();
+			} finally {
+				if (isolationScope != null) {
+					// 谁开启，谁关闭
+					isolationScope.close();
 				}
 			}
-
 		}
 
 		return methodInvocation.proceed();
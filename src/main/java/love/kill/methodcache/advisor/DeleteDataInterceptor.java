@@ -12,7 +12,6 @@ import org.springframework.util.StringUtils;
 import java.lang.reflect.Method;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ExecutorService;
 
 /**
  * DeleteData 拦截通知
@@ -36,11 +35,6 @@ public class DeleteDataInterceptor implements MethodInterceptor {
 	 */
 	private static Map<Class<?> ,Class<?>> targetProxyClass = new HashMap<>();
 
-	/**
-	 * 清除缓存线程池
-	 */
-	private ExecutorService deleteCacheExecutorService = ThreadPoolBuilder.buildDefaultThreadPool();
-
 	public DeleteDataInterceptor(MethodcacheProperties methodcacheProperties, DataHelper dataHelper) {
 		this.methodcacheProperties = methodcacheProperties;
 		this.dataHelper = dataHelper;
@@ -102,7 +96,7 @@ public class DeleteDataInterceptor implements MethodInterceptor {
 				if (StringUtils.isEmpty(id)) {
 					continue;
 				}
-				deleteCacheExecutorService.execute(() -> {
+				ThreadPoolBuilder.getExecutor(ThreadPoolBuilder.Purpose.DELETE).execute(() -> {
 					dataHelper.wipeCache(id, null);
 				});
 			}
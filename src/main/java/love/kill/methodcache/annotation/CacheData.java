@@ -32,6 +32,34 @@ public @interface CacheData {
 	 */
 	boolean refresh() default false;
 
+	/**
+	 * 刷新间隔(毫秒)
+	 * refresh 为 true 时生效，默认为0(L)。大于0时，同一缓存在此间隔内最多刷新一次；小于等于0时，每次命中均刷新(同一缓存同时只会有一个刷新任务)。
+	 * 使用Redis缓存时，刷新前会获取一个短期租约，同一缓存仅由一个节点刷新。
+	 *
+	 * @return 刷新间隔
+	 */
+	long refreshInterval() default 0L;
+
+	/**
+	 * 刷新阈值
+	 * 剩余有效期占比(0 ～ 1)，默认为0(D)。大于0时，缓存命中且剩余有效期不超过 有效期 * refreshThreshold 时，以异步的方式提前刷新缓存数据，
+	 * 不受 refresh 影响。如：
+	 * 		过期时间为30000毫秒(expiration=30000)，刷新阈值为0.2(refreshThreshold=0.2)，则数据缓存24000毫秒后，再次被请求时会提前刷新。
+	 *
+	 * @return 刷新阈值
+	 */
+	double refreshThreshold() default 0D;
+
+	/**
+	 * 提前刷新系数
+	 * 默认为0(D)，表示不提前刷新。大于0时，缓存命中后按概率提前以异步的方式刷新缓存数据：越接近过期时间、获取数据的耗时越长，提前刷新的概率越大，
+	 * 系数越大越早刷新，一般取1。同一缓存同时只会有一个刷新任务，通常在数据过期前平滑地刷新一次，避免数据过期时大量请求同时发起实际请求。
+	 *
+	 * @return 提前刷新系数
+	 */
+	double earlyRefreshBeta() default 0D;
+
 	/**
 	 * 数据过期时间(毫秒)
 	 * 数据将会在指定时间过期，小于0(L)表示不会过期
@@ -51,6 +79,26 @@ public @interface CacheData {
 	 */
 	long behindExpiration() default 0L;
 
+	/**
+	 * 空结果过期时间(毫秒)
+	 * nullable 为 true 时，空结果("null")的过期时间，默认为-1(L)，表示与数据过期时间相同。大于等于0时，空结果在指定时间后过期，
+	 * 不受 behindExpiration、capitalExpiration 影响。空结果不保存序列化数据，仅占用少量空间
+	 *
+	 * @return 空结果过期时间
+	 */
+	long negativeExpiration() default -1L;
+
+	/**
+	 * 旧数据有效期(毫秒)
+	 * 数据过期后仍可返回的时长，默认为0(L)。大于0时，数据过期后的 staleExpiration 毫秒内，请求直接返回旧数据，并以异步的方式刷新缓存数据
+	 * (同一缓存同时只会有一个刷新任务)；超过后与缓存未命中相同，同步发起请求。数据永久有效时不生效。如：
+	 * 		过期时间为30000毫秒(expiration=30000)，旧数据有效期为10000毫秒(staleExpiration=10000)，则数据缓存30000 ～ 40000毫秒之间被请求时，
+	 * 	返回旧数据并刷新；40000毫秒后被请求时，等待请求返回。
+	 *
+	 * @return 旧数据有效期
+	 */
+	long staleExpiration() default 0L;
+
 	/**
 	 * 过期基础时间
 	 * 设置一个日期类型，作为数据过期计算的基础时间，表示当前(秒/分钟/小时/日/月/年)下数据不失效。
@@ -89,6 +137,25 @@ public @interface CacheData {
 	 * */
 	boolean shared() default false;
 
+	/**
+	 * 统计采样率
+	 * 开启统计时生效，取值范围：[0, 1]，默认为-1(D)，表示使用全局配置(methodcache.statistics-sample-rate)。
+	 *
+	 * @return 统计采样率
+	 */
+	double statisticsSampleRate() default -1D;
+
+	/**
+	 * 批量缓存
+	 * 默认为false。为 true 时，方法的第一个集合(List、Set 或 Collection)参数作为批量参数，返回值为 Map(内容：<元素,数据>)，
+	 * 如：Map&lt;Long, User&gt; findByIds(Collection&lt;Long&gt; ids)。批量参数中的每个元素单独缓存，请求时批量查询各元素的缓存，
+	 * 仅以未命中的元素发起实际请求，合并结果后返回；返回的 Map 中不含对应数据的元素按空结果处理。
+	 * 批量缓存时不刷新数据，不记录统计信息；方法不满足条件或为异步方法时按整体缓存。
+	 *
+	 * @return 批量缓存
+	 */
+	boolean batch() default false;
+
 	/**
 	 * 备注
 	 *
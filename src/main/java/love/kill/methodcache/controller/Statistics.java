@@ -101,8 +101,12 @@ public class Statistics {
 
 	private Map<String, Map<String, Object>> transferStatistics(Map<String, CacheStatisticsModel> statistics,
 																Map<String, Map<String, Object>> targetMap){
+		Map<String, CacheStatisticsModel> localStatistics = dataHelper.getLocalStatistics();
 		for (String methodSignature : statistics.keySet()) {
 			CacheStatisticsModel statisticsModel = statistics.get(methodSignature);
+			// 滑动窗口仅记录在当前节点
+			CacheStatisticsModel localStatisticsModel = localStatistics == null ? null :
+					localStatistics.get(methodSignature);
 			Map<String, Object> statisticsInfo = new HashMap<>();
 			statisticsInfo.put("id", statisticsModel.getId());
 			statisticsInfo.put("remark", statisticsModel.getRemark());
@@ -129,6 +133,14 @@ public class Statistics {
 			statisticsInfo.put("argsOfLastException", statisticsModel.printArgsOfLastException());
 			statisticsInfo.put("stackTraceOfLastException", statisticsModel.printStackTraceOfLastException());
 			statisticsInfo.put("timeOfLastException", statisticsModel.printTimeOfLastException());
+			statisticsInfo.put("totalOfOriginalSize", statisticsModel.printTotalOfOriginalSize());
+			statisticsInfo.put("totalOfStoredSize", statisticsModel.printTotalOfStoredSize());
+			statisticsInfo.put("compressionRatio", statisticsModel.printCompressionRatio());
+			statisticsInfo.put("hitLatency", statisticsModel.getHitLatency().printPercentiles());
+			statisticsInfo.put("loadLatency", statisticsModel.getLoadLatency().printPercentiles());
+			statisticsInfo.put("overheadLatency", statisticsModel.getOverheadLatency().printPercentiles());
+			statisticsInfo.put("window", (localStatisticsModel == null ? statisticsModel : localStatisticsModel)
+					.getWindow().printWindows());
 			targetMap.put(methodSignature, statisticsInfo);
 		}
 
@@ -0,0 +1,266 @@
+package love.kill.methodcache.datahelper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+
+/**
+ * 缓存数据头
+ * 缓存数据以"数据头 + (序列化后的)数据"的形式保存，数据头为定长文本，判断过期、匹配缓存时只需读取数据头，无需反序列化数据
+ *
+ * 数据头格式(十六进制)：MC1 + 标识(2) + 过期时间(16) + 缓存时间(16) + 数据大小(16) + 缓存哈希值(8) + 缓存ID哈希值(8)
+ * 空结果(负缓存)的数据部分不含序列化数据，仅为以","分隔的元信息(应用名、方法签名、入参、缓存ID、备注，Base64编码)
+ *
+ * @author Lycop
+ */
+public class CacheDataHeader {
+
+	/**
+	 * 数据头标识
+	 * 序列化后的数据(Base64)以"rO0"(未压缩)或"H"(压缩)开头，不会与此标识冲突，因此可以兼容不含数据头的数据
+	 */
+	private static final String MAGIC = "MC1";
+
+	/**
+	 * 数据头长度
+	 */
+	public static final int HEADER_LENGTH = MAGIC.length() + 2 + 16 + 16 + 16 + 8 + 8;
+
+	/**
+	 * 缓存时间在数据头中的起始位置
+	 */
+	public static final int CACHE_TIME_OFFSET = MAGIC.length() + 2 + 16;
+
+	/**
+	 * 缓存时间在数据头中的长度
+	 */
+	public static final int CACHE_TIME_LENGTH = 16;
+
+	/**
+	 * 标识：数据已压缩
+	 */
+	public static final int FLAG_COMPRESSED = 0x01;
+
+	/**
+	 * 标识：数据为空
+	 */
+	public static final int FLAG_NULL = 0x02;
+
+	/**
+	 * 标识：空结果，数据部分仅包含元信息
+	 */
+	public static final int FLAG_NEGATIVE = 0x04;
+
+	/**
+	 * 空结果元信息的分隔符
+	 */
+	private static final String NEGATIVE_SEPARATOR = ",";
+
+	/**
+	 * 空结果元信息个数
+	 */
+	private static final int NEGATIVE_FIELD_COUNT = 5;
+
+	/**
+	 * 标识
+	 */
+	private final int flags;
+
+	/**
+	 * 过期时间（时间戳）
+	 * -1 代表永久有效
+	 */
+	private final long expireTime;
+
+	/**
+	 * 缓存时间
+	 */
+	private final long cacheTime;
+
+	/**
+	 * 数据大小
+	 */
+	private final long instanceSize;
+
+	/**
+	 * 缓存哈希值
+	 */
+	private final int cacheHashCode;
+
+	/**
+	 * 缓存ID哈希值
+	 */
+	private final int idHashCode;
+
+	private CacheDataHeader(int flags, long expireTime, long cacheTime, long instanceSize, int cacheHashCode,
+							int idHashCode) {
+		this.flags = flags;
+		this.expireTime = expireTime;
+		this.cacheTime = cacheTime;
+		this.instanceSize = instanceSize;
+		this.cacheHashCode = cacheHashCode;
+		this.idHashCode = idHashCode;
+	}
+
+	/**
+	 * 构建数据头
+	 *
+	 * @param cacheDataModel 缓存数据
+	 * @param flags          标识
+	 * @return 数据头
+	 */
+	public static String encode(CacheDataModel cacheDataModel, int flags) {
+		return MAGIC + String.format("%02x%016x%016x%016x%08x%08x", flags & 0xFF, cacheDataModel.getExpireTime(),
+				cacheDataModel.getCacheTime(), cacheDataModel.getInstanceSize(), cacheDataModel.getCacheHashCode(),
+				idHashCode(cacheDataModel.getId()));
+	}
+
+	/**
+	 * 解析数据头
+	 *
+	 * @param value 缓存数据(或其前 HEADER_LENGTH 个字符)
+	 * @return 数据头，不含数据头时返回null
+	 */
+	public static CacheDataHeader parse(String value) {
+		if (value == null || value.length() < HEADER_LENGTH || !value.startsWith(MAGIC)) {
+			return null;
+		}
+
+		try {
+			int index = MAGIC.length();
+			int flags = Integer.parseInt(value.substring(index, index += 2), 16);
+			long expireTime = Long.parseUnsignedLong(value.substring(index, index += 16), 16);
+			long cacheTime = Long.parseUnsignedLong(value.substring(index, index += 16), 16);
+			long instanceSize = Long.parseUnsignedLong(value.substring(index, index += 16), 16);
+			int cacheHashCode = Integer.parseUnsignedInt(value.substring(index, index += 8), 16);
+			int idHashCode = Integer.parseUnsignedInt(value.substring(index, index + 8), 16);
+			return new CacheDataHeader(flags, expireTime, cacheTime, instanceSize, cacheHashCode, idHashCode);
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * 构建空结果缓存数据
+	 * 数据大小按缓存数据的文本长度计算，无需序列化
+	 *
+	 * @param cacheDataModel 缓存数据(空结果)
+	 * @return 数据头 + 元信息
+	 */
+	public static String encodeNegative(CacheDataModel cacheDataModel) {
+		String payload = encodeField(cacheDataModel.getApplicationName()) + NEGATIVE_SEPARATOR +
+				encodeField(cacheDataModel.getMethodSignature()) + NEGATIVE_SEPARATOR +
+				encodeField(cacheDataModel.getArgs()) + NEGATIVE_SEPARATOR +
+				encodeField(cacheDataModel.getId()) + NEGATIVE_SEPARATOR +
+				encodeField(cacheDataModel.getRemark());
+		cacheDataModel.setInstanceSize((HEADER_LENGTH + payload.length()) * 2L);
+		return encode(cacheDataModel, FLAG_NULL | FLAG_NEGATIVE) + payload;
+	}
+
+	/**
+	 * 解析空结果缓存数据
+	 *
+	 * @param value 缓存数据
+	 * @return 缓存数据(空结果)，不是空结果时返回null
+	 */
+	public static CacheDataModel decodeNegative(String value) {
+		CacheDataHeader header = parse(value);
+		if (header == null || !header.hasFlag(FLAG_NEGATIVE)) {
+			return null;
+		}
+
+		String[] fields = value.substring(HEADER_LENGTH).split(NEGATIVE_SEPARATOR, -1);
+		if (fields.length < NEGATIVE_FIELD_COUNT) {
+			return null;
+		}
+
+		CacheDataModel cacheDataModel = new CacheDataModel(decodeField(fields[0]), decodeField(fields[1]),
+				decodeField(fields[2]), header.getCacheHashCode(), DataHelper.NullObject.INSTANCE,
+				header.getExpireTime());
+		cacheDataModel.setCacheTime(header.getCacheTime());
+		cacheDataModel.setId(decodeField(fields[3]));
+		cacheDataModel.setRemark(decodeField(fields[4]));
+		cacheDataModel.setInstanceSize(header.getInstanceSize());
+		return cacheDataModel;
+	}
+
+	/**
+	 * 是否为空结果缓存数据
+	 * 仅读取数据头
+	 *
+	 * @param value 缓存数据
+	 * @return 空结果
+	 */
+	public static boolean isNegative(String value) {
+		CacheDataHeader header = parse(value);
+		return header != null && header.hasFlag(FLAG_NEGATIVE);
+	}
+
+	/**
+	 * 数据头标识
+	 *
+	 * @return 数据头标识
+	 */
+	public static String magic() {
+		return MAGIC;
+	}
+
+	/**
+	 * 获取数据部分
+	 *
+	 * @param value 缓存数据
+	 * @return (序列化后的)数据，不含数据头时返回原值
+	 */
+	public static String payload(String value) {
+		if (value != null && value.length() >= HEADER_LENGTH && value.startsWith(MAGIC)) {
+			return value.substring(HEADER_LENGTH);
+		}
+		return value;
+	}
+
+	/**
+	 * 缓存ID哈希值
+	 *
+	 * @param id 缓存ID
+	 * @return 哈希值
+	 */
+	public static int idHashCode(String id) {
+		return id == null ? 0 : id.hashCode();
+	}
+
+	private static String encodeField(String field) {
+		return field == null ? "" : Base64.getEncoder().encodeToString(field.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static String decodeField(String field) {
+		return field.isEmpty() ? null : new String(Base64.getDecoder().decode(field), StandardCharsets.UTF_8);
+	}
+
+	public boolean hasFlag(int flag) {
+		return (flags & flag) != 0;
+	}
+
+	public long getExpireTime() {
+		return expireTime;
+	}
+
+	public long getCacheTime() {
+		return cacheTime;
+	}
+
+	public long getInstanceSize() {
+		return instanceSize;
+	}
+
+	public int getCacheHashCode() {
+		return cacheHashCode;
+	}
+
+	public int getIdHashCode() {
+		return idHashCode;
+	}
+
+	public boolean isExpired() {
+		return expireTime >= 0L && new Date().getTime() >= expireTime;
+	}
+}
@@ -53,6 +53,17 @@ public class CacheDataModel implements Serializable {
 	 */
 	private long expireTime;
 
+	/**
+	 * 数据变旧时间（时间戳）
+	 * 超过此时间后数据仍可返回，但需要刷新；0 代表不返回旧数据
+	 */
+	private long staleTime;
+
+	/**
+	 * 获取数据的耗时(毫秒)
+	 */
+	private long loadSpend;
+
 	/**
 	 * 备注
 	 */
@@ -105,10 +116,19 @@ public class CacheDataModel implements Serializable {
 	}
 
 
+	public boolean isNullData() {
+		return data instanceof DataHelper.NullObject;
+	}
+
+
 	public long getCacheTime(){
 		return cacheTime;
 	}
 
+	public void setCacheTime(long cacheTime) {
+		this.cacheTime = cacheTime;
+	}
+
 	public String getFormatCacheTime() {
 		return formatDate(cacheTime);
 	}
@@ -121,6 +141,45 @@ public class CacheDataModel implements Serializable {
 		return formatDate(expireTime);
 	}
 
+	public long getStaleTime() {
+		return staleTime;
+	}
+
+	public String getFormatStaleTime() {
+		return formatDate(staleTime);
+	}
+
+	/**
+	 * 设置旧数据有效期
+	 * 原过期时间作为数据变旧时间，过期时间顺延 staleExpiration；数据永久有效或为空结果时不生效
+	 *
+	 * @param staleExpiration 旧数据有效期(毫秒)
+	 */
+	public synchronized void setStaleExpiration(long staleExpiration) {
+		if (staleExpiration > 0L && expireTime >= 0L && !isNullData()) {
+			this.staleTime = expireTime;
+			this.expireTime = expireTime + staleExpiration;
+		}
+	}
+
+	public long getLoadSpend() {
+		return loadSpend;
+	}
+
+	public void setLoadSpend(long loadSpend) {
+		this.loadSpend = loadSpend;
+	}
+
+	/**
+	 * 数据是否已变旧
+	 * 变旧的数据仍可返回，但需要刷新
+	 *
+	 * @return 已变旧
+	 */
+	public synchronized boolean isStale() {
+		return staleTime > 0L && new Date().getTime() >= staleTime;
+	}
+
 
 	public synchronized boolean isExpired() {
 		return expireTime >= 0L && new Date().getTime() >= expireTime;
@@ -163,6 +222,7 @@ public class CacheDataModel implements Serializable {
 				", data=" + data +
 				", cacheTime=" + formatDate(cacheTime) +
 				", expireTime=" + formatDate(expireTime) +
+				", staleTime=" + (staleTime > 0L ? formatDate(staleTime) : "") +
 				", remark=" + remark +
 				", id=" + id +
 				", instanceSize=" + instanceSize +
@@ -178,6 +238,7 @@ public class CacheDataModel implements Serializable {
 	}
 
 	private void refreshInstanceSize() {
-		this.instanceSize = RamUsageEstimator.sizeOf(this);
+		// 空结果的数据大小在保存时按文本长度计算
+		this.instanceSize = isNullData() ? 0L : RamUsageEstimator.sizeOf(this);
 	}
 }
@@ -0,0 +1,64 @@
+package love.kill.methodcache.datahelper;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 缓存事件计数
+ * 记录淘汰、过期、等待锁等与方法无关的缓存事件，供监控指标读取
+ *
+ * @author Lycop
+ */
+public final class CacheMetrics {
+
+	/**
+	 * 淘汰(容量或内存不足时移除)次数
+	 */
+	private static final LongAdder evictions = new LongAdder();
+
+	/**
+	 * 过期移除次数
+	 */
+	private static final LongAdder expirations = new LongAdder();
+
+	/**
+	 * 等待锁次数
+	 */
+	private static final LongAdder lockWaits = new LongAdder();
+
+	/**
+	 * 累计等待锁耗时(纳秒)
+	 */
+	private static final LongAdder lockWaitNanos = new LongAdder();
+
+	private CacheMetrics() {
+	}
+
+	public static void recordEviction(long count) {
+		evictions.add(count);
+	}
+
+	public static void recordExpiration(long count) {
+		expirations.add(count);
+	}
+
+	public static void recordLockWait(long nanos) {
+		lockWaits.increment();
+		lockWaitNanos.add(nanos);
+	}
+
+	public static long getEvictions() {
+		return evictions.sum();
+	}
+
+	public static long getExpirations() {
+		return expirations.sum();
+	}
+
+	public static long getLockWaits() {
+		return lockWaits.sum();
+	}
+
+	public static long getLockWaitNanos() {
+		return lockWaitNanos.sum();
+	}
+}
@@ -5,9 +5,12 @@ import java.math.BigDecimal;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * 缓存统计
+ * 计数使用 LongAdder 累加，最小/最大耗时及最后一次异常使用 CAS 更新，可在请求线程中直接记录，无需加锁
  *
  * @author Lycop
  */
@@ -45,102 +48,84 @@ public class CacheStatisticsModel implements Serializable {
 	/**
 	 * 命中次数
 	 */
-	private volatile int hit = -1;
+	private final LongAdder hit = new LongAdder();
 
 	/**
 	 * 累计命中耗时
 	 */
-	private volatile long totalOfHitSpend = -1L;
+	private final LongAdder totalOfHitSpend = new LongAdder();
 
 	/**
 	 * 命中时最小耗时
 	 */
-	private long minHitSpend = -1L;
-
-	/**
-	 * 命中时最小耗时发生时间(时间戳，毫秒)
-	 */
-	private long timeOfMinHitSpend = -1L;
-
-	/**
-	 * 命中时最小耗时入参
-	 */
-	private String argsOfMinHitSpend = "";
+	private final AtomicReference<SpendRecord> minHitSpend = new AtomicReference<>();
 
 	/**
 	 * 命中时最大耗时
 	 */
-	private long maxHitSpend = -1L;
-
-	/**
-	 * 命中时最大耗时发生时间(时间戳，毫秒)
-	 */
-	private long timeOfMaxHitSpend = -1L;
-
-	/**
-	 * 命中时最大耗时入参
-	 */
-	private String argsOfMaxHitSpend = "";
+	private final AtomicReference<SpendRecord> maxHitSpend = new AtomicReference<>();
 
 	/**
 	 * 未命中次数
 	 */
-	private volatile int failure = -1;
+	private final LongAdder failure = new LongAdder();
 
 	/**
 	 * 累计未命中耗时
 	 */
-	private long totalOfFailureSpend = -1L;
+	private final LongAdder totalOfFailureSpend = new LongAdder();
 
 	/**
 	 * 未命中时最小耗时
 	 */
-	private long minFailureSpend = -1L;
+	private final AtomicReference<SpendRecord> minFailureSpend = new AtomicReference<>();
 
 	/**
-	 * 未命中时最小耗时发生时间(时间戳，毫秒)
+	 * 未命中时最大耗时
 	 */
-	private long timeOfMinFailureSpend = -1;
+	private final AtomicReference<SpendRecord> maxFailureSpend = new AtomicReference<>();
 
 	/**
-	 * 未命中时最小耗时入参
+	 * 异常次数
 	 */
-	private String argsOfMinFailureSpend = "";
+	private final LongAdder exception = new LongAdder();
 
 	/**
-	 * 未命中时最大耗时
+	 * 最后一次异常
 	 */
-	private long maxFailureSpend = -1L;
+	private final AtomicReference<ExceptionRecord> lastException = new AtomicReference<>();
 
 	/**
-	 * 未命中时最大耗时发生时间(时间戳，毫秒)
+	 * 累计写入数据的原始大小(字节)
 	 */
-	private long timeOfMaxFailureSpend = -1L;
+	private final LongAdder totalOfOriginalSize = new LongAdder();
 
 	/**
-	 * 未命中时最小耗时入参
+	 * 累计写入数据的实际存储大小(字节)
 	 */
-	private String argsOfMaxFailureSpend = "";
+	private final LongAdder totalOfStoredSize = new LongAdder();
 
 	/**
-	 * 异常次数
+	 * 命中耗时分布
 	 */
-	private volatile int exception = -1;
+	private final LatencyHistogram hitLatency = new LatencyHistogram();
 
 	/**
-	 * 最后一次异常发生时间(时间戳，毫秒)
+	 * 加载(发起实际请求)耗时分布
 	 */
-	private long timeOfLastException = -1L;
+	private final LatencyHistogram loadLatency = new LatencyHistogram();
 
 	/**
-	 * 最后一次发生异常的入参
+	 * 缓存开销耗时分布
+	 * 命中时为请求耗时，未命中时为请求耗时减去加载耗时
 	 */
-	private String argsOfLastException = "";
+	private final LatencyHistogram overheadLatency = new LatencyHistogram();
 
 	/**
-	 * 最后一次发生异常的信息
+	 * 滑动窗口统计(最近1分钟、5分钟、15分钟)
+	 * 仅记录在当前节点，不参与增量汇总
 	 */
-	private String stackTraceOfLastException = "";
+	private final SlidingWindow window = new SlidingWindow();
 
 
 	public CacheStatisticsModel(String cacheKey, String methodSignature, int methodSignatureHashCode, String id,
@@ -173,7 +158,7 @@ public class CacheStatisticsModel implements Serializable {
 	}
 
 	public int getHit() {
-		return this.hit == -1 ? 0 : this.hit;
+		return hit.intValue();
 	}
 
 	public String printHit() {
@@ -181,30 +166,27 @@ public class CacheStatisticsModel implements Serializable {
 	}
 
 	public long getTotalOfHitSpend() {
-		return this.totalOfHitSpend == -1L ? 0 : this.totalOfHitSpend;
+		return totalOfHitSpend.sum();
 	}
 
 	public String printTotalOfHitSpend() {
-		if (this.totalOfHitSpend == -1L) {
+		if (getHit() == 0) {
 			return "";
 		}
-		return String.valueOf(this.totalOfHitSpend);
+		return String.valueOf(getTotalOfHitSpend());
 	}
 
 	public void incrementHit(long spend) {
-		this.hit = getHit() + 1;
-		this.totalOfHitSpend = getTotalOfHitSpend() + spend;
+		incrementHit(1, spend);
+	}
 
+	public void incrementHit(int times, long spend) {
+		this.hit.add(times);
+		this.totalOfHitSpend.add(spend);
 	}
 
 	public long getAvgOfHitSpend() {
-		if (hit == -1 || totalOfHitSpend == -1L) {
-			return -1L;
-		}
-		if (hit == 0) {
-			return 0;
-		}
-		return new BigDecimal(totalOfHitSpend).divide(new BigDecimal(hit), 0, BigDecimal.ROUND_HALF_UP).longValue();
+		return avg(getTotalOfHitSpend(), getHit());
 	}
 
 	public String printAvgOfHitSpend() {
@@ -214,60 +196,70 @@ public class CacheStatisticsModel implements Serializable {
 		return String.valueOf(getAvgOfHitSpend());
 	}
 
+	public long getMinHitSpend() {
+		return SpendRecord.spend(minHitSpend.get());
+	}
+
+	public long getTimeOfMinHitSpend() {
+		return SpendRecord.time(minHitSpend.get());
+	}
+
+	public String getArgsOfMinHitSpend() {
+		return SpendRecord.args(minHitSpend.get());
+	}
+
+	public long getMaxHitSpend() {
+		return SpendRecord.spend(maxHitSpend.get());
+	}
+
+	public long getTimeOfMaxHitSpend() {
+		return SpendRecord.time(maxHitSpend.get());
+	}
+
+	public String getArgsOfMaxHitSpend() {
+		return SpendRecord.args(maxHitSpend.get());
+	}
+
 	public String printMinHitSpend() {
-		if (this.minHitSpend == -1L) {
+		if (getMinHitSpend() == -1L) {
 			return "";
 		}
-		return String.valueOf(this.minHitSpend);
+		return String.valueOf(getMinHitSpend());
 	}
 
 	public void setMinHitSpend(long minHitSpend, long timeOfMinHitSpend, String args) {
-		if (this.minHitSpend == -1L || this.minHitSpend > minHitSpend) {
-			this.minHitSpend = minHitSpend;
-			this.timeOfMinHitSpend = timeOfMinHitSpend;
-			this.argsOfMinHitSpend = args;
-		}
+		accumulate(this.minHitSpend, minHitSpend, timeOfMinHitSpend, args, true);
 	}
 
 	public String printTimeOfMinHitSpend() {
-		if (this.timeOfMinHitSpend == -1L) {
-			return "";
-		}
-		return outPrintSimpleDateFormat.format(new Date(this.timeOfMinHitSpend));
+		return printTime(getTimeOfMinHitSpend());
 	}
 
 	public String printArgsOfMinHitSpend() {
-		return Objects.toString(this.argsOfMinHitSpend);
+		return Objects.toString(getArgsOfMinHitSpend());
 	}
 
 	public String printMaxHitSpend() {
-		if (this.maxHitSpend == -1L) {
+		if (getMaxHitSpend() == -1L) {
 			return "";
 		}
-		return String.valueOf(this.maxHitSpend);
+		return String.valueOf(getMaxHitSpend());
 	}
 
 	public void setMaxHitSpend(long maxHitSpend, long timeOfMaxHitSpend, String args) {
-		if (this.maxHitSpend == -1L || this.maxHitSpend < maxHitSpend) {
-			this.maxHitSpend = maxHitSpend;
-			this.timeOfMaxHitSpend = timeOfMaxHitSpend;
-			this.argsOfMaxHitSpend = args;
-		}
+		accumulate(this.maxHitSpend, maxHitSpend, timeOfMaxHitSpend, args, false);
 	}
 
 	public String printTimeOfMaxHitSpend() {
-		if (this.timeOfMaxHitSpend == -1L) {
-			return "";
-		}
-		return outPrintSimpleDateFormat.format(new Date(this.timeOfMaxHitSpend));
+		return printTime(getTimeOfMaxHitSpend());
 	}
 
 	public String printArgsOfMaxHitSpend() {
-		return Objects.toString(argsOfMaxHitSpend);
+		return Objects.toString(getArgsOfMaxHitSpend());
 	}
 
 	public int getFailure() {
-		return this.failure == -1 ? 0 : this.failure;
+		return failure.intValue();
 	}
 
 	public String printFailure() {
@@ -275,29 +267,27 @@ public class CacheStatisticsModel implements Serializable {
 	}
 
 	public long getTotalOfFailureSpend() {
-		return this.totalOfFailureSpend == -1L ? 0 : this.totalOfFailureSpend;
+		return totalOfFailureSpend.sum();
 	}
 
 	public String printTotalOfFailureSpend() {
-		if (this.totalOfFailureSpend == -1L) {
+		if (getFailure() == 0) {
 			return "";
 		}
-		return String.valueOf(this.totalOfFailureSpend);
+		return String.valueOf(getTotalOfFailureSpend());
 	}
 
 	public void incrementFailure(long spend) {
-		this.failure = getFailure() + 1;
-		this.totalOfFailureSpend = getTotalOfFailureSpend() + spend;
+		incrementFailure(1, spend);
+	}
+
+	public void incrementFailure(int times, long spend) {
+		this.failure.add(times);
+		this.totalOfFailureSpend.add(spend);
 	}
 
 	public long getAvgOfFailureSpend() {
-		if (this.failure == -1 || this.totalOfFailureSpend == -1L) {
-			return -1L;
-		}
-		if (this.failure == 0) {
-			return 0;
-		}
-		return new BigDecimal(this.totalOfFailureSpend).divide(new BigDecimal(this.failure), 0, BigDecimal.ROUND_HALF_UP).longValue();
+		return avg(getTotalOfFailureSpend(), getFailure());
 	}
 
 	public String printAvgOfFailureSpend() {
@@ -307,56 +297,66 @@ public class CacheStatisticsModel implements Serializable {
 		return String.valueOf(getAvgOfFailureSpend());
 	}
 
+	public long getMinFailureSpend() {
+		return SpendRecord.spend(minFailureSpend.get());
+	}
+
+	public long getTimeOfMinFailureSpend() {
+		return SpendRecord.time(minFailureSpend.get());
+	}
+
+	public String getArgsOfMinFailureSpend() {
+		return SpendRecord.args(minFailureSpend.get());
+	}
+
+	public long getMaxFailureSpend() {
+		return SpendRecord.spend(maxFailureSpend.get());
+	}
+
+	public long getTimeOfMaxFailureSpend() {
+		return SpendRecord.time(maxFailureSpend.get());
+	}
+
+	public String getArgsOfMaxFailureSpend() {
+		return SpendRecord.args(maxFailureSpend.get());
+	}
+
 	public String printMinFailureSpend() {
-		if (this.minFailureSpend == -1L) {
+		if (getMinFailureSpend() == -1L) {
 			return "";
 		}
-		return String.valueOf(this.minFailureSpend);
+		return String.valueOf(getMinFailureSpend());
 	}
 
 	public void setMinFailureSpend(long minFailureSpend, long timeOfMinFailureSpend, String args) {
-		if (this.minFailureSpend == -1L || this.minFailureSpend > minFailureSpend) {
-			this.minFailureSpend = minFailureSpend;
-			this.timeOfMinFailureSpend = timeOfMinFailureSpend;
-			this.argsOfMinFailureSpend = args;
-		}
+		accumulate(this.minFailureSpend, minFailureSpend, timeOfMinFailureSpend, args, true);
 	}
 
 	public String printTimeOfMinFailureSpend() {
-		if (this.timeOfMinFailureSpend == -1L) {
-			return "";
-		}
-		return outPrintSimpleDateFormat.format(new Date(this.timeOfMinFailureSpend));
+		return printTime(getTimeOfMinFailureSpend());
 	}
 
 	public String printArgsOfMinFailureSpend() {
-		return Objects.toString(argsOfMinFailureSpend);
+		return Objects.toString(getArgsOfMinFailureSpend());
 	}
 
 	public String printMaxFailureSpend() {
-		if (this.maxFailureSpend == -1) {
+		if (getMaxFailureSpend() == -1L) {
 			return "";
 		}
-		return String.valueOf(this.maxFailureSpend);
+		return String.valueOf(getMaxFailureSpend());
 	}
 
 	public void setMaxFailureSpend(long maxFailureSpend, long timeOfMaxFailureSpend, String args) {
-		if (this.maxFailureSpend < maxFailureSpend) {
-			this.maxFailureSpend = maxFailureSpend;
-			this.timeOfMaxFailureSpend = timeOfMaxFailureSpend;
-			this.argsOfMaxFailureSpend = args;
-		}
+		accumulate(this.maxFailureSpend, maxFailureSpend, timeOfMaxFailureSpend, args, false);
 	}
 
 	public String printTimeOfMaxFailureSpend() {
-		if (this.timeOfMaxFailureSpend == -1L) {
-			return "";
-		}
-		return outPrintSimpleDateFormat.format(new Date(this.timeOfMaxFailureSpend));
+		return printTime(getTimeOfMaxFailureSpend());
 	}
 
 	public String printArgsOfMaxFailureSpend() {
-		return Objects.toString(argsOfMaxFailureSpend);
+		return Objects.toString(getArgsOfMaxFailureSpend());
 	}
 
 	public int getTimes() {
@@ -368,7 +368,7 @@ public class CacheStatisticsModel implements Serializable {
 	}
 
 	public int getException() {
-		return this.exception == -1 ? 0 : this.exception;
+		return exception.intValue();
 	}
 
 	public String printException() {
@@ -377,25 +377,261 @@ public class CacheStatisticsModel implements Serializable {
 
 
 	public void incrementTimesOfException(String args, String stackTrace, long time) {
-		this.exception = getException() + 1;
-		this.argsOfLastException = args;
-		this.stackTraceOfLastException = stackTrace;
-		this.timeOfLastException = time;
+		incrementTimesOfException(1, args, stackTrace, time);
+	}
+
+	public void incrementTimesOfException(int times, String args, String stackTrace, long time) {
+		this.exception.add(times);
+
+		ExceptionRecord current = lastException.get();
+		ExceptionRecord record = null;
+		while (current == null || current.time <= time) {
+			if (record == null) {
+				record = new ExceptionRecord(time, args, stackTrace);
+			}
+			if (lastException.compareAndSet(current, record)) {
+				return;
+			}
+			current = lastException.get();
+		}
+	}
+
+	public long getTimeOfLastException() {
+		ExceptionRecord record = lastException.get();
+		return record == null ? -1L : record.time;
+	}
+
+	public String getArgsOfLastException() {
+		ExceptionRecord record = lastException.get();
+		return record == null ? "" : record.args;
+	}
+
+	public String getStackTraceOfLastException() {
+		ExceptionRecord record = lastException.get();
+		return record == null ? "" : record.stackTrace;
 	}
 
 	public String printArgsOfLastException() {
-		return Objects.toString(this.argsOfLastException);
+		return Objects.toString(getArgsOfLastException());
 	}
 
 	public String printStackTraceOfLastException() {
-		return this.stackTraceOfLastException;
+		return getStackTraceOfLastException();
 	}
 
 	public String printTimeOfLastException() {
-		if (this.timeOfLastException == -1L) {
+		return printTime(getTimeOfLastException());
+	}
+
+	public long getTotalOfOriginalSize() {
+		return totalOfOriginalSize.sum();
+	}
+
+	public long getTotalOfStoredSize() {
+		return totalOfStoredSize.sum();
+	}
+
+	public void incrementStoredSize(long originalSize, long storedSize) {
+		this.totalOfOriginalSize.add(originalSize);
+		this.totalOfStoredSize.add(storedSize);
+	}
+
+	public String printTotalOfOriginalSize() {
+		return String.valueOf(getTotalOfOriginalSize());
+	}
+
+	public String printTotalOfStoredSize() {
+		return String.valueOf(getTotalOfStoredSize());
+	}
+
+	public LatencyHistogram getHitLatency() {
+		return hitLatency;
+	}
+
+	public LatencyHistogram getLoadLatency() {
+		return loadLatency;
+	}
+
+	public LatencyHistogram getOverheadLatency() {
+		return overheadLatency;
+	}
+
+	public SlidingWindow getWindow() {
+		return window;
+	}
+
+	/**
+	 * 压缩率
+	 * 实际存储大小 / 原始大小
+	 */
+	public String printCompressionRatio() {
+		long totalOfOriginalSize = getTotalOfOriginalSize();
+		if (totalOfOriginalSize <= 0L) {
 			return "";
 		}
-		return outPrintSimpleDateFormat.format(new Date(this.timeOfLastException));
+		return new BigDecimal(getTotalOfStoredSize()).divide(new BigDecimal(totalOfOriginalSize), 4,
+				BigDecimal.ROUND_HALF_UP).toPlainString();
+	}
+
+	/**
+	 * 相对于上一次快照的增量
+	 * 计数为差值，最小/最大耗时及最后一次异常取当前值。previous 为null时返回当前统计的快照
+	 *
+	 * @param previous 上一次快照
+	 * @return 增量
+	 */
+	public CacheStatisticsModel delta(CacheStatisticsModel previous) {
+		CacheStatisticsModel delta = new CacheStatisticsModel(cacheKey, methodSignature, methodSignatureHashCode, id,
+				remark);
+		if (previous == null) {
+			previous = new CacheStatisticsModel(cacheKey, methodSignature, methodSignatureHashCode, id, remark);
+		}
+		delta.incrementHit(getHit() - previous.getHit(), getTotalOfHitSpend() - previous.getTotalOfHitSpend());
+		delta.incrementFailure(getFailure() - previous.getFailure(),
+				getTotalOfFailureSpend() - previous.getTotalOfFailureSpend());
+		delta.exception.add(getException() - previous.getException());
+		delta.incrementStoredSize(getTotalOfOriginalSize() - previous.getTotalOfOriginalSize(),
+				getTotalOfStoredSize() - previous.getTotalOfStoredSize());
+		delta.minHitSpend.set(minHitSpend.get());
+		delta.maxHitSpend.set(maxHitSpend.get());
+		delta.minFailureSpend.set(minFailureSpend.get());
+		delta.maxFailureSpend.set(maxFailureSpend.get());
+		delta.lastException.set(lastException.get());
+		delta.hitLatency.merge(hitLatency.delta(previous.hitLatency));
+		delta.loadLatency.merge(loadLatency.delta(previous.loadLatency));
+		delta.overheadLatency.merge(overheadLatency.delta(previous.overheadLatency));
+		return delta;
+	}
+
+	/**
+	 * 是否没有统计数据
+	 *
+	 * @return 没有统计数据
+	 */
+	public boolean isEmpty() {
+		return getTimes() == 0 && getException() == 0 && getTotalOfOriginalSize() == 0L;
+	}
+
+	/**
+	 * 平均耗时
+	 *
+	 * @param totalSpend 累计耗时
+	 * @param times      次数
+	 * @return 平均耗时，没有记录时返回-1
+	 */
+	private static long avg(long totalSpend, int times) {
+		if (times == 0) {
+			return -1L;
+		}
+		return new BigDecimal(totalSpend).divide(new BigDecimal(times), 0, BigDecimal.ROUND_HALF_UP).longValue();
+	}
+
+	/**
+	 * 更新最小/最大耗时
+	 * 仅当新的耗时更优时替换
+	 *
+	 * @param reference 耗时记录
+	 * @param spend     耗时
+	 * @param time      发生时间
+	 * @param args      入参
+	 * @param min       最小耗时
+	 */
+	private static void accumulate(AtomicReference<SpendRecord> reference, long spend, long time, String args,
+								   boolean min) {
+		if (spend < 0L) {
+			return;
+		}
+
+		SpendRecord current = reference.get();
+		SpendRecord record = null;
+		while (current == null || (min ? current.spend > spend : current.spend < spend)) {
+			if (record == null) {
+				record = new SpendRecord(spend, time, args);
+			}
+			if (reference.compareAndSet(current, record)) {
+				return;
+			}
+			current = reference.get();
+		}
+	}
+
+	private static String printTime(long time) {
+		if (time == -1L) {
+			return "";
+		}
+		synchronized (outPrintSimpleDateFormat) {
+			return outPrintSimpleDateFormat.format(new Date(time));
+		}
+	}
+
+	/**
+	 * 耗时记录
+	 */
+	private static class SpendRecord implements Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * 耗时
+		 */
+		private final long spend;
+
+		/**
+		 * 发生时间(时间戳，毫秒)
+		 */
+		private final long time;
+
+		/**
+		 * 入参
+		 */
+		private final String args;
+
+		private SpendRecord(long spend, long time, String args) {
+			this.spend = spend;
+			this.time = time;
+			this.args = args;
+		}
+
+		private static long spend(SpendRecord record) {
+			return record == null ? -1L : record.spend;
+		}
+
+		private static long time(SpendRecord record) {
+			return record == null ? -1L : record.time;
+		}
+
+		private static String args(SpendRecord record) {
+			return record == null ? "" : record.args;
+		}
+	}
+
+	/**
+	 * 异常记录
+	 */
+	private static class ExceptionRecord implements Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * 发生时间(时间戳，毫秒)
+		 */
+		private final long time;
+
+		/**
+		 * 入参
+		 */
+		private final String args;
+
+		/**
+		 * 异常信息
+		 */
+		private final String stackTrace;
+
+		private ExceptionRecord(long time, String args, String stackTrace) {
+			this.time = time;
+			this.args = args;
+			this.stackTrace = stackTrace;
+		}
 	}
 
 	@Override
@@ -408,21 +644,23 @@ public class CacheStatisticsModel implements Serializable {
 				", hit=" + printHit() +
 				", avgOfHitSpend=" + getAvgOfHitSpend() +
 				", totalOfHitSpend=" + getTotalOfHitSpend() +
-				", minHitSpend=" + minHitSpend +
-				", timeOfMinHitSpend=" + timeOfMinHitSpend +
-				", maxHitSpend=" + maxHitSpend +
-				", timeOfMaxHitSpend=" + timeOfMaxHitSpend +
-				", failure=" + failure +
+				", minHitSpend=" + getMinHitSpend() +
+				", timeOfMinHitSpend=" + getTimeOfMinHitSpend() +
+				", maxHitSpend=" + getMaxHitSpend() +
+				", timeOfMaxHitSpend=" + getTimeOfMaxHitSpend() +
+				", failure=" + getFailure() +
 				", avgOfFailureSpend=" + getAvgOfFailureSpend() +
 				", totalOfFailureSpend=" + getTotalOfFailureSpend() +
-				", minFailureSpend=" + minFailureSpend +
-				", timeOfMinFailureSpend=" + timeOfMinFailureSpend +
-				", maxFailureSpend=" + maxFailureSpend +
-				", timeOfMaxFailureSpend=" + timeOfMaxFailureSpend +
-				", exception=" + exception +
-				", argsOfLastException=" + argsOfLastException +
-				", stackTraceOfLastException=" + stackTraceOfLastException +
-				", timeOfLastException=" + timeOfLastException +
+				", minFailureSpend=" + getMinFailureSpend() +
+				", timeOfMinFailureSpend=" + getTimeOfMinFailureSpend() +
+				", maxFailureSpend=" + getMaxFailureSpend() +
+				", timeOfMaxFailureSpend=" + getTimeOfMaxFailureSpend() +
+				", exception=" + getException() +
+				", argsOfLastException=" + getArgsOfLastException() +
+				", stackTraceOfLastException=" + getStackTraceOfLastException() +
+				", timeOfLastException=" + getTimeOfLastException() +
+				", totalOfOriginalSize=" + getTotalOfOriginalSize() +
+				", totalOfStoredSize=" + getTotalOfStoredSize() +
 				'}';
 	}
 }
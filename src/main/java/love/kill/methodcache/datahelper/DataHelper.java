@@ -5,12 +5,10 @@ import love.kill.methodcache.util.ThreadPoolBuilder;
 import org.springframework.util.StringUtils;
 
 import java.io.Serializable;
-import java.lang.ref.WeakReference;
 import java.lang.reflect.Method;
 import java.text.SimpleDateFormat;
 import java.util.*;
 import java.util.concurrent.*;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
  * 数据缓存
@@ -34,31 +32,15 @@ public interface DataHelper {
 	String METHOD_CACHE_STATISTICS = "METHOD_CACHE_STATISTICS";
 
 	/**
-	 * 签名和入参的分隔符
-	 */
-	String KEY_SEPARATION_CHARACTER = "@";
-
-	/**
-	 * 缓存统计线程池
+	 * 缓存失效通知频道
 	 */
-	ExecutorService recordStatisticsExecutorService = ThreadPoolBuilder.buildDefaultThreadPool();
-
-	/**
-	 * 线程数据
-	 * */
-	ThreadLocal<String> threadLocal = new ThreadLocal<>();
-
+	String METHOD_CACHE_INVALIDATION = "METHOD_CACHE_INVALIDATION";
 
 	/**
-	 * 共享式缓存数据
-	 * 内容：《方法签名,《缓存哈希值,数据》》
+	 * 签名和入参的分隔符
 	 */
-	Map<String, Map<Integer, WeakReference<CacheDataModel>>> sharedCacheData = new ConcurrentHashMap<>();
+	String KEY_SEPARATION_CHARACTER = "@";
 
-	/**
-	 * 共享式缓存数据锁
-	 */
-	ReentrantReadWriteLock sharedCacheDataLock = new ReentrantReadWriteLock();
 
 	/**
 	 * 请求模型
@@ -78,6 +60,126 @@ public interface DataHelper {
 		 * @return 过期时间
 		 */
 		long getExpirationTime();
+
+		/**
+		 * 空结果过期时间，时间戳
+		 *
+		 * @return 空结果过期时间，默认与数据过期时间相同
+		 */
+		default long getNegativeExpirationTime() {
+			return getExpirationTime();
+		}
+
+		/**
+		 * 旧数据有效期(毫秒)，数据过期后仍可返回并异步刷新的时长
+		 *
+		 * @return 旧数据有效期
+		 */
+		default long getStaleExpiration() {
+			return 0L;
+		}
+
+		/**
+		 * 刷新间隔(毫秒)
+		 *
+		 * @return 刷新间隔
+		 */
+		default long getRefreshInterval() {
+			return 0L;
+		}
+
+		/**
+		 * 刷新阈值(剩余有效期占比)
+		 *
+		 * @return 刷新阈值
+		 */
+		default double getRefreshThreshold() {
+			return 0D;
+		}
+
+		/**
+		 * 提前刷新系数，大于0时按概率提前刷新
+		 *
+		 * @return 提前刷新系数
+		 */
+		default double getEarlyRefreshBeta() {
+			return 0D;
+		}
+
+		/**
+		 * 统计采样率，小于0时使用全局配置
+		 *
+		 * @return 统计采样率
+		 */
+		default double getStatisticsSampleRate() {
+			return -1D;
+		}
+
+		/**
+		 * 上一次获取数据时是否命中下级缓存(多级缓存)
+		 * 命中时未发起实际请求，统计为命中
+		 *
+		 * @return 命中下级缓存
+		 */
+		default boolean isLowerCacheHit() {
+			return false;
+		}
+
+		/**
+		 * 上一次获取数据时发起实际请求的耗时(纳秒)
+		 *
+		 * @return 实际请求的耗时，小于0时取获取数据的耗时
+		 */
+		default long getActualLoadNanos() {
+			return -1L;
+		}
+	}
+
+	/**
+	 * 异步请求模型
+	 */
+	interface AsyncDataFunctional extends ActualDataFunctional {
+		/**
+		 * 发起一次真实请求，不等待结果
+		 *
+		 * @return 方法返回的 CompletionStage
+		 * @throws Throwable 发起实际请求时发生的异常
+		 */
+		CompletionStage<?> getActualDataAsync() throws Throwable;
+
+		/**
+		 * 发起一次真实请求并等待结果
+		 * 仅用于后台刷新及不支持非阻塞访问时的同步路径，不在调用线程中执行
+		 *
+		 * @return 请求数据
+		 * @throws Throwable 发起实际请求时发生的异常
+		 */
+		@Override
+		default Object getActualData() throws Throwable {
+			CompletionStage<?> stage = getActualDataAsync();
+			if (stage == null) {
+				return null;
+			}
+			try {
+				return stage.toCompletableFuture().get();
+			} catch (ExecutionException e) {
+				throw e.getCause();
+			}
+		}
+	}
+
+	/**
+	 * 批量请求模型
+	 */
+	interface BatchDataFunctional extends ActualDataFunctional {
+		/**
+		 * 以指定元素替换批量参数，发起一次真实请求
+		 *
+		 * @param elements 批量参数的元素
+		 * @return 请求数据，内容：<元素,数据>
+		 * @throws Throwable 发起实际请求时发生的异常
+		 */
+		Map<?, ?> getActualData(Collection<Object> elements) throws Throwable;
 	}
 
 	/**
@@ -86,7 +188,6 @@ public interface DataHelper {
 	 * @param proxy                代理对象
 	 * @param method               方法
 	 * @param args                 请求参数
-	 * @param isolationSignal      隔离标记
 	 * @param refreshData          是否刷新数据
 	 * @param actualDataFunctional 请求模型
 	 * @param id                   缓存ID
@@ -96,61 +197,160 @@ public interface DataHelper {
 	 * @return 数据
 	 * @throws Exception 获取数据时发生异常
 	 */
-	Object getData(Object proxy, Method method, Object[] args, String isolationSignal, boolean refreshData,
+	Object getData(Object proxy, Method method, Object[] args, boolean refreshData,
 				   ActualDataFunctional actualDataFunctional, String id, String remark, boolean nullable,
 				   boolean shared) throws Throwable;
 
+	/**
+	 * 异步获取数据
+	 * 默认在线程池中执行 getData(未命中时在线程池中等待请求结果)，实现类可覆盖为非阻塞的实现
+	 *
+	 * @param proxy                代理对象
+	 * @param method               方法
+	 * @param args                 请求参数
+	 * @param refreshData          是否刷新数据
+	 * @param actualDataFunctional 请求模型
+	 * @param id                   缓存ID
+	 * @param remark               缓存备注
+	 * @param nullable             缓存null
+	 * @param shared               共享式数据
+	 * @return 数据
+	 */
+	default CompletableFuture<Object> getDataAsync(Object proxy, Method method, Object[] args, boolean refreshData,
+												   AsyncDataFunctional actualDataFunctional,
+												   String id, String remark, boolean nullable, boolean shared) {
+		CompletableFuture<Object> future = new CompletableFuture<>();
+		try {
+			ThreadPoolBuilder.getExecutor(ThreadPoolBuilder.Purpose.ASYNC).execute(() -> {
+				try {
+					future.complete(getData(proxy, method, args, refreshData, actualDataFunctional,
+							id, remark, nullable, shared));
+				} catch (Throwable throwable) {
+					future.completeExceptionally(throwable);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			future.completeExceptionally(e);
+		}
+		return future;
+	}
+
 
 	/**
-	 * 获取共享数据
+	 * 批量获取数据
+	 * 批量参数中的每个元素单独缓存：批量查询各元素的缓存，仅以未命中的元素发起实际请求，合并结果后缓存新的元素。
+	 * 实现类不支持批量查询时，按整体缓存
 	 *
-	 * @param methodSignature 方法签名
-	 * @param cacheHashCode   缓存哈希值
-	 * @return 缓存数据
+	 * @param proxy               代理对象
+	 * @param method              方法
+	 * @param args                请求参数
+	 * @param batchIndex          批量参数的下标
+	 * @param batchDataFunctional 批量请求模型
+	 * @param id                  缓存ID
+	 * @param remark              缓存备注
+	 * @param nullable            缓存null
+	 * @param shared              共享式数据
+	 * @return 数据，内容：<元素,数据>
+	 * @throws Throwable 发起实际请求时发生的异常
 	 */
-	static CacheDataModel getSharedData(String methodSignature, Integer cacheHashCode) {
+	default Object getBatchData(Object proxy, Method method, Object[] args, int batchIndex,
+								BatchDataFunctional batchDataFunctional, String id, String remark, boolean nullable,
+								boolean shared) throws Throwable {
+		Object batchArg = args[batchIndex];
+		if (!(batchArg instanceof Collection) || ((Collection<?>) batchArg).isEmpty()) {
+			return batchDataFunctional.getActualData();
+		}
+
+		List<Object> elements = new ArrayList<>(new LinkedHashSet<>((Collection<?>) batchArg));
+		List<Object[]> elementArgs = new ArrayList<>(elements.size());
+		for (Object element : elements) {
+			Object[] eachArgs = args.clone();
+			eachArgs[batchIndex] = element;
+			elementArgs.add(eachArgs);
+		}
+
+		List<CacheDataModel> cacheDataModels = getBatchCacheData(method, elementArgs, batchIndex, id,
+				shared);
+		if (cacheDataModels == null) {
+			// 不支持批量查询，按整体缓存
+			return getData(proxy, method, args, false, batchDataFunctional, id, remark, nullable,
+					shared);
+		}
+
+		Map<Object, Object> result = new LinkedHashMap<>();
+		List<Object> missElements = new ArrayList<>();
+		List<Object[]> missElementArgs = new ArrayList<>();
+		for (int i = 0; i < elements.size(); i++) {
+			CacheDataModel cacheDataModel = cacheDataModels.get(i);
+			if (cacheDataModel == null || cacheDataModel.isExpired() || cacheDataModel.isStale()) {
+				missElements.add(elements.get(i));
+				missElementArgs.add(elementArgs.get(i));
+			} else if (!cacheDataModel.isNullData()) {
+				result.put(elements.get(i), cacheDataModel.getData());
+			}
+		}
 
-		if(StringUtils.isEmpty(methodSignature) || StringUtils.isEmpty(cacheHashCode)){
-			return null;
+		if (missElements.isEmpty()) {
+			return result;
 		}
 
-		try {
-			sharedCacheDataLock.readLock().lock();
-			Map<Integer, WeakReference<CacheDataModel>> cacheDataModelMap = sharedCacheData.get(methodSignature);
-			WeakReference<CacheDataModel> cacheDataModelWeakReference;
-			if (cacheDataModelMap != null &&
-					(cacheDataModelWeakReference = cacheDataModelMap.get(cacheHashCode)) != null) {
-				return cacheDataModelWeakReference.get();
+		// 仅以未命中的元素发起实际请求
+		long loadStartNanoTime = System.nanoTime();
+		Map<?, ?> actualData = batchDataFunctional.getActualData(missElements);
+		long loadSpend = (System.nanoTime() - loadStartNanoTime) / 1000000L;
+
+		List<Object[]> saveElementArgs = new ArrayList<>(missElements.size());
+		List<Object> saveData = new ArrayList<>(missElements.size());
+		for (int i = 0; i < missElements.size(); i++) {
+			Object element = missElements.get(i);
+			Object data = actualData != null ? actualData.get(element) : null;
+			if (data != null) {
+				result.put(element, data);
+			}
+			if (isNotNull(data, nullable)) {
+				saveElementArgs.add(missElementArgs.get(i));
+				saveData.add(data != null ? data : NullObject.INSTANCE);
 			}
-		}finally {
-			sharedCacheDataLock.readLock().unlock();
 		}
 
-		return null;
+		if (!saveData.isEmpty()) {
+			setBatchCacheData(method, saveElementArgs, batchIndex, saveData, loadSpend, batchDataFunctional,
+					id, remark);
+		}
+		return result;
 	}
 
 	/**
-	 * 保存共享数据
+	 * 批量获取缓存数据
+	 * 不发起实际请求
 	 *
-	 * @param cacheDataModel 缓存数据
-	 * @return 缓存数据
+	 * @param method          方法
+	 * @param elementArgs     各元素的请求参数
+	 * @param batchIndex      批量参数的下标
+	 * @param id              缓存ID
+	 * @param shared          共享式数据
+	 * @return 缓存数据，与 elementArgs 一一对应，未命中的元素为null；不支持批量查询时返回null
 	 */
-	static CacheDataModel setSharedData(CacheDataModel cacheDataModel) {
-
-		try {
-			sharedCacheDataLock.writeLock().lock();
-			String methodSignature = cacheDataModel.getMethodSignature();
-			int cacheHashCode = cacheDataModel.getCacheHashCode();
-
-			Map<Integer, WeakReference<CacheDataModel>> cacheDataModelMap =
-					sharedCacheData.computeIfAbsent(methodSignature, k -> new HashMap<>());
-			cacheDataModelMap.put(cacheHashCode, new WeakReference<>(cacheDataModel));
-
-		} finally {
-			sharedCacheDataLock.writeLock().unlock();
-		}
+	default List<CacheDataModel> getBatchCacheData(Method method, List<Object[]> elementArgs, int batchIndex,
+												   String id, boolean shared) {
+		return null;
+	}
 
-		return cacheDataModel;
+	/**
+	 * 批量缓存数据
+	 *
+	 * @param method               方法
+	 * @param elementArgs          各元素的请求参数
+	 * @param batchIndex           批量参数的下标
+	 * @param data                 数据，与 elementArgs 一一对应，空结果为 NullObject
+	 * @param loadSpend            获取数据的耗时(毫秒)
+	 * @param actualDataFunctional 请求模型，提供过期时间
+	 * @param id                   缓存ID
+	 * @param remark               缓存备注
+	 */
+	default void setBatchCacheData(Method method, List<Object[]> elementArgs, int batchIndex, List<Object> data,
+								   long loadSpend, ActualDataFunctional actualDataFunctional,
+								   String id, String remark) {
 	}
 
 	/**
@@ -161,12 +361,7 @@ public interface DataHelper {
 	 * @return 决定后的数据
 	 * */
 	static CacheDataModel decisionCacheDataModel(CacheDataModel cacheDataModel) {
-		CacheDataModel sharedData = DataHelper.getSharedData(cacheDataModel.getMethodSignature(), cacheDataModel.getCacheHashCode());
-		if(sharedData == null || cacheDataModel.getCacheTime() != sharedData.getCacheTime()){
-			return DataHelper.setSharedData(cacheDataModel);
-		}
-		cacheDataModel = null; // help GC
-		return sharedData;
+		return SharedDataRegistry.canonicalize(cacheDataModel);
 	}
 
 	/**
@@ -210,9 +405,59 @@ public interface DataHelper {
 	void setCacheStatistics(String methodSignature, CacheStatisticsModel cacheStatisticsModel);
 
 	/**
-	 * 缓存统计信息队列
+	 * 获取本地记录统计信息的模型
+	 * 不存在时创建，请求线程直接在此模型上累加统计信息
+	 *
+	 * @param cacheKey                缓存key
+	 * @param methodSignature         方法签名
+	 * @param methodSignatureHashCode 方法签名哈希
+	 * @param id                      缓存ID
+	 * @param remark                  缓存备注
+	 * @return 缓存统计信息
 	 */
-	BlockingQueue<CacheStatisticsNode> cacheStatisticsInfoQueue = new LinkedBlockingQueue<>();
+	CacheStatisticsModel getLocalStatistics(String cacheKey, String methodSignature, int methodSignatureHashCode,
+											String id, String remark);
+
+	/**
+	 * 获取本地记录的所有统计信息
+	 *
+	 * @return 内容：<方法签名,统计信息>
+	 */
+	Map<String, CacheStatisticsModel> getLocalStatistics();
+
+	/**
+	 * 缓存数据条数
+	 *
+	 * @return 数据条数，无法获取时返回-1
+	 */
+	default long getCacheCount() {
+		return -1L;
+	}
+
+	/**
+	 * 缓存数据大小
+	 *
+	 * @return 数据大小(字节)，无法获取时返回-1
+	 */
+	default long getCacheSize() {
+		return -1L;
+	}
+
+	/**
+	 * 刷新中的缓存个数
+	 *
+	 * @return 刷新中的缓存个数
+	 */
+	default int getRefreshingCount() {
+		return 0;
+	}
+
+	/**
+	 * 关闭缓存
+	 * 应用关闭时调用，释放订阅等资源
+	 */
+	default void shutdown() {
+	}
 
 	/**
 	 * 清空缓存统计
@@ -234,19 +479,14 @@ public interface DataHelper {
 	 * @param applicationName         应用名
 	 * @param methodSignatureHashCode 方法签名哈希值
 	 * @param argsHashCode            方法入参哈希值
-	 * @param extensionStr         	  扩展字符串
 	 * @return 缓存哈希值
 	 */
-	default int getCacheHashCode(String applicationName, int methodSignatureHashCode, int argsHashCode,
-								 String extensionStr) {
+	default int getCacheHashCode(String applicationName, int methodSignatureHashCode, int argsHashCode) {
 		StringBuilder s = new StringBuilder(String.valueOf(methodSignatureHashCode) + String.valueOf(argsHashCode));
 		if (!StringUtils.isEmpty(applicationName)) {
 			s.insert(0,applicationName);
 
 		}
-		if(!StringUtils.isEmpty(extensionStr)){
-			s.append(extensionStr);
-		}
 		return DataUtil.hash(s.toString());
 	}
 
@@ -301,6 +541,9 @@ public interface DataHelper {
 		cacheInfo.put("data", Objects.toString(cacheDataModel.getData()));
 		cacheInfo.put("cacheTime", cacheDataModel.getFormatCacheTime());
 		cacheInfo.put("expireTime", cacheDataModel.getFormatExpireTime());
+		if (cacheDataModel.getStaleTime() > 0L) {
+			cacheInfo.put("staleTime", cacheDataModel.getFormatStaleTime());
+		}
 		cacheInfoList.add(cacheInfo);
 
 	}
@@ -334,77 +577,71 @@ public interface DataHelper {
 	}
 
 	/**
-	 * 增加统计信息
+	 * 缓存统计
 	 *
-	 * @param cacheStatisticsModel 缓存统计信息
-	 * @param cacheStatisticsNode  缓存节点信息
-	 * @return 缓存统计信息
+	 * @param cacheKey                缓存key
+	 * @param methodSignature         方法签名
+	 * @param methodSignatureHashCode 方法签名哈希
+	 * @param args                    入参
+	 * @param argsHashCode            入参哈希
+	 * @param cacheHashCode           缓存哈希
+	 * @param id                      缓存ID
+	 * @param remark                  缓存备注
+	 * @param hit                     命中
+	 * @param invokeException         请求异常
+	 * @param stackTraceOfException   异常栈
+	 * @param startTimestamp          开始时间
+	 * @param endTimestamp    		  结束时间
+	 * @param spendNanos              请求耗时(纳秒)
+	 * @param loadNanos               加载(发起实际请求)耗时(纳秒)，命中时为0
+	 * @param weight                  统计权重，采样时为采样间隔
 	 */
-	default CacheStatisticsModel increaseStatistics(CacheStatisticsModel cacheStatisticsModel,
-													CacheStatisticsNode cacheStatisticsNode) {
-		if (cacheStatisticsModel == null) {
-			cacheStatisticsModel = new CacheStatisticsModel(cacheStatisticsNode.getCacheKey(),
-					cacheStatisticsNode.getMethodSignature(), cacheStatisticsNode.getMethodSignatureHashCode(),
-					cacheStatisticsNode.getId(), cacheStatisticsNode.getRemark());
-		}
-
-		boolean hit = cacheStatisticsNode.isHit(); // 命中
-		boolean invokeException = cacheStatisticsNode.isInvokeException(); // 请求异常
-		String stackTraceOfException = cacheStatisticsNode.getStackTraceOfException(); // 异常栈
-		long startTimestamp = cacheStatisticsNode.getStartTimestamp(); // 请求开始时间戳
-		long endTimestamp = cacheStatisticsNode.getEndTimestamp(); // 请求结束时间戳
+	default void recordStatistics(String cacheKey, String methodSignature, int methodSignatureHashCode, String args,
+								  int argsHashCode, int cacheHashCode, String id, String remark, boolean hit,
+								  boolean invokeException, String stackTraceOfException, long startTimestamp,
+								  long endTimestamp, long spendNanos, long loadNanos, int weight) {
+		CacheStatisticsModel cacheStatisticsModel = getLocalStatistics(cacheKey, methodSignature,
+				methodSignatureHashCode, id, remark);
 		long spend = endTimestamp - startTimestamp; // 请求耗时
-		String args = cacheStatisticsNode.getArgs(); // 请求入参
+		cacheStatisticsModel.getWindow().record(hit, invokeException, loadNanos, weight);
 
 		if (invokeException) {
 			// 异常
-			cacheStatisticsModel.incrementTimesOfException(args, stackTraceOfException, startTimestamp);
+			cacheStatisticsModel.incrementTimesOfException(weight, args, stackTraceOfException, startTimestamp);
+			cacheStatisticsModel.getLoadLatency().record(loadNanos, weight);
 
 		} else if (hit) {
 			// 命中
-			cacheStatisticsModel.incrementHit(spend);
+			cacheStatisticsModel.incrementHit(weight, spend * weight);
 			cacheStatisticsModel.setMinHitSpend(spend, startTimestamp, args);
 			cacheStatisticsModel.setMaxHitSpend(spend, startTimestamp, args);
+			cacheStatisticsModel.getHitLatency().record(spendNanos, weight);
+			cacheStatisticsModel.getOverheadLatency().record(spendNanos, weight);
 		} else {
 			// 未命中
-			cacheStatisticsModel.incrementFailure(spend);
+			cacheStatisticsModel.incrementFailure(weight, spend * weight);
 			cacheStatisticsModel.setMinFailureSpend(spend, startTimestamp, args);
 			cacheStatisticsModel.setMaxFailureSpend(spend, startTimestamp, args);
+			cacheStatisticsModel.getLoadLatency().record(loadNanos, weight);
+			cacheStatisticsModel.getOverheadLatency().record(spendNanos - loadNanos, weight);
 		}
-
-		return cacheStatisticsModel;
 	}
 
 	/**
-	 * 缓存统计
+	 * 缓存写入统计
 	 *
 	 * @param cacheKey                缓存key
 	 * @param methodSignature         方法签名
 	 * @param methodSignatureHashCode 方法签名哈希
-	 * @param args                    入参
-	 * @param argsHashCode            入参哈希
-	 * @param cacheHashCode           缓存哈希
 	 * @param id                      缓存ID
 	 * @param remark                  缓存备注
-	 * @param hit                     命中
-	 * @param invokeException         请求异常
-	 * @param stackTraceOfException   异常栈
-	 * @param startTimestamp          开始时间
-	 * @param endTimestamp    		  结束时间
+	 * @param originalSize            原始大小(字节)
+	 * @param storedSize              实际存储大小(字节)
 	 */
-	default void recordStatistics(String cacheKey, String methodSignature, int methodSignatureHashCode, String args,
-								  int argsHashCode, int cacheHashCode, String id, String remark, boolean hit,
-								  boolean invokeException, String stackTraceOfException, long startTimestamp,
-								  long endTimestamp) {
-		recordStatisticsExecutorService.execute(() -> {
-			try {
-				cacheStatisticsInfoQueue.put(new CacheStatisticsNode(cacheKey, methodSignature, methodSignatureHashCode,
-						args, argsHashCode, cacheHashCode, id, remark, hit, invokeException, stackTraceOfException,
-						startTimestamp, endTimestamp));
-			} catch (InterruptedException e) {
-				e.printStackTrace();
-			}
-		});
+	default void recordStoredSize(String cacheKey, String methodSignature, int methodSignatureHashCode, String id,
+								  String remark, long originalSize, long storedSize) {
+		getLocalStatistics(cacheKey, methodSignature, methodSignatureHashCode, id, remark)
+				.incrementStoredSize(originalSize, storedSize);
 	}
 
 	/**
@@ -503,199 +740,15 @@ public interface DataHelper {
 
 	/**
 	 * 空对象
+	 * 所有空结果共享同一个实例
 	 * */
 	class NullObject implements Serializable {
 		private static final long serialVersionUID = 1L;
-	}
-
-
-	/**
-	 * 缓存统计信息节点
-	 */
-	class CacheStatisticsNode {
-		/**
-		 * 缓存key
-		 * 由：applicationName、methodSignature、cacheHashCode、id组成
-		 */
-		private String cacheKey;
-
-		/**
-		 * 方法签名
-		 */
-		private String methodSignature;
-
-		/**
-		 * 方法签名哈希值
-		 */
-		private int methodSignatureHashCode;
-
-		/**
-		 * 请求入参
-		 */
-		private String args;
-
-		/**
-		 * 请求入参哈希值
-		 */
-		private int argsHashCode;
-
-		/**
-		 * 缓存哈希值
-		 */
-		private int cacheHashCode;
 
-		/**
-		 * 缓存ID
-		 */
-		private String id;
-
-		/**
-		 * 缓存备注
-		 */
-		private String remark;
-
-		/**
-		 * 缓存命中
-		 */
-		private boolean hit;
-
-		/**
-		 * 请求异常
-		 */
-		private boolean invokeException;
-
-		/**
-		 * 请求异常信息
-		 */
-		private String stackTraceOfException;
-
-		/**
-		 * 请求开始时间
-		 */
-		private long startTimestamp;
-
-		/**
-		 * 请求结束时间
-		 */
-		private long endTimestamp;
-
-		public CacheStatisticsNode(String cacheKey, String methodSignature, int methodSignatureHashCode, String args,
-								   int argsHashCode, int cacheHashCode, String id, String remark, boolean hit,
-								   boolean invokeException, String stackTraceOfException,  long startTimestamp,
-								   long endTimestamp) {
-			this.cacheKey = cacheKey;
-			this.methodSignature = methodSignature;
-			this.methodSignatureHashCode = methodSignatureHashCode;
-			this.args = args;
-			this.argsHashCode = argsHashCode;
-			this.cacheHashCode = cacheHashCode;
-			this.id = id;
-			this.remark = remark;
-			this.hit = hit;
-			this.invokeException = invokeException;
-			this.stackTraceOfException = stackTraceOfException;
-			this.startTimestamp = startTimestamp;
-			this.endTimestamp = endTimestamp;
-		}
-
-		public String getCacheKey() {
-			return cacheKey;
-		}
-
-		public void setCacheKey(String cacheKey) {
-			this.cacheKey = cacheKey;
-		}
-
-		public String getMethodSignature() {
-			return methodSignature;
-		}
-
-		public void setMethodSignature(String methodSignature) {
-			this.methodSignature = methodSignature;
-		}
-
-		public int getMethodSignatureHashCode() {
-			return methodSignatureHashCode;
-		}
-
-		public void setMethodSignatureHashCode(int methodSignatureHashCode) {
-			this.methodSignatureHashCode = methodSignatureHashCode;
-		}
-
-		public String getArgs() {
-			return args;
-		}
-
-		public void setArgs(String args) {
-			this.args = args;
-		}
-
-		public int getArgsHashCode() {
-			return argsHashCode;
-		}
-
-		public void setArgsHashCode(int argsHashCode) {
-			this.argsHashCode = argsHashCode;
-		}
-
-		public int getCacheHashCode() {
-			return cacheHashCode;
-		}
-
-		public void setCacheHashCode(int cacheHashCode) {
-			this.cacheHashCode = cacheHashCode;
-		}
-
-		public String getId() {
-			return id;
-		}
-
-		public void setId(String id) {
-			this.id = id;
-		}
-
-		public String getRemark() {
-			return remark;
-		}
-
-		public void setRemark(String remark) {
-			this.remark = remark;
-		}
-
-		public boolean isHit() {
-			return hit;
-		}
-
-		public void setHit(boolean hit) {
-			this.hit = hit;
-		}
-
-		public boolean isInvokeException() {
-			return invokeException;
-		}
-
-		public long getStartTimestamp() {
-			return startTimestamp;
-		}
-
-		public String getStackTraceOfException() {
-			return stackTraceOfException;
-		}
-
-		public void setStackTraceOfException(String stackTraceOfException) {
-			this.stackTraceOfException = stackTraceOfException;
-		}
-
-		public void setStartTimestamp(long startTimestamp) {
-			this.startTimestamp = startTimestamp;
-		}
-
-		public long getEndTimestamp() {
-			return endTimestamp;
-		}
+		public static final NullObject INSTANCE = new NullObject();
 
-		public void setEndTimestamp(long endTimestamp) {
-			this.endTimestamp = endTimestamp;
+		private Object readResolve() {
+			return INSTANCE;
 		}
 	}
 }
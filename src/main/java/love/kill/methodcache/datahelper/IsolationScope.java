@@ -0,0 +1,188 @@
+package love.kill.methodcache.datahelper;
+
+import love.kill.methodcache.util.DataUtil;
+import love.kill.methodcache.util.SerializeUtil;
+
+import java.lang.reflect.Method;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 缓存隔离范围
+ * 线程隔离(@CacheIsolation(isolationStrategy = 'T'))的方法执行期间，缓存数据保存在隔离范围内，方法结束后随范围一起丢弃，
+ * 不会写入内存缓存或Redis。隔离范围内的数据仅对当前线程可见，不记录统计信息
+ *
+ * @author Lycop
+ */
+public class IsolationScope {
+
+	/**
+	 * 当前线程的隔离范围
+	 */
+	private static final ThreadLocal<IsolationScope> current = new ThreadLocal<>();
+
+	/**
+	 * 缓存数据
+	 * 内容：<方法签名@入参哈希值,数据>
+	 */
+	private final Map<String, Entry> data = new ConcurrentHashMap<>();
+
+	private IsolationScope() {
+	}
+
+	/**
+	 * 当前线程的隔离范围
+	 *
+	 * @return 隔离范围，不在隔离范围内时返回null
+	 */
+	public static IsolationScope current() {
+		return current.get();
+	}
+
+	/**
+	 * 开启隔离范围
+	 * 当前线程已在隔离范围内时沿用外层范围
+	 *
+	 * @return 新开启的隔离范围，沿用外层范围时返回null
+	 */
+	public static IsolationScope open() {
+		if (current.get() != null) {
+			return null;
+		}
+		IsolationScope scope = new IsolationScope();
+		current.set(scope);
+		return scope;
+	}
+
+	/**
+	 * 关闭隔离范围，丢弃范围内的缓存数据
+	 * 谁开启，谁关闭
+	 */
+	public void close() {
+		data.clear();
+		if (current.get() == this) {
+			current.remove();
+		}
+	}
+
+	/**
+	 * 获取数据
+	 *
+	 * @param method               方法
+	 * @param args                 请求参数
+	 * @param actualDataFunctional 请求模型
+	 * @param nullable             缓存null
+	 * @param shared               共享式数据
+	 * @return 数据
+	 * @throws Throwable 发起实际请求时发生的异常
+	 */
+	public Object getData(Method method, Object[] args, DataHelper.ActualDataFunctional actualDataFunctional,
+						  boolean nullable, boolean shared) throws Throwable {
+		String key = getKey(method, args);
+		Entry entry = data.get(key);
+		if (entry != null && !entry.isExpired()) {
+			return entry.getData();
+		}
+
+		Object value = actualDataFunctional.getActualData();
+		put(key, value, value != null ? actualDataFunctional.getExpirationTime() :
+				actualDataFunctional.getNegativeExpirationTime(), nullable, shared);
+		return value;
+	}
+
+	/**
+	 * 异步获取数据
+	 * 命中时返回已完成的结果；未命中时发起请求，请求完成后缓存结果
+	 *
+	 * @param method               方法
+	 * @param args                 请求参数
+	 * @param actualDataFunctional 请求模型，返回 CompletionStage
+	 * @param nullable             缓存null
+	 * @param shared               共享式数据
+	 * @return 数据
+	 * @throws Throwable 发起实际请求时发生的异常
+	 */
+	public Object getDataAsync(Method method, Object[] args, DataHelper.ActualDataFunctional actualDataFunctional,
+							   boolean nullable, boolean shared) throws Throwable {
+		String key = getKey(method, args);
+		Entry entry = data.get(key);
+		if (entry != null && !entry.isExpired()) {
+			return CompletableFuture.completedFuture(entry.getData());
+		}
+
+		Object stage = actualDataFunctional.getActualData();
+		if (stage == null) {
+			return null;
+		}
+		long expirationTime = actualDataFunctional.getExpirationTime();
+		long negativeExpirationTime = actualDataFunctional.getNegativeExpirationTime();
+		return ((CompletionStage<?>) stage).toCompletableFuture().whenComplete((value, throwable) -> {
+			if (throwable == null) {
+				put(key, value, value != null ? expirationTime : negativeExpirationTime, nullable, shared);
+			}
+		});
+	}
+
+	/**
+	 * 缓存数据
+	 * 非共享式数据以序列化的形式保存，每次命中返回新的对象；无法序列化时不缓存
+	 */
+	private void put(String key, Object value, long expirationTime, boolean nullable, boolean shared) {
+		if (value == null && !nullable) {
+			return;
+		}
+
+		if (shared || value == null) {
+			data.put(key, new Entry(value, null, expirationTime));
+			return;
+		}
+
+		byte[] bytes = SerializeUtil.serizlize(value);
+		if (bytes != null) {
+			data.put(key, new Entry(null, bytes, expirationTime));
+		}
+	}
+
+	private static String getKey(Method method, Object[] args) {
+		return method.toGenericString() + DataHelper.KEY_SEPARATION_CHARACTER + DataUtil.getArgsHashCode(args);
+	}
+
+	/**
+	 * 隔离范围内的缓存数据
+	 */
+	private static class Entry {
+
+		/**
+		 * 共享式数据
+		 */
+		private final Object data;
+
+		/**
+		 * 非共享式数据(序列化后)
+		 */
+		private final byte[] bytes;
+
+		/**
+		 * 过期时间（时间戳）
+		 * -1 代表永久有效
+		 */
+		private final long expireTime;
+
+		private Entry(Object data, byte[] bytes, long expireTime) {
+			this.data = data;
+			this.bytes = bytes;
+			this.expireTime = expireTime;
+		}
+
+		private Object getData() {
+			return bytes != null ? SerializeUtil.deserialize(bytes) : data;
+		}
+
+		private boolean isExpired() {
+			return expireTime >= 0L && new Date().getTime() >= expireTime;
+		}
+	}
+}
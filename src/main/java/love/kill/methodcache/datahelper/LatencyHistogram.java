@@ -0,0 +1,203 @@
+package love.kill.methodcache.datahelper;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 耗时分布
+ * 按对数分桶记录耗时(纳秒)：每个2的幂区间再等分为8个桶，相对误差不超过12.5%。
+ * 桶的划分是固定的，多个分布(如多个节点)可以按桶直接累加合并
+ *
+ * @author Lycop
+ */
+public class LatencyHistogram implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 每个2的幂区间等分的桶数(2^3)
+	 */
+	private static final int SUB_BUCKET_BITS = 3;
+
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+	/**
+	 * 可记录的最大耗时为 2^40 纳秒(约18分钟)，超出时记入最后一个桶
+	 */
+	private static final int MAX_EXPONENT = 40;
+
+	private static final long MAX_VALUE = (1L << MAX_EXPONENT) - 1L;
+
+	/**
+	 * 桶数
+	 */
+	public static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+
+	/**
+	 * 输出的百分位
+	 */
+	private static final double[] PERCENTILES = {50D, 90D, 99D, 99.9D};
+
+	/**
+	 * 各个桶的次数
+	 */
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+
+	/**
+	 * 记录耗时
+	 *
+	 * @param nanos 耗时(纳秒)
+	 */
+	public void record(long nanos) {
+		record(nanos, 1L);
+	}
+
+	/**
+	 * 记录耗时
+	 *
+	 * @param nanos 耗时(纳秒)
+	 * @param count 次数
+	 */
+	public void record(long nanos, long count) {
+		if (nanos < 0L || count <= 0L) {
+			return;
+		}
+		counts.addAndGet(bucketIndex(nanos), count);
+	}
+
+	/**
+	 * 累加指定桶的次数
+	 *
+	 * @param index 桶下标
+	 * @param count 次数
+	 */
+	public void add(int index, long count) {
+		if (index >= 0 && index < BUCKET_COUNT && count != 0L) {
+			counts.addAndGet(index, count);
+		}
+	}
+
+	/**
+	 * 合并
+	 *
+	 * @param other 另一个耗时分布
+	 */
+	public void merge(LatencyHistogram other) {
+		if (other == null) {
+			return;
+		}
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			add(i, other.counts.get(i));
+		}
+	}
+
+	/**
+	 * 相对于上一次快照的增量
+	 *
+	 * @param previous 上一次快照，为null时返回当前分布的快照
+	 * @return 增量
+	 */
+	public LatencyHistogram delta(LatencyHistogram previous) {
+		LatencyHistogram delta = new LatencyHistogram();
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			delta.add(i, counts.get(i) - (previous == null ? 0L : previous.counts.get(i)));
+		}
+		return delta;
+	}
+
+	/**
+	 * 获取指定桶的次数
+	 *
+	 * @param index 桶下标
+	 * @return 次数
+	 */
+	public long getCount(int index) {
+		return counts.get(index);
+	}
+
+	/**
+	 * 总次数
+	 *
+	 * @return 总次数
+	 */
+	public long getTotalCount() {
+		long total = 0L;
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			total += counts.get(i);
+		}
+		return total;
+	}
+
+	/**
+	 * 获取百分位耗时
+	 *
+	 * @param percentile 百分位(0 ～ 100)
+	 * @return 耗时(纳秒)，取所在桶的上界；没有记录时返回-1
+	 */
+	public long getValueAtPercentile(double percentile) {
+		long[] snapshot = new long[BUCKET_COUNT];
+		long total = 0L;
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			total += (snapshot[i] = counts.get(i));
+		}
+		if (total <= 0L) {
+			return -1L;
+		}
+
+		long target = Math.max((long) Math.ceil(Math.min(percentile, 100D) / 100D * total), 1L);
+		long cumulative = 0L;
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			cumulative += snapshot[i];
+			if (cumulative >= target) {
+				return highestValue(i);
+			}
+		}
+		return highestValue(BUCKET_COUNT - 1);
+	}
+
+	/**
+	 * 输出百分位耗时
+	 *
+	 * @return {p50:耗时(毫秒),p90:..,p99:..,p99.9:..}，没有记录时为空
+	 */
+	public Map<String, String> printPercentiles() {
+		Map<String, String> percentiles = new LinkedHashMap<>();
+		for (double percentile : PERCENTILES) {
+			long nanos = getValueAtPercentile(percentile);
+			percentiles.put("p" + BigDecimal.valueOf(percentile).stripTrailingZeros().toPlainString(),
+					nanos < 0L ? "" : BigDecimal.valueOf(nanos).divide(BigDecimal.valueOf(1000000L), 3,
+							BigDecimal.ROUND_HALF_UP).toPlainString());
+		}
+		return percentiles;
+	}
+
+	/**
+	 * 计算耗时所在的桶
+	 */
+	private static int bucketIndex(long nanos) {
+		long value = Math.min(nanos, MAX_VALUE);
+		if (value < SUB_BUCKET_COUNT) {
+			return (int) value;
+		}
+		int exponent = 63 - Long.numberOfLeadingZeros(value);
+		int shift = exponent - SUB_BUCKET_BITS;
+		int subBucket = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+		return SUB_BUCKET_COUNT + shift * SUB_BUCKET_COUNT + subBucket;
+	}
+
+	/**
+	 * 桶的上界
+	 */
+	private static long highestValue(int index) {
+		if (index < SUB_BUCKET_COUNT) {
+			return index;
+		}
+		int shift = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_COUNT;
+		int subBucket = (index - SUB_BUCKET_COUNT) % SUB_BUCKET_COUNT;
+		long lowest = ((long) (SUB_BUCKET_COUNT + subBucket)) << shift;
+		return lowest + (1L << shift) - 1L;
+	}
+}
@@ -0,0 +1,178 @@
+package love.kill.methodcache.datahelper;
+
+import love.kill.methodcache.util.SerializeUtil;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 近端缓存
+ * 在本地保存远端缓存数据的副本，数据在本地有效期或数据过期时间到达后失效；超出最大个数时淘汰最久未访问的数据
+ *
+ * @author Lycop
+ */
+public class NearCache {
+
+	/**
+	 * 缓存数据
+	 * 内容：<缓存key,数据>
+	 */
+	private final Map<String, Entry> cacheData = new ConcurrentHashMap<>();
+
+	/**
+	 * 本地有效期(毫秒)
+	 */
+	private final long expiration;
+
+	/**
+	 * 最大缓存个数
+	 */
+	private final int maxSize;
+
+	public NearCache(long expiration, int maxSize) {
+		this.expiration = expiration;
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * 获取数据
+	 *
+	 * @param cacheKey 缓存key
+	 * @param shared   共享式数据
+	 * @return 缓存数据，不存在或已失效时返回null
+	 */
+	public CacheDataModel get(String cacheKey, boolean shared) {
+		Entry entry = cacheData.get(cacheKey);
+		if (entry == null) {
+			return null;
+		}
+
+		if (entry.isExpired()) {
+			cacheData.remove(cacheKey, entry);
+			return null;
+		}
+		entry.accessTime = System.nanoTime();
+
+		if (shared) {
+			return entry.getCacheDataModel();
+		}
+
+		// 独享数据，每次返回新的副本
+		return (CacheDataModel) SerializeUtil.deserialize(entry.bytes);
+	}
+
+	/**
+	 * 保存数据
+	 *
+	 * @param cacheKey       缓存key
+	 * @param bytes          (序列化后的)缓存数据
+	 * @param dataExpireTime 数据过期时间
+	 */
+	public void put(String cacheKey, byte[] bytes, long dataExpireTime) {
+		if (bytes == null) {
+			return;
+		}
+
+		if (cacheData.size() >= maxSize && !cacheData.containsKey(cacheKey)) {
+			evict();
+		}
+
+		long expireTime = new Date().getTime() + expiration;
+		if (dataExpireTime >= 0L && dataExpireTime < expireTime) {
+			expireTime = dataExpireTime;
+		}
+		cacheData.put(cacheKey, new Entry(bytes, expireTime));
+	}
+
+	/**
+	 * 移除数据
+	 *
+	 * @param cacheKey 缓存key
+	 */
+	public void remove(String cacheKey) {
+		cacheData.remove(cacheKey);
+	}
+
+	/**
+	 * 清空数据
+	 */
+	public void clear() {
+		cacheData.clear();
+	}
+
+	/**
+	 * 数据个数
+	 *
+	 * @return 数据个数
+	 */
+	public int size() {
+		return cacheData.size();
+	}
+
+	/**
+	 * 淘汰数据
+	 * 优先移除已失效的数据，仍超出上限时，按最近访问时间移除最久未访问的十分之一的数据
+	 */
+	private void evict() {
+		cacheData.values().removeIf(Entry::isExpired);
+
+		int evictCount = cacheData.size() - maxSize + Math.max(maxSize / 10, 1);
+		if (evictCount <= 0) {
+			return;
+		}
+
+		List<Map.Entry<String, Entry>> entries = new ArrayList<>(cacheData.entrySet());
+		entries.sort(Comparator.comparingLong(entry -> entry.getValue().accessTime));
+		for (int i = 0; i < evictCount && i < entries.size(); i++) {
+			Map.Entry<String, Entry> entry = entries.get(i);
+			cacheData.remove(entry.getKey(), entry.getValue());
+		}
+	}
+
+	/**
+	 * 近端缓存节点
+	 */
+	private static class Entry {
+
+		/**
+		 * (序列化后的)缓存数据
+		 */
+		private final byte[] bytes;
+
+		/**
+		 * 缓存数据(共享式数据使用，首次读取时反序列化)
+		 */
+		private volatile CacheDataModel cacheDataModel;
+
+		/**
+		 * 本地过期时间(时间戳)
+		 */
+		private final long expireTime;
+
+		/**
+		 * 最近访问时间(纳秒，保存或读取时更新)
+		 */
+		private volatile long accessTime = System.nanoTime();
+
+		Entry(byte[] bytes, long expireTime) {
+			this.bytes = bytes;
+			this.expireTime = expireTime;
+		}
+
+		CacheDataModel getCacheDataModel() {
+			CacheDataModel model = cacheDataModel;
+			if (model == null) {
+				cacheDataModel = model = (CacheDataModel) SerializeUtil.deserialize(bytes);
+			}
+			return model;
+		}
+
+		boolean isExpired() {
+			return new Date().getTime() >= expireTime;
+		}
+	}
+}
@@ -0,0 +1,155 @@
+package love.kill.methodcache.datahelper;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 刷新调度
+ * 缓存命中后按刷新间隔、剩余有效期占比、提前刷新概率或数据是否已变旧决定是否刷新数据，同一缓存同时只会有一个刷新任务
+ *
+ * @author Lycop
+ */
+public class RefreshScheduler {
+
+	/**
+	 * 下次刷新时间记录数上限，超出后移除最早写入的记录(被移除的缓存下次命中时允许立即刷新)
+	 */
+	private static final int MAX_RECORD_SIZE = 10000;
+
+	/**
+	 * 刷新中的缓存
+	 * 内容：<缓存key,开始刷新时间>
+	 */
+	private final Map<String, Long> refreshing = new ConcurrentHashMap<>();
+
+	/**
+	 * 下次允许刷新的时间
+	 * 内容：<缓存key,时间戳>，按写入顺序排列
+	 */
+	private final Map<String, Long> nextRefreshTime = Collections.synchronizedMap(
+			new LinkedHashMap<String, Long>(16, 0.75F, false) {
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+					return size() > MAX_RECORD_SIZE;
+				}
+			});
+
+	/**
+	 * 是否需要刷新
+	 * 命中的数据已变旧(超过过期时间，处于旧数据有效期内)，refresh 为 true 且距离上次刷新已达到刷新间隔，
+	 * 剩余有效期占比不超过刷新阈值，或按提前刷新概率命中时需要刷新
+	 *
+	 * @param cacheKey             缓存key
+	 * @param refresh              刷新数据
+	 * @param cacheDataModel       命中的缓存数据
+	 * @param actualDataFunctional 请求模型
+	 * @return 需要刷新
+	 */
+	public boolean isRefreshDue(String cacheKey, boolean refresh, CacheDataModel cacheDataModel,
+								DataHelper.ActualDataFunctional actualDataFunctional) {
+		if (refreshing.containsKey(cacheKey)) {
+			return false;
+		}
+
+		if (cacheDataModel.isStale()) {
+			return true;
+		}
+
+		long now = System.currentTimeMillis();
+		if (refresh) {
+			Long next = nextRefreshTime.get(cacheKey);
+			if (next == null || now >= next) {
+				return true;
+			}
+		}
+
+		double refreshThreshold = actualDataFunctional.getRefreshThreshold();
+		long expireTime = cacheDataModel.getStaleTime() > 0L ? cacheDataModel.getStaleTime() :
+				cacheDataModel.getExpireTime();
+		if (refreshThreshold > 0D && expireTime > 0L) {
+			long ttl = expireTime - cacheDataModel.getCacheTime();
+			if (ttl > 0L && expireTime - now <= ttl * refreshThreshold) {
+				return true;
+			}
+		}
+
+		double earlyRefreshBeta = actualDataFunctional.getEarlyRefreshBeta();
+		return earlyRefreshBeta > 0D && expireTime > 0L &&
+				isEarlyRefreshDue(now, expireTime, cacheDataModel.getLoadSpend(), earlyRefreshBeta);
+	}
+
+	/**
+	 * 是否按概率提前刷新(XFetch)
+	 * 当 now - loadSpend * beta * ln(random) >= expireTime 时刷新，random 取值(0, 1]。
+	 * 提前量服从期望为 loadSpend * beta 的指数分布：越接近过期时间、获取数据的耗时越长，提前刷新的概率越大
+	 *
+	 * @param now        当前时间
+	 * @param expireTime 过期时间
+	 * @param loadSpend  获取数据的耗时(毫秒)
+	 * @param beta       提前刷新系数
+	 * @return 需要刷新
+	 */
+	private static boolean isEarlyRefreshDue(long now, long expireTime, long loadSpend, double beta) {
+		double random = 1D - ThreadLocalRandom.current().nextDouble();
+		return now - Math.max(loadSpend, 1L) * beta * Math.log(random) >= expireTime;
+	}
+
+	/**
+	 * 刷新数据
+	 * 同一缓存已在刷新时忽略本次刷新
+	 *
+	 * @param cacheKey        缓存key
+	 * @param refreshInterval 刷新间隔(毫秒)
+	 * @param executor        执行刷新的线程池
+	 * @param task            刷新任务
+	 */
+	public void refresh(String cacheKey, long refreshInterval, Executor executor, Runnable task) {
+		if (refreshing.putIfAbsent(cacheKey, System.currentTimeMillis()) != null) {
+			return;
+		}
+
+		try {
+			executor.execute(() -> {
+				try {
+					task.run();
+				} finally {
+					release(cacheKey, refreshInterval);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			refreshing.remove(cacheKey);
+		}
+	}
+
+	/**
+	 * 刷新中的缓存个数
+	 *
+	 * @return 刷新中的缓存个数
+	 */
+	public int getRefreshingCount() {
+		return refreshing.size();
+	}
+
+	/**
+	 * 刷新结束
+	 *
+	 * @param cacheKey        缓存key
+	 * @param refreshInterval 刷新间隔(毫秒)
+	 */
+	private void release(String cacheKey, long refreshInterval) {
+		if (refreshInterval > 0L) {
+			long next = System.currentTimeMillis() + refreshInterval;
+			synchronized (nextRefreshTime) {
+				// 先移除再写入，使记录移至末尾
+				nextRefreshTime.remove(cacheKey);
+				nextRefreshTime.put(cacheKey, next);
+			}
+		}
+		refreshing.remove(cacheKey);
+	}
+}
@@ -0,0 +1,138 @@
+package love.kill.methodcache.datahelper;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 共享式缓存数据注册表
+ * 以(方法签名,缓存哈希值,缓存时间)为key弱引用缓存数据，同一版本的数据在各线程间共享同一个对象。
+ * 读取无锁，写入使用CAS；数据被回收后，其引用进入引用队列，在下一次访问注册表时移除，注册表不会无限增长
+ *
+ * @author Lycop
+ */
+public final class SharedDataRegistry {
+
+	/**
+	 * 共享数据
+	 * 内容：<(方法签名,缓存哈希值,缓存时间),数据的弱引用>
+	 */
+	private static final ConcurrentHashMap<Key, DataReference> registry = new ConcurrentHashMap<>();
+
+	/**
+	 * 已被回收的数据的引用
+	 */
+	private static final ReferenceQueue<CacheDataModel> queue = new ReferenceQueue<>();
+
+	private SharedDataRegistry() {
+	}
+
+	/**
+	 * 获取共享数据
+	 * 注册表中存在同一版本(缓存时间相同)且未被回收的数据时返回该数据，否则登记并返回传入的数据
+	 *
+	 * @param cacheDataModel 缓存数据
+	 * @return 共享数据
+	 */
+	public static CacheDataModel canonicalize(CacheDataModel cacheDataModel) {
+		expungeStaleEntries();
+
+		Key key = new Key(cacheDataModel.getMethodSignature(), cacheDataModel.getCacheHashCode(),
+				cacheDataModel.getCacheTime());
+		while (true) {
+			DataReference reference = registry.get(key);
+			if (reference == null) {
+				if (registry.putIfAbsent(key, new DataReference(key, cacheDataModel, queue)) == null) {
+					return cacheDataModel;
+				}
+				continue;
+			}
+
+			CacheDataModel sharedData = reference.get();
+			if (sharedData != null) {
+				return sharedData;
+			}
+
+			// 数据已被回收，尚未从注册表中移除
+			if (registry.replace(key, reference, new DataReference(key, cacheDataModel, queue))) {
+				return cacheDataModel;
+			}
+		}
+	}
+
+	/**
+	 * 共享数据个数
+	 *
+	 * @return 注册表中的数据个数(含已被回收、尚未移除的数据)
+	 */
+	public static int size() {
+		expungeStaleEntries();
+		return registry.size();
+	}
+
+	/**
+	 * 移除已被回收的数据
+	 * 仅在引用未被替换时移除
+	 */
+	private static void expungeStaleEntries() {
+		Reference<? extends CacheDataModel> reference;
+		while ((reference = queue.poll()) != null) {
+			DataReference dataReference = (DataReference) reference;
+			registry.remove(dataReference.key, dataReference);
+		}
+	}
+
+	/**
+	 * 数据的弱引用
+	 */
+	private static class DataReference extends WeakReference<CacheDataModel> {
+
+		private final Key key;
+
+		private DataReference(Key key, CacheDataModel referent, ReferenceQueue<CacheDataModel> queue) {
+			super(referent, queue);
+			this.key = key;
+		}
+	}
+
+	/**
+	 * 共享数据key
+	 */
+	private static class Key {
+
+		private final String methodSignature;
+
+		private final int cacheHashCode;
+
+		private final long cacheTime;
+
+		private final int hashCode;
+
+		private Key(String methodSignature, int cacheHashCode, long cacheTime) {
+			this.methodSignature = methodSignature;
+			this.cacheHashCode = cacheHashCode;
+			this.cacheTime = cacheTime;
+			this.hashCode = Objects.hash(methodSignature, cacheHashCode, cacheTime);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof Key)) {
+				return false;
+			}
+			Key key = (Key) o;
+			return cacheHashCode == key.cacheHashCode && cacheTime == key.cacheTime &&
+					Objects.equals(methodSignature, key.methodSignature);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+}
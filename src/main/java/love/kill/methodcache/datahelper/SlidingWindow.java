@@ -0,0 +1,203 @@
+package love.kill.methodcache.datahelper;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 滑动窗口统计
+ * 使用环形时间桶(60个1秒的桶、60个1分钟的桶)记录最近一段时间的命中、未命中、异常次数及加载耗时，
+ * 用于查看最近1分钟、5分钟、15分钟的请求速率及命中率。桶过期后由下一次写入清零复用，写入无需加锁
+ *
+ * @author Lycop
+ */
+public class SlidingWindow implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 输出的窗口(分钟)
+	 */
+	private static final int[] WINDOW_MINUTES = {1, 5, 15};
+
+	/**
+	 * 每个桶记录的内容
+	 */
+	private static final int HIT = 0;
+	private static final int FAILURE = 1;
+	private static final int EXCEPTION = 2;
+	private static final int LOAD = 3;
+	private static final int LOAD_NANOS = 4;
+	private static final int FIELD_COUNT = 5;
+
+	/**
+	 * 秒级时间桶
+	 */
+	private final Ring seconds = new Ring(1000L, 60);
+
+	/**
+	 * 分钟级时间桶
+	 */
+	private final Ring minutes = new Ring(60000L, 60);
+
+	/**
+	 * 创建时间
+	 * 运行时间不足一个窗口时，按实际运行时间计算速率
+	 */
+	private final long createTime = System.currentTimeMillis();
+
+	/**
+	 * 记录一次请求
+	 *
+	 * @param hit       命中
+	 * @param exception 请求异常
+	 * @param loadNanos 加载(发起实际请求)耗时(纳秒)，命中时为0
+	 * @param weight    权重(采样间隔)
+	 */
+	public void record(boolean hit, boolean exception, long loadNanos, int weight) {
+		long now = System.currentTimeMillis();
+		seconds.record(now, hit, exception, loadNanos, weight);
+		minutes.record(now, hit, exception, loadNanos, weight);
+	}
+
+	/**
+	 * 输出最近1分钟、5分钟、15分钟的统计
+	 *
+	 * @return {1m:{..},5m:{..},15m:{..}}
+	 */
+	public Map<String, Map<String, String>> printWindows() {
+		long now = System.currentTimeMillis();
+		Map<String, Map<String, String>> windows = new LinkedHashMap<>();
+		for (int windowMinutes : WINDOW_MINUTES) {
+			// 1分钟窗口使用秒级时间桶，更长的窗口使用分钟级时间桶
+			Ring ring = windowMinutes == 1 ? seconds : minutes;
+			long[] sum = ring.sum(now, windowMinutes * 60000L);
+			long spend = Math.max(Math.min(ring.coveredMillis(now, windowMinutes * 60000L), now - createTime), 1L);
+			windows.put(windowMinutes + "m", print(sum, spend));
+		}
+		return windows;
+	}
+
+	/**
+	 * 输出一个窗口的统计
+	 *
+	 * @param sum   各项合计
+	 * @param spend 窗口实际覆盖的时间(毫秒)
+	 * @return {times:请求次数,hit:..,failure:..,exception:..,qps:每秒请求次数,hitRatio:命中率,avgOfLoadSpend:平均加载耗时(毫秒)}
+	 */
+	private static Map<String, String> print(long[] sum, long spend) {
+		long times = sum[HIT] + sum[FAILURE];
+		Map<String, String> window = new LinkedHashMap<>();
+		window.put("times", String.valueOf(times));
+		window.put("hit", String.valueOf(sum[HIT]));
+		window.put("failure", String.valueOf(sum[FAILURE]));
+		window.put("exception", String.valueOf(sum[EXCEPTION]));
+		window.put("qps", BigDecimal.valueOf(times * 1000L).divide(BigDecimal.valueOf(spend), 2,
+				BigDecimal.ROUND_HALF_UP).toPlainString());
+		window.put("hitRatio", times == 0L ? "" : BigDecimal.valueOf(sum[HIT]).divide(BigDecimal.valueOf(times), 4,
+				BigDecimal.ROUND_HALF_UP).toPlainString());
+		window.put("avgOfLoadSpend", sum[LOAD] == 0L ? "" : BigDecimal.valueOf(sum[LOAD_NANOS]).divide(
+				BigDecimal.valueOf(sum[LOAD] * 1000000L), 3, BigDecimal.ROUND_HALF_UP).toPlainString());
+		return window;
+	}
+
+	/**
+	 * 环形时间桶
+	 */
+	private static class Ring implements Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * 每个桶的时长(毫秒)
+		 */
+		private final long bucketMillis;
+
+		/**
+		 * 桶数
+		 */
+		private final int size;
+
+		/**
+		 * 各个桶当前所属的时间段(时间戳 / bucketMillis)
+		 */
+		private final AtomicLongArray periods;
+
+		/**
+		 * 各个桶的数据，每个桶占 FIELD_COUNT 个位置
+		 */
+		private final AtomicLongArray values;
+
+		private Ring(long bucketMillis, int size) {
+			this.bucketMillis = bucketMillis;
+			this.size = size;
+			this.periods = new AtomicLongArray(size);
+			this.values = new AtomicLongArray(size * FIELD_COUNT);
+		}
+
+		private void record(long now, boolean hit, boolean exception, long loadNanos, int weight) {
+			int offset = bucket(now) * FIELD_COUNT;
+			if (exception) {
+				values.addAndGet(offset + EXCEPTION, weight);
+			} else {
+				values.addAndGet(offset + (hit ? HIT : FAILURE), weight);
+			}
+			if (!hit || exception) {
+				values.addAndGet(offset + LOAD, weight);
+				values.addAndGet(offset + LOAD_NANOS, loadNanos * weight);
+			}
+		}
+
+		/**
+		 * 获取当前时间所在的桶
+		 * 桶属于已过期的时间段时，由抢到的线程清零后复用。清零与其他线程写入之间存在竞争，可能丢失个别记录，对速率的影响可以忽略
+		 */
+		private int bucket(long now) {
+			long period = now / bucketMillis;
+			int index = (int) (period % size);
+			long current = periods.get(index);
+			if (current < period && periods.compareAndSet(index, current, period)) {
+				int offset = index * FIELD_COUNT;
+				for (int i = 0; i < FIELD_COUNT; i++) {
+					values.set(offset + i, 0L);
+				}
+			}
+			return index;
+		}
+
+		/**
+		 * 合计最近一段时间的数据
+		 *
+		 * @param now          当前时间
+		 * @param windowMillis 窗口时长(毫秒)
+		 * @return 各项合计
+		 */
+		private long[] sum(long now, long windowMillis) {
+			long period = now / bucketMillis;
+			long oldest = period - Math.min(windowMillis / bucketMillis, size) + 1L;
+			long[] sum = new long[FIELD_COUNT];
+			for (int index = 0; index < size; index++) {
+				long bucketPeriod = periods.get(index);
+				if (bucketPeriod < oldest || bucketPeriod > period) {
+					continue;
+				}
+				int offset = index * FIELD_COUNT;
+				for (int i = 0; i < FIELD_COUNT; i++) {
+					sum[i] += values.get(offset + i);
+				}
+			}
+			return sum;
+		}
+
+		/**
+		 * 窗口实际覆盖的时间
+		 * 当前桶尚未结束，窗口覆盖的时间为最早的桶开始至今
+		 */
+		private long coveredMillis(long now, long windowMillis) {
+			long oldest = now / bucketMillis - Math.min(windowMillis / bucketMillis, size) + 1L;
+			return now - oldest * bucketMillis;
+		}
+	}
+}
@@ -0,0 +1,106 @@
+package love.kill.methodcache.datahelper;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 统计采样
+ * 采样率换算为"每N次请求采样1次"，被采样的请求以权重N记录，次数、耗时合计等计数为无偏估计；
+ * 最小/最大耗时及耗时分布来源于被采样的请求。
+ * 设置了目标采样速率时，根据方法上一秒的请求速率自适应地增大N，使每个方法每秒被采样的次数不超过目标值
+ *
+ * @author Lycop
+ */
+public class StatisticsSampler {
+
+	/**
+	 * 全局采样率
+	 */
+	private final double sampleRate;
+
+	/**
+	 * 每个方法每秒的目标采样次数，小于等于0时不自适应
+	 */
+	private final long targetQps;
+
+	/**
+	 * 方法的请求速率
+	 * 内容：<方法签名,请求速率>
+	 */
+	private final Map<String, Rate> rates = new ConcurrentHashMap<>();
+
+	public StatisticsSampler(double sampleRate, long targetQps) {
+		this.sampleRate = sampleRate;
+		this.targetQps = targetQps;
+	}
+
+	/**
+	 * 采样
+	 *
+	 * @param methodSignature  方法签名
+	 * @param methodSampleRate 方法的采样率，小于0时使用全局采样率
+	 * @return 本次请求的统计权重，0表示不采样
+	 */
+	public int sample(String methodSignature, double methodSampleRate) {
+		double rate = methodSampleRate >= 0D ? methodSampleRate : sampleRate;
+		if (rate <= 0D) {
+			return 0;
+		}
+
+		int interval = rate >= 1D ? 1 : (int) Math.min(Math.round(1D / rate), Integer.MAX_VALUE);
+		if (targetQps > 0L) {
+			Rate methodRate = rates.get(methodSignature);
+			if (methodRate == null) {
+				methodRate = rates.computeIfAbsent(methodSignature, k -> new Rate());
+			}
+			interval = Math.max(interval, methodRate.increment(targetQps));
+		}
+
+		if (interval <= 1) {
+			return 1;
+		}
+		return ThreadLocalRandom.current().nextInt(interval) == 0 ? interval : 0;
+	}
+
+	/**
+	 * 请求速率
+	 */
+	private static class Rate {
+
+		/**
+		 * 当前秒的请求次数
+		 */
+		private final LongAdder calls = new LongAdder();
+
+		/**
+		 * 当前秒(时间戳 / 1000)
+		 */
+		private final AtomicLong period = new AtomicLong(System.currentTimeMillis() / 1000L);
+
+		/**
+		 * 自适应的采样间隔
+		 */
+		private volatile int interval = 1;
+
+		/**
+		 * 记录一次请求
+		 * 进入新的一秒时，由抢到的线程根据上一段时间的请求速率重新计算采样间隔
+		 *
+		 * @param targetQps 每秒的目标采样次数
+		 * @return 采样间隔
+		 */
+		private int increment(long targetQps) {
+			calls.increment();
+			long now = System.currentTimeMillis() / 1000L;
+			long current = period.get();
+			if (now > current && period.compareAndSet(current, now)) {
+				long qps = calls.sumThenReset() / (now - current);
+				interval = (int) Math.min(Math.max((qps + targetQps - 1L) / targetQps, 1L), Integer.MAX_VALUE);
+			}
+			return interval;
+		}
+	}
+}
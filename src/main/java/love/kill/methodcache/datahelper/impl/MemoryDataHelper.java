@@ -3,12 +3,18 @@ package love.kill.methodcache.datahelper.impl;
 import love.kill.methodcache.MethodcacheProperties;
 
 import love.kill.methodcache.SpringApplicationProperties;
+import love.kill.methodcache.datahelper.CacheDataHeader;
 import love.kill.methodcache.datahelper.CacheDataModel;
+import love.kill.methodcache.datahelper.CacheMetrics;
 import love.kill.methodcache.datahelper.CacheStatisticsModel;
 import love.kill.methodcache.datahelper.DataHelper;
+import love.kill.methodcache.datahelper.RefreshScheduler;
+import love.kill.methodcache.datahelper.StatisticsSampler;
+import love.kill.methodcache.jfr.CacheEvents;
 import love.kill.methodcache.util.DataUtil;
 import love.kill.methodcache.MemoryMonitor;
 import love.kill.methodcache.util.SerializeUtil;
+import love.kill.methodcache.util.ThreadPoolBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.util.StringUtils;
@@ -34,7 +40,10 @@ public class MemoryDataHelper implements DataHelper {
 
 	private static Logger logger = LoggerFactory.getLogger(MemoryDataHelper.class);
 
-	private static final ExecutorService executorService = Executors.newFixedThreadPool(10);
+	/**
+	 * 缓存存储介质(JFR事件)
+	 */
+	private static final String CACHE_STORE = "Memory";
 
 	/**
 	 * 缓存数据
@@ -44,10 +53,17 @@ public class MemoryDataHelper implements DataHelper {
 
 	/**
 	 * 缓存数据过期信息
+	 * 包含所有缓存数据，用于移除过期数据及按过期时间顺序淘汰数据
 	 * 内容：<过期时间(时间戳，毫秒),<方法签名,[缓存哈希值]>>
 	 */
 	private final static Map<Long, Map<String, Set<Integer>>> dataExpireInfo = new ConcurrentHashMap<>();
 
+	/**
+	 * 永久有效数据在过期信息中的过期时间
+	 * 排在所有数据之后，不会过期，仅在淘汰或回收时移除
+	 */
+	private final static long PERMANENT_EXPIRE_TIME = Long.MAX_VALUE;
+
 	/**
 	 * 缓存统计
 	 * 内容：<方法签名, 缓存情况>
@@ -79,15 +95,43 @@ public class MemoryDataHelper implements DataHelper {
 	 */
 	private static AtomicInteger cacheDataCount = new AtomicInteger(0);
 
+	/**
+	 * 空结果缓存个数
+	 */
+	private static AtomicInteger negativeCount = new AtomicInteger(0);
+
+	/**
+	 * 刷新调度
+	 */
+	private static final RefreshScheduler refreshScheduler = new RefreshScheduler();
+
 
 	/**
 	 * GC阈值
 	 */
 	private final double gcThreshold;
 
+	/**
+	 * 最大缓存个数
+	 */
+	private final int maxSize;
+
+	/**
+	 * 空结果最大缓存个数
+	 */
+	private final int negativeMaxSize;
+
+	/**
+	 * 统计采样
+	 */
+	private final StatisticsSampler statisticsSampler;
+
 	public MemoryDataHelper(MethodcacheProperties methodcacheProperties, SpringApplicationProperties springApplicationProperties,
 							MemoryMonitor memoryMonitor) {
 		this.methodcacheProperties = methodcacheProperties;
+		ThreadPoolBuilder.configure(methodcacheProperties.getExecutorCoreSize(), methodcacheProperties.getExecutorMaxSize(),
+				methodcacheProperties.getExecutorQueueCapacity(), methodcacheProperties.getExecutorShutdownTimeout(),
+				methodcacheProperties.isExecutorVirtualThreads(), methodcacheProperties.getExecutorVirtualConcurrency());
 
 		if (StringUtils.isEmpty(this.applicationName = methodcacheProperties.getName())) {
 			this.applicationName = springApplicationProperties.getName();
@@ -95,11 +139,15 @@ public class MemoryDataHelper implements DataHelper {
 
 		this.gcThreshold = new BigDecimal(methodcacheProperties.getGcThreshold())
 				.divide(new BigDecimal(100), 2, BigDecimal.ROUND_HALF_UP).doubleValue();
+		this.maxSize = methodcacheProperties.getMemoryMaxSize();
+		this.negativeMaxSize = methodcacheProperties.getNegativeMaxSize();
+		this.statisticsSampler = new StatisticsSampler(methodcacheProperties.getStatisticsSampleRate(),
+				methodcacheProperties.getStatisticsTargetQps());
 
 
 		// 移除过期数据
-		Executors.newSingleThreadExecutor().execute(() -> {
-			while (true) {
+		ThreadPoolBuilder.startDaemonThread("memory-expiration", () -> {
+			while (!Thread.currentThread().isInterrupted()) {
 				List<Long> expireTimeStampKeyList;
 				try {
 					cacheDataLock.lock();
@@ -109,7 +157,7 @@ public class MemoryDataHelper implements DataHelper {
 						continue;
 					}
 
-					expireTimeStampKeyList.sort((l1, l2) -> (int) (l1 - l2));
+					expireTimeStampKeyList.sort(Long::compare);
 					long nowTimeStamp = new Date().getTime();
 					for (long expireTimeStamp : expireTimeStampKeyList) {
 						if (expireTimeStamp > nowTimeStamp) {
@@ -121,7 +169,7 @@ public class MemoryDataHelper implements DataHelper {
 						Map<String, Set<Integer>> methodArgsHashCodeMap = dataExpireInfo.get(expireTimeStamp);
 						for (String methodSignature : new HashSet<>(methodArgsHashCodeMap.keySet())) {
 							Set<Integer> cacheHashCodeSet = methodArgsHashCodeMap.get(methodSignature);
-							for (Integer cacheHashCode : cacheHashCodeSet) {
+							for (Integer cacheHashCode : new ArrayList<>(cacheHashCodeSet)) {
 								doRemoveData(methodSignature, cacheHashCode);
 							}
 							methodArgsHashCodeMap.remove(methodSignature);
@@ -133,30 +181,12 @@ public class MemoryDataHelper implements DataHelper {
 					try {
 						Thread.sleep(500);
 					} catch (InterruptedException e) {
-						e.printStackTrace();
+						Thread.currentThread().interrupt();
 					}
 				}
 			}
 		});
 
-		// 统计
-		if (methodcacheProperties.isEnableStatistics()) {
-			Executors.newSingleThreadExecutor().execute(() -> {
-				while (true) {
-					try {
-						CacheStatisticsNode statisticsNode = cacheStatisticsInfoQueue.take();
-						synchronized (cacheStatistics) {
-							String methodSignature = statisticsNode.getMethodSignature();
-							CacheStatisticsModel statisticsModel = increaseStatistics(getCacheStatistics(methodSignature), statisticsNode);
-							setCacheStatistics(methodSignature, statisticsModel);
-						}
-					} catch (Exception e) {
-						e.printStackTrace();
-					}
-				}
-			});
-		}
-
 		if (memoryMonitor != null) {
 			// 监听内存状况
 			memoryMonitor.sub(this::gc);
@@ -165,16 +195,19 @@ public class MemoryDataHelper implements DataHelper {
 
 
 	@Override
-	public Object getData(Object proxy, Method method, Object[] args, String isolationSignal, boolean refreshData,
+	public Object getData(Object proxy, Method method, Object[] args, boolean refreshData,
 						  ActualDataFunctional actualDataFunctional, String id, String remark,
 						  boolean nullable, boolean shared) throws Throwable {
 
 		long startTime = new Date().getTime();
+		long startNanoTime = System.nanoTime();
 		String methodSignature = method.toGenericString(); // 方法签名
 		int methodSignatureHashCode = methodSignature.hashCode(); // 方法签名哈希值
 		int argsHashCode = DataUtil.getArgsHashCode(args); // 入参哈希值
 		String argsStr = Arrays.toString(args); // 入参
-		int cacheHashCode = getCacheHashCode(applicationName, methodSignatureHashCode, argsHashCode, isolationSignal); // 缓存哈希值
+		int statisticsWeight = methodcacheProperties.isEnableStatistics() ?
+				statisticsSampler.sample(methodSignature, actualDataFunctional.getStatisticsSampleRate()) : 0; // 统计权重
+		int cacheHashCode = getCacheHashCode(applicationName, methodSignatureHashCode, argsHashCode); // 缓存哈希值
 		if (StringUtils.isEmpty(id)) {
 			id = String.valueOf(methodSignature.hashCode());
 		}
@@ -201,7 +234,9 @@ public class MemoryDataHelper implements DataHelper {
 		if (!hit) {
 			try {
 				// 加锁再次获取
+				long lockStartNanoTime = System.nanoTime();
 				cacheDataLock.lock();
+				CacheMetrics.recordLockWait(System.nanoTime() - lockStartNanoTime);
 				cacheDataModel = getDataFromMemory(methodSignature, cacheHashCode, shared);
 			}finally {
 				cacheDataLock.unlock();
@@ -224,9 +259,12 @@ public class MemoryDataHelper implements DataHelper {
 
 			if (!hit) {
 				Object data;
+				long loadStartNanoTime = System.nanoTime();
+				Object loadEvent = CacheEvents.beginLoad();
 				try {
 					// 发起实际请求
 					data = actualDataFunctional.getActualData();
+					CacheEvents.endLoad(loadEvent, CACHE_STORE, methodSignature, id, cacheHashCode, true);
 					log(String.format(	"\n ************* CacheData *************" +
 										"\n ** ----------- 发起请求 ----------- **" +
 										"\n ** 执行对象：%s" +
@@ -239,6 +277,7 @@ public class MemoryDataHelper implements DataHelper {
 							argsStr,
 							data));
 				} catch (Throwable throwable) {
+					CacheEvents.endLoad(loadEvent, CACHE_STORE, methodSignature, id, cacheHashCode, false);
 					throwable.printStackTrace();
 					String uuid = UUID.randomUUID().toString().trim().replaceAll("-", "");
 					logger.info("\n ************* CacheData *************" +
@@ -246,39 +285,109 @@ public class MemoryDataHelper implements DataHelper {
 								"\n ** 异常信息(UUID=" + uuid + ")：" + throwable.getMessage() + "\n" + printStackTrace(throwable.getStackTrace()) +
 								"\n *************************************");
 
-					if (methodcacheProperties.isEnableStatistics()) {
+					if (statisticsWeight > 0) {
 						recordStatistics(cacheKey, methodSignature, methodSignatureHashCode, argsStr, argsHashCode, cacheHashCode,
-								id, remark, hit, true, printStackTrace(throwable, uuid), startTime, new Date().getTime());
+								id, remark, hit, true, printStackTrace(throwable, uuid), startTime, new Date().getTime(),
+								System.nanoTime() - startNanoTime, actualLoadNanos(actualDataFunctional,
+										System.nanoTime() - loadStartNanoTime), statisticsWeight);
 					}
 
 					throw throwable;
 				}
 
-				if (methodcacheProperties.isEnableStatistics()) {
+				long loadNanos = System.nanoTime() - loadStartNanoTime;
+				if (statisticsWeight > 0) {
+					// 命中下级缓存(多级缓存)时统计为命中，仅实际请求计入加载耗时
+					boolean lowerCacheHit = actualDataFunctional.isLowerCacheHit();
 					recordStatistics(cacheKey, methodSignature, methodSignatureHashCode, argsStr, argsHashCode, cacheHashCode,
-							id, remark, hit, false, "", startTime, new Date().getTime());
+							id, remark, lowerCacheHit, false, "", startTime, new Date().getTime(),
+							System.nanoTime() - startNanoTime, lowerCacheHit ? 0L :
+									actualLoadNanos(actualDataFunctional, loadNanos), statisticsWeight);
 				}
 
 				if (isNotNull(data, nullable)) {
-					long expirationTime = actualDataFunctional.getExpirationTime();
-					refreshData(proxy, data, expirationTime, applicationName, actualDataFunctional, nullable, methodSignature, argsStr, cacheHashCode, id, remark);
+					long expirationTime = data != null ? actualDataFunctional.getExpirationTime() :
+							actualDataFunctional.getNegativeExpirationTime();
+					refreshData(proxy, data != null ? data : NullObject.INSTANCE, expirationTime, loadNanos / 1000000L,
+							applicationName, actualDataFunctional, nullable, methodSignature, argsStr, cacheHashCode, id,
+							remark);
 				}
 				return data;
 			}
 		}
 
-		if (methodcacheProperties.isEnableStatistics()) {
+		if (statisticsWeight > 0) {
 			recordStatistics(cacheKey, methodSignature, methodSignatureHashCode, argsStr, argsHashCode,
-					cacheHashCode, id, remark, hit, false, "", startTime, new Date().getTime());
+					cacheHashCode, id, remark, hit, false, "", startTime, new Date().getTime(),
+					System.nanoTime() - startNanoTime, 0L, statisticsWeight);
 		}
-
-		if (refreshData) {
-			refreshData(proxy, null, -1, applicationName, actualDataFunctional, nullable, methodSignature, argsStr, cacheHashCode, id, remark);
+		CacheEvents.hit(CACHE_STORE, methodSignature, id, cacheHashCode);
+
+		if (refreshScheduler.isRefreshDue(cacheKey, refreshData, cacheDataModel, actualDataFunctional)) {
+			String cacheId = id;
+			refreshScheduler.refresh(cacheKey, actualDataFunctional.getRefreshInterval(),
+					ThreadPoolBuilder.getExecutor(ThreadPoolBuilder.Purpose.REFRESH),
+					() -> doRefreshData(proxy, null, -1, -1, applicationName, actualDataFunctional, nullable, methodSignature,
+							argsStr, cacheHashCode, cacheId, remark));
 		}
 
 		return cacheDataModel.getData();
 	}
 
+	@Override
+	public List<CacheDataModel> getBatchCacheData(Method method, List<Object[]> elementArgs, int batchIndex,
+												  String id, boolean shared) {
+		String methodSignature = method.toGenericString(); // 方法签名
+		int methodSignatureHashCode = methodSignature.hashCode(); // 方法签名哈希值
+
+		List<CacheDataModel> cacheDataModels = new ArrayList<>(elementArgs.size());
+		for (Object[] args : elementArgs) {
+			int cacheHashCode = getCacheHashCode(applicationName, methodSignatureHashCode,
+					DataUtil.getArgsHashCode(args, batchIndex)); // 缓存哈希值
+			cacheDataModels.add(getDataFromMemory(methodSignature, cacheHashCode, shared));
+		}
+		return cacheDataModels;
+	}
+
+	@Override
+	public void setBatchCacheData(Method method, List<Object[]> elementArgs, int batchIndex, List<Object> data,
+								  long loadSpend, ActualDataFunctional actualDataFunctional,
+								  String id, String remark) {
+		String methodSignature = method.toGenericString(); // 方法签名
+		int methodSignatureHashCode = methodSignature.hashCode(); // 方法签名哈希值
+		String cacheId = StringUtils.isEmpty(id) ? String.valueOf(methodSignatureHashCode) : id;
+		long expirationTime = actualDataFunctional.getExpirationTime();
+		long negativeExpirationTime = actualDataFunctional.getNegativeExpirationTime();
+		long staleExpiration = actualDataFunctional.getStaleExpiration();
+
+		ThreadPoolBuilder.getExecutor(ThreadPoolBuilder.Purpose.IO).execute(() -> {
+			try {
+				cacheDataLock.lock();
+				for (int i = 0; i < elementArgs.size(); i++) {
+					Object[] args = elementArgs.get(i);
+					Object eachData = data.get(i);
+					int cacheHashCode = getCacheHashCode(applicationName, methodSignatureHashCode,
+							DataUtil.getArgsHashCode(args, batchIndex)); // 缓存哈希值
+					setDataToMemory(applicationName, methodSignature, Arrays.toString(args), cacheHashCode, eachData,
+							eachData instanceof NullObject ? negativeExpirationTime : expirationTime, staleExpiration,
+							loadSpend, cacheId, remark);
+				}
+				log(String.format(	"\n ************* CacheData *************" +
+									"\n ** ------- 批量缓存数据至内存 ------- **" +
+									"\n ** 方法签名：%s" +
+									"\n ** 缓存个数：%s" +
+									"\n *************************************",
+						methodSignature,
+						elementArgs.size()));
+			} catch (Exception e) {
+				e.printStackTrace();
+				logger.error("批量缓存数据至内存出现异常：" + e.getMessage());
+			} finally {
+				cacheDataLock.unlock();
+			}
+		});
+	}
+
 	@Override
 	public Map<String, Map<String, Object>> getCaches(String match) {
 
@@ -295,6 +404,9 @@ public class MemoryDataHelper implements DataHelper {
 			if (StringUtils.isEmpty(match)) {
 				dataModelSet = new HashSet<>();
 				for(String s : dataModelMap.values()){
+					if (isExpired(s)) {
+						continue;
+					}
 					CacheDataModel cacheDataModel = string2CacheDataModel(s);
 					if(cacheDataModel == null || cacheDataModel.isExpired()){
 						continue;
@@ -306,7 +418,11 @@ public class MemoryDataHelper implements DataHelper {
 
 				dataModelSet = new HashSet<>();
 				for (Integer cacheHashCode : new HashSet<>(dataModelMap.keySet())) {
-					CacheDataModel cacheDataModel = string2CacheDataModel(dataModelMap.get(cacheHashCode));
+					String s = dataModelMap.get(cacheHashCode);
+					if (isExpired(s)) {
+						continue;
+					}
+					CacheDataModel cacheDataModel = string2CacheDataModel(s);
 					if(cacheDataModel == null || cacheDataModel.isExpired()){
 						continue;
 					}
@@ -344,7 +460,21 @@ public class MemoryDataHelper implements DataHelper {
 				Iterator<Integer> iterator = dataModelMap.keySet().iterator();
 				while (iterator.hasNext()) {
 					Integer key = iterator.next();
-					CacheDataModel cacheDataModel = string2CacheDataModel(dataModelMap.get(key));
+					String s = dataModelMap.get(key);
+					CacheDataHeader header = string2Header(s);
+					if (header == null || header.isExpired()) {
+						continue;
+					}
+					if (!StringUtils.isEmpty(id) || !StringUtils.isEmpty(cacheHashCode)) {
+						// 先通过数据头匹配，匹配后再反序列化
+						boolean idMatched = !StringUtils.isEmpty(id) &&
+								header.getIdHashCode() == CacheDataHeader.idHashCode(id);
+						if (!idMatched && !String.valueOf(header.getCacheHashCode()).equals(cacheHashCode)) {
+							continue;
+						}
+					}
+
+					CacheDataModel cacheDataModel = string2CacheDataModel(s);
 					if (cacheDataModel == null || cacheDataModel.isExpired()) {
 						continue;
 					}
@@ -361,6 +491,7 @@ public class MemoryDataHelper implements DataHelper {
 						filterDataModel(delCacheMap, cacheDataModel, "");
 
 						iterator.remove();
+						released(header);
 					}
 				}
 			}
@@ -409,21 +540,74 @@ public class MemoryDataHelper implements DataHelper {
 	}
 
 	@Override
-	public void wipeStatistics(CacheStatisticsModel cacheStatisticsModel) {
-		synchronized (cacheStatistics) {
-			cacheStatistics.remove(cacheStatisticsModel.getMethodSignature());
+	public CacheStatisticsModel getLocalStatistics(String cacheKey, String methodSignature,
+												   int methodSignatureHashCode, String id, String remark) {
+		CacheStatisticsModel statisticsModel = cacheStatistics.get(methodSignature);
+		if (statisticsModel != null) {
+			return statisticsModel;
 		}
+		return cacheStatistics.computeIfAbsent(methodSignature,
+				k -> new CacheStatisticsModel(cacheKey, methodSignature, methodSignatureHashCode, id, remark));
+	}
+
+	@Override
+	public Map<String, CacheStatisticsModel> getLocalStatistics() {
+		return cacheStatistics;
+	}
+
+	@Override
+	public long getCacheCount() {
+		return getCacheDataCount();
+	}
+
+	@Override
+	public long getCacheSize() {
+		return getCacheDataSize();
+	}
+
+	@Override
+	public int getRefreshingCount() {
+		return refreshScheduler.getRefreshingCount();
+	}
+
+	@Override
+	public void wipeStatistics(CacheStatisticsModel cacheStatisticsModel) {
+		cacheStatistics.remove(cacheStatisticsModel.getMethodSignature());
 	}
 
 	@Override
 	public Map<String, CacheStatisticsModel> wipeStatisticsAll() {
-		Map<String, CacheStatisticsModel> resultMap = new ConcurrentHashMap<>(cacheStatistics);
-		synchronized (cacheStatistics) {
-			cacheStatistics.clear();
+		Map<String, CacheStatisticsModel> resultMap = new HashMap<>();
+		for (String methodSignature : cacheStatistics.keySet()) {
+			CacheStatisticsModel statisticsModel = cacheStatistics.remove(methodSignature);
+			if (statisticsModel != null) {
+				resultMap.put(methodSignature, statisticsModel);
+			}
 		}
 		return resultMap;
 	}
 
+	/**
+	 * 移除数据
+	 * 移除所有方法签名下指定缓存哈希值的数据
+	 *
+	 * @param cacheHashCode 缓存哈希值
+	 */
+	public void removeData(int cacheHashCode) {
+		try {
+			cacheDataLock.lock();
+			for (Map.Entry<String, Map<Integer, String>> entry : new HashSet<>(cacheData.entrySet())) { // <方法签名,<缓存哈希值,数据>>
+				CacheDataHeader removed = string2Header(entry.getValue().remove(cacheHashCode));
+				if (removed != null) {
+					released(removed);
+					unindex(entry.getKey(), cacheHashCode, removed);
+				}
+			}
+		} finally {
+			cacheDataLock.unlock();
+		}
+	}
+
 	/****************************************************************** 私有方法 start ******************************************************************/
 
 	/**
@@ -432,6 +616,7 @@ public class MemoryDataHelper implements DataHelper {
 	 * @param proxy    	  			  执行对象
 	 * @param data			    	  数据
 	 * @param expirationTime    	  数据过期时间
+	 * @param loadSpend    	  		  获取数据的耗时(毫秒)
 	 * @param applicationName    	  应用名
 	 * @param actualDataFunctional    真实数据请求
 	 * @param nullable                返回值允许为空
@@ -440,60 +625,89 @@ public class MemoryDataHelper implements DataHelper {
 	 * @param id                      缓存ID
 	 * @param remark                  缓存备注
 	 */
-	private void refreshData(final Object proxy, final Object data, long expirationTime, String applicationName,
-							 ActualDataFunctional actualDataFunctional, boolean nullable, String methodSignature,
-							 String argsStr, int cacheHashCode, String id, String remark) {
-
-		executorService.execute(() -> {
+	private void refreshData(final Object proxy, final Object data, long expirationTime, long loadSpend,
+							 String applicationName, ActualDataFunctional actualDataFunctional, boolean nullable,
+							 String methodSignature, String argsStr, int cacheHashCode, String id, String remark) {
 
-			Object saveData;
-			long saveExpirationTime;
+		ThreadPoolBuilder.getExecutor(ThreadPoolBuilder.Purpose.IO).execute(() -> doRefreshData(proxy, data,
+				expirationTime, loadSpend, applicationName, actualDataFunctional, nullable, methodSignature, argsStr, cacheHashCode,
+				id, remark));
+	}
 
-			if(data != null){
-				saveData = data;
-				saveExpirationTime = expirationTime;
-			}else {
-				saveData = new NullObject();
-				saveExpirationTime = actualDataFunctional.getExpirationTime();
-				try {
-					saveData = actualDataFunctional.getActualData();
-				} catch (Throwable throwable) {
-					throwable.printStackTrace();
-					String uuid = UUID.randomUUID().toString().trim().replaceAll("-", "");
-					logger.info("\n ************* CacheData *************" +
-								"\n ** ----- 更新数据至内存发生异常 ----- **" +
-								"\n 异常信息(UUID=" + uuid + ")：" + throwable.getMessage() + "\n" +
-								printStackTrace(throwable.getStackTrace()) +
-								"\n *************************************");
-				}
+	/**
+	 * 刷新数据(同步)
+	 *
+	 * @param proxy    	  			  执行对象
+	 * @param data			    	  数据，为null时发起实际请求
+	 * @param expirationTime    	  数据过期时间
+	 * @param loadSpend    	  		  获取数据的耗时(毫秒)，data为null时取实际请求的耗时
+	 * @param applicationName    	  应用名
+	 * @param actualDataFunctional    真实数据请求
+	 * @param nullable                返回值允许为空
+	 * @param methodSignature         方法签名
+	 * @param argsStr                 方法参数
+	 * @param id                      缓存ID
+	 * @param remark                  缓存备注
+	 */
+	private void doRefreshData(final Object proxy, final Object data, long expirationTime, long loadSpend,
+							   String applicationName, ActualDataFunctional actualDataFunctional, boolean nullable,
+							   String methodSignature, String argsStr, int cacheHashCode, String id, String remark) {
+
+		Object saveData;
+		long saveExpirationTime;
+		long saveLoadSpend;
+
+		if(data != null){
+			saveData = data;
+			saveExpirationTime = expirationTime;
+			saveLoadSpend = loadSpend;
+		}else {
+			long dataExpirationTime = actualDataFunctional.getExpirationTime();
+			long negativeExpirationTime = actualDataFunctional.getNegativeExpirationTime();
+			long loadStartNanoTime = System.nanoTime();
+			try {
+				saveData = actualDataFunctional.getActualData();
+			} catch (Throwable throwable) {
+				throwable.printStackTrace();
+				String uuid = UUID.randomUUID().toString().trim().replaceAll("-", "");
+				logger.info("\n ************* CacheData *************" +
+							"\n ** ----- 更新数据至内存发生异常 ----- **" +
+							"\n 异常信息(UUID=" + uuid + ")：" + throwable.getMessage() + "\n" +
+							printStackTrace(throwable.getStackTrace()) +
+							"\n *************************************");
+				// 请求失败时保留已有的缓存数据(包括旧数据)，不写入空数据
+				return;
 			}
+			saveLoadSpend = (System.nanoTime() - loadStartNanoTime) / 1000000L;
+			saveExpirationTime = (saveData == null || saveData instanceof NullObject) ? negativeExpirationTime :
+					dataExpirationTime;
+		}
 
 
 
-			if (isNotNull(saveData, nullable)) {
-				try {
-					cacheDataLock.lock();
-					setDataToMemory(applicationName, methodSignature, argsStr, cacheHashCode,
-							saveData != null ? saveData : new NullObject() , saveExpirationTime, id, remark);
-					log(String.format(	"\n ************* CacheData *************" +
-										"\n ** --------- 刷新缓存至内存 -------- **" +
-										"\n ** 执行对象：%s" +
-										"\n ** 方法签名：%s" +
-										"\n ** 方法入参：%s" +
-										"\n ** 缓存数据：%s" +
-										"\n ** 过期时间：%s" +
-										"\n *************************************",
-								proxy,
-								methodSignature,
-								argsStr,
-								saveData,
-								formatDate(saveExpirationTime)));
-				} finally {
-					cacheDataLock.unlock();
-				}
+		if (isNotNull(saveData, nullable)) {
+			try {
+				cacheDataLock.lock();
+				setDataToMemory(applicationName, methodSignature, argsStr, cacheHashCode,
+						saveData != null ? saveData : NullObject.INSTANCE, saveExpirationTime,
+						actualDataFunctional.getStaleExpiration(), saveLoadSpend, id, remark);
+				log(String.format(	"\n ************* CacheData *************" +
+									"\n ** --------- 刷新缓存至内存 -------- **" +
+									"\n ** 执行对象：%s" +
+									"\n ** 方法签名：%s" +
+									"\n ** 方法入参：%s" +
+									"\n ** 缓存数据：%s" +
+									"\n ** 过期时间：%s" +
+									"\n *************************************",
+							proxy,
+							methodSignature,
+							argsStr,
+							saveData,
+							formatDate(saveExpirationTime)));
+			} finally {
+				cacheDataLock.unlock();
 			}
-
-		});
+		}
 	}
 
 	/**
@@ -513,10 +727,19 @@ public class MemoryDataHelper implements DataHelper {
 
 		}
 
-		CacheDataModel cacheDataModel = string2CacheDataModel(cacheDataModelMap.get(cacheHashCode));
+		String s = cacheDataModelMap.get(cacheHashCode);
+		if (isExpired(s)) {
+			// 已过期，无需反序列化
+			return null;
+		}
 
-		if(!shared){
-			// 独享数据
+		CacheDataModel cacheDataModel = string2CacheDataModel(s);
+		if (cacheDataModel == null) {
+			return null;
+		}
+
+		if(!shared || cacheDataModel.isNullData()){
+			// 独享数据、空结果
 			return cacheDataModel;
 		}
 
@@ -532,14 +755,19 @@ public class MemoryDataHelper implements DataHelper {
 	 * @param cacheHashCode   缓存哈希值
 	 * @param data            数据
 	 * @param expireTime      过期时间
+	 * @param staleExpiration 旧数据有效期
+	 * @param loadSpend       获取数据的耗时(毫秒)
 	 * @param id		      缓存ID
 	 * @param remark		  缓存备注
 	 */
 	private void setDataToMemory(String applicationName, String methodSignature, String args, int cacheHashCode,
-								 Object data, long expireTime, String id, String remark) {
+								 Object data, long expireTime, long staleExpiration, long loadSpend, String id,
+								 String remark) {
 
 		CacheDataModel cacheDataModel = new CacheDataModel(applicationName, methodSignature, args, cacheHashCode, data,
 				expireTime);
+		cacheDataModel.setStaleExpiration(staleExpiration);
+		cacheDataModel.setLoadSpend(loadSpend);
 
 		if (!StringUtils.isEmpty(id)) {
 			cacheDataModel.setId(id);
@@ -563,21 +791,112 @@ public class MemoryDataHelper implements DataHelper {
 		String methodSignature = cacheDataModel.getMethodSignature();
 		int cacheHashCode = cacheDataModel.getCacheHashCode();
 
-		Map<Integer, String> cacheDataModelMap = cacheData.computeIfAbsent(methodSignature, k -> new HashMap<>());
-		cacheDataModelMap.put(cacheHashCode, SerializeUtil.byteArray2String(SerializeUtil.serizlize(cacheDataModel)));
+		if (maxSize > 0 && getCacheDataCount() >= maxSize) {
+			// 达到最大缓存个数，按过期时间顺序淘汰数据
+			evictData(getCacheDataCount() - maxSize + Math.max(maxSize / 10, 1));
+		}
 
-		long expireTime = cacheDataModel.getExpireTime();
+		boolean negative = cacheDataModel.isNullData();
+		if (negative && negativeMaxSize > 0 && negativeCount.get() >= negativeMaxSize) {
+			// 达到空结果最大缓存个数，仅允许替换已有的空结果
+			Map<Integer, String> cacheDataModelMap = cacheData.get(methodSignature);
+			if (cacheDataModelMap == null || !CacheDataHeader.isNegative(cacheDataModelMap.get(cacheHashCode))) {
+				return;
+			}
+		}
 
-		if (expireTime > 0L) {
-			// 记录缓存数据过期信息，用于主动清除过期数据 <过期时间（时间戳，毫秒）,<方法签名,缓存哈希值>>
-			Map<String, Set<Integer>> methodArgsHashCodeMap =
-					dataExpireInfo.computeIfAbsent(expireTime, k -> new HashMap<>());
-			methodArgsHashCodeMap.computeIfAbsent(methodSignature, k -> new HashSet<>()).add(cacheHashCode);
+		Map<Integer, String> cacheDataModelMap = cacheData.computeIfAbsent(methodSignature, k -> new HashMap<>());
+		CacheDataHeader replaced = string2Header(cacheDataModelMap.put(cacheHashCode,
+				cacheDataModel2String(cacheDataModel)));
+		long indexExpireTime = indexExpireTime(cacheDataModel.getExpireTime());
+		if (replaced != null) {
+			released(replaced);
+			if (indexExpireTime(replaced.getExpireTime()) != indexExpireTime) {
+				// 移除被替换数据的过期信息
+				unindex(methodSignature, cacheHashCode, replaced);
+			}
 		}
 
+		// 记录缓存数据过期信息，用于主动清除过期数据及淘汰数据 <过期时间（时间戳，毫秒）,<方法签名,缓存哈希值>>
+		Map<String, Set<Integer>> methodArgsHashCodeMap =
+				dataExpireInfo.computeIfAbsent(indexExpireTime, k -> new HashMap<>());
+		methodArgsHashCodeMap.computeIfAbsent(methodSignature, k -> new HashSet<>()).add(cacheHashCode);
+
 		cacheDataSize.addAndGet(cacheDataModel.getInstanceSize());
 		cacheDataCount.incrementAndGet();
+		if (negative) {
+			negativeCount.incrementAndGet();
+		}
+
+	}
+
+	/**
+	 * 实际请求的耗时
+	 *
+	 * @param actualDataFunctional 真实数据请求
+	 * @param loadNanos            获取数据的耗时(纳秒)
+	 * @return 实际请求的耗时(纳秒)
+	 */
+	private static long actualLoadNanos(ActualDataFunctional actualDataFunctional, long loadNanos) {
+		long actualLoadNanos = actualDataFunctional.getActualLoadNanos();
+		return actualLoadNanos >= 0L ? actualLoadNanos : loadNanos;
+	}
+
+	/**
+	 * 数据在过期信息中的过期时间
+	 *
+	 * @param expireTime 数据过期时间，小于等于0表示永久有效
+	 * @return 过期信息中的过期时间
+	 */
+	private static long indexExpireTime(long expireTime) {
+		return expireTime > 0L ? expireTime : PERMANENT_EXPIRE_TIME;
+	}
+
+	/**
+	 * 移除数据的过期信息
+	 *
+	 * @param methodSignature 方法签名
+	 * @param cacheHashCode   缓存哈希值
+	 * @param header          数据头
+	 */
+	private static void unindex(String methodSignature, Integer cacheHashCode, CacheDataHeader header) {
+		long indexExpireTime = indexExpireTime(header.getExpireTime());
+		Map<String, Set<Integer>> methodArgsHashCodeMap = dataExpireInfo.get(indexExpireTime);
+		if (methodArgsHashCodeMap == null) {
+			return;
+		}
+		Set<Integer> cacheHashCodeSet = methodArgsHashCodeMap.get(methodSignature);
+		if (cacheHashCodeSet != null && cacheHashCodeSet.remove(cacheHashCode) && cacheHashCodeSet.isEmpty()) {
+			methodArgsHashCodeMap.remove(methodSignature);
+			if (methodArgsHashCodeMap.isEmpty()) {
+				dataExpireInfo.remove(indexExpireTime);
+			}
+		}
+	}
+
+	/**
+	 * 过期信息是否与数据一致
+	 * 数据被替换后，旧的过期信息可能仍在，移除数据前需确认
+	 *
+	 * @param header          数据头
+	 * @param indexExpireTime 过期信息中的过期时间
+	 * @return 一致
+	 */
+	private static boolean isIndexed(CacheDataHeader header, long indexExpireTime) {
+		return header != null && indexExpireTime(header.getExpireTime()) == indexExpireTime;
+	}
 
+	/**
+	 * 数据已移除，扣减缓存数据总大小、总个数
+	 *
+	 * @param header 被移除数据的数据头
+	 */
+	private static void released(CacheDataHeader header) {
+		cacheDataSize.addAndGet(-header.getInstanceSize());
+		cacheDataCount.decrementAndGet();
+		if (header.hasFlag(CacheDataHeader.FLAG_NEGATIVE)) {
+			negativeCount.decrementAndGet();
+		}
 	}
 
 	/**
@@ -588,9 +907,16 @@ public class MemoryDataHelper implements DataHelper {
 	 */
 	private void doRemoveData(String methodSignature, Integer cacheHashCode) {
 		try {
-			CacheDataModel cacheDataModel = getDataFromMemory(methodSignature, cacheHashCode, false);
-			if (cacheDataModel != null && cacheDataModel.isExpired()) {
-				doRemoveData(cacheDataModel);
+			Map<Integer, String> cacheDataModelMap = cacheData.get(methodSignature); // <缓存哈希值,数据>
+			if (cacheDataModelMap == null) {
+				return;
+			}
+
+			CacheDataHeader header = string2Header(cacheDataModelMap.get(cacheHashCode));
+			if (header != null && header.isExpired()) {
+				doRemoveData(methodSignature, cacheDataModelMap, cacheHashCode);
+				CacheMetrics.recordExpiration(1L);
+				CacheEvents.eviction(CacheEvents.EXPIRED, methodSignature, cacheHashCode, header.getInstanceSize());
 			}
 
 		} catch (Exception e) {
@@ -604,24 +930,23 @@ public class MemoryDataHelper implements DataHelper {
 	/**
 	 * 移除数据
 	 *
-	 * @param cacheDataModel 要删除的数据
+	 * @param methodSignature   方法签名
+	 * @param cacheDataModelMap 方法签名下的数据
+	 * @param cacheHashCode     缓存哈希值
 	 */
-	private void doRemoveData(CacheDataModel cacheDataModel) {
-		String methodSignature = cacheDataModel.getMethodSignature();
-		int cacheHashCode = cacheDataModel.getCacheHashCode();
+	private void doRemoveData(String methodSignature, Map<Integer, String> cacheDataModelMap, Integer cacheHashCode) {
 		log(String.format(	"\n ************* CacheData *************" +
 							"\n ** ------------ 移除缓存 ---------- **" +
 							"\n ** 方法签名：%s" +
-							"\n ** 方法入参：%s" +
+							"\n ** 缓存哈希值：%s" +
 							"\n *************************************",
 				methodSignature,
-				cacheDataModel.getArgs()));
+				cacheHashCode));
 
-		Map<Integer, String> cacheDataModelMap = cacheData.get(methodSignature); // <缓存哈希值,数据>
-		CacheDataModel removed = string2CacheDataModel(cacheDataModelMap.remove(cacheHashCode));
+		CacheDataHeader removed = string2Header(cacheDataModelMap.remove(cacheHashCode));
 		if (removed != null) {
-			cacheDataSize.addAndGet(-removed.getInstanceSize());
-			cacheDataCount.decrementAndGet();
+			released(removed);
+			unindex(methodSignature, cacheHashCode, removed);
 		}
 
 		if (cacheDataModelMap.isEmpty()) {
@@ -752,7 +1077,7 @@ public class MemoryDataHelper implements DataHelper {
 
 		// 按时间顺序回收缓存数据
 		long deleteInstanceSize = 0L;
-		expireTimeStampKeyList.sort((l1, l2) -> (int) (l1 - l2));
+		expireTimeStampKeyList.sort(Long::compare);
 		for (long eachExpireTimeStamp : expireTimeStampKeyList) {
 			Map<String, Set<Integer>> dataExpireInfoMethodSignatureCacheHashCodeMap = dataExpireInfo.get(eachExpireTimeStamp);
 			for (String dataExpireInfoMethodSignature : new HashSet<>(dataExpireInfoMethodSignatureCacheHashCodeMap.keySet())) {
@@ -761,12 +1086,16 @@ public class MemoryDataHelper implements DataHelper {
 				Iterator<Integer> dataExpireInfoCacheHashCodeIterator = dataExpireInfoCacheHashCodeSet.iterator();
 				while (dataExpireInfoCacheHashCodeIterator.hasNext()) {
 					Integer dataExpireInfoCacheHashCode = dataExpireInfoCacheHashCodeIterator.next();
-					CacheDataModel cacheDataModel = string2CacheDataModel(cacheDataCacheHashCodeModelMap.remove(dataExpireInfoCacheHashCode));
-					if (cacheDataModel != null) {
-						long instanceSize = cacheDataModel.getInstanceSize();
-						cacheDataSize.addAndGet(-instanceSize);
-						cacheDataCount.decrementAndGet();
-						dataExpireInfoCacheHashCodeIterator.remove();
+					CacheDataHeader header = cacheDataCacheHashCodeModelMap == null ? null :
+							string2Header(cacheDataCacheHashCodeModelMap.get(dataExpireInfoCacheHashCode));
+					dataExpireInfoCacheHashCodeIterator.remove();
+					if (isIndexed(header, eachExpireTimeStamp)) {
+						cacheDataCacheHashCodeModelMap.remove(dataExpireInfoCacheHashCode);
+						long instanceSize = header.getInstanceSize();
+						released(header);
+						CacheMetrics.recordEviction(1L);
+						CacheEvents.eviction(CacheEvents.GC, dataExpireInfoMethodSignature, dataExpireInfoCacheHashCode,
+								instanceSize);
 
 						removeDataModel.addCount(1);
 						if (removeDataModel.addSize(instanceSize) >= targetCapacity) { // 累加实例大小
@@ -792,6 +1121,51 @@ public class MemoryDataHelper implements DataHelper {
 		return removeDataModel;
 	}
 
+	/**
+	 * 淘汰数据
+	 * 按过期时间顺序移除指定个数的数据
+	 *
+	 * @param count 淘汰个数
+	 */
+	private void evictData(int count) {
+		List<Long> expireTimeStampKeyList = new ArrayList<>(dataExpireInfo.keySet());
+		expireTimeStampKeyList.sort(Long::compare);
+		for (long expireTimeStamp : expireTimeStampKeyList) {
+			Map<String, Set<Integer>> methodArgsHashCodeMap = dataExpireInfo.get(expireTimeStamp);
+			for (String methodSignature : new HashSet<>(methodArgsHashCodeMap.keySet())) {
+				Map<Integer, String> cacheDataModelMap = cacheData.get(methodSignature);
+				Iterator<Integer> cacheHashCodeIterator = methodArgsHashCodeMap.get(methodSignature).iterator();
+				while (count > 0 && cacheHashCodeIterator.hasNext()) {
+					Integer cacheHashCode = cacheHashCodeIterator.next();
+					cacheHashCodeIterator.remove();
+					CacheDataHeader removed = cacheDataModelMap == null ? null :
+							string2Header(cacheDataModelMap.get(cacheHashCode));
+					if (isIndexed(removed, expireTimeStamp)) {
+						// 过期信息与数据一致时才移除，数据已被替换的过期信息直接丢弃
+						cacheDataModelMap.remove(cacheHashCode);
+						released(removed);
+						CacheMetrics.recordEviction(1L);
+						CacheEvents.eviction(CacheEvents.EVICTED, methodSignature, cacheHashCode,
+								removed.getInstanceSize());
+						count--;
+					}
+				}
+				if (methodArgsHashCodeMap.get(methodSignature).isEmpty()) {
+					methodArgsHashCodeMap.remove(methodSignature);
+				}
+				if (count <= 0) {
+					break;
+				}
+			}
+			if (methodArgsHashCodeMap.isEmpty()) {
+				dataExpireInfo.remove(expireTimeStamp);
+			}
+			if (count <= 0) {
+				return;
+			}
+		}
+	}
+
 	/**
 	 * 获取缓存数据大小
 	 *
@@ -851,13 +1225,59 @@ public class MemoryDataHelper implements DataHelper {
 	 * 注：这里会进行反序列化操作
 	 * */
 	private static CacheDataModel string2CacheDataModel(String str){
-		CacheDataModel cacheDataModel = null;
-		if (!StringUtils.isEmpty(str)) {
-			cacheDataModel = (CacheDataModel) SerializeUtil.deserialize(SerializeUtil.string2ByteArray(str));
+		if (StringUtils.isEmpty(str)) {
+			return null;
+		}
+
+		CacheDataModel cacheDataModel = CacheDataHeader.decodeNegative(str);
+		if (cacheDataModel == null) {
+			// 空结果仅含元信息，其余数据需反序列化
+			cacheDataModel = (CacheDataModel) SerializeUtil.deserialize(
+					SerializeUtil.string2ByteArray(CacheDataHeader.payload(str)));
 		}
 		return cacheDataModel;
 	}
 
+	/**
+	 * CacheDataModel 转 (数据头 + 序列化后的)str
+	 */
+	private static String cacheDataModel2String(CacheDataModel cacheDataModel) {
+		if (cacheDataModel.isNullData()) {
+			// 空结果仅保存元信息，不序列化
+			return CacheDataHeader.encodeNegative(cacheDataModel);
+		}
+		return CacheDataHeader.encode(cacheDataModel, cacheDataModel.isNullData() ? CacheDataHeader.FLAG_NULL : 0) +
+				SerializeUtil.byteArray2String(SerializeUtil.serizlize(cacheDataModel));
+	}
+
+	/**
+	 * 获取(数据头 + 序列化后的)str 的数据头
+	 * 注：这里不会进行反序列化操作，不含数据头时才会反序列化
+	 */
+	private static CacheDataHeader string2Header(String str) {
+		if (StringUtils.isEmpty(str)) {
+			return null;
+		}
+
+		CacheDataHeader header = CacheDataHeader.parse(str);
+		if (header == null) {
+			CacheDataModel cacheDataModel = string2CacheDataModel(str);
+			if (cacheDataModel != null) {
+				header = CacheDataHeader.parse(CacheDataHeader.encode(cacheDataModel, 0));
+			}
+		}
+		return header;
+	}
+
+	/**
+	 * 数据是否已过期
+	 * 仅读取数据头
+	 */
+	private static boolean isExpired(String str) {
+		CacheDataHeader header = string2Header(str);
+		return header != null && header.isExpired();
+	}
+
 	/**
 	 * 打印日志
 	 *
@@ -2,20 +2,35 @@ package love.kill.methodcache.datahelper.impl;
 
 import love.kill.methodcache.MethodcacheProperties;
 import love.kill.methodcache.SpringApplicationProperties;
+import love.kill.methodcache.datahelper.CacheDataHeader;
 import love.kill.methodcache.datahelper.CacheDataModel;
+import love.kill.methodcache.datahelper.CacheMetrics;
 import love.kill.methodcache.datahelper.CacheStatisticsModel;
 import love.kill.methodcache.datahelper.DataHelper;
+import love.kill.methodcache.datahelper.LatencyHistogram;
+import love.kill.methodcache.datahelper.NearCache;
+import love.kill.methodcache.datahelper.RefreshScheduler;
+import love.kill.methodcache.datahelper.StatisticsSampler;
+import love.kill.methodcache.jfr.CacheEvents;
+import love.kill.methodcache.util.CircuitBreaker;
 import love.kill.methodcache.util.DataUtil;
+import love.kill.methodcache.util.ReactiveRedisUtil;
 import love.kill.methodcache.util.RedisUtil;
 import love.kill.methodcache.util.SerializeUtil;
 import love.kill.methodcache.util.ThreadPoolBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.util.DigestUtils;
 import org.springframework.util.StringUtils;
 
 import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
 
 /**
  * @author Lycop
@@ -41,43 +56,303 @@ public class RedisDataHelper implements DataHelper {
 	 */
 	private RedisUtil redisUtil;
 
+	/**
+	 * redis异步工具类
+	 */
+	private ReactiveRedisUtil reactiveRedisUtil;
+
 	/**
 	 * 锁前缀
 	 */
 	private static final String REDIS_LOCK_PREFIX = "REDIS_LOCK_";
 
 	/**
-	 * 执行线程
+	 * 缓存存储介质(JFR事件)
+	 */
+	private static final String CACHE_STORE = "Redis";
+
+	/**
+	 * 缓存统计索引key
+	 * 内容(set)：[方法签名]
+	 */
+	private static final String METHOD_CACHE_STATISTICS_INDEX = METHOD_CACHE_STATISTICS + "_INDEX";
+
+	/**
+	 * 批量获取数据头脚本
+	 * 仅读取每个key的前 HEADER_LENGTH 个字符
+	 */
+	@SuppressWarnings("unchecked")
+	private static final RedisScript<List<String>> getHeadersScript = new DefaultRedisScript<>(
+			"local headers = {}; " +
+			"for i, key in ipairs(KEYS) do " +
+			"headers[i] = redis.call('getrange', key, 0, tonumber(ARGV[1]) - 1); " +
+			"end; " +
+			"return headers; ", (Class<List<String>>) (Class<?>) List.class);
+
+	/**
+	 * 保存数据脚本
+	 * 仅当Redis中不存在数据，或已有数据的缓存时间早于待保存数据时写入
+	 * KEYS[1]：缓存数据key；ARGV：缓存时间、数据、超时(毫秒)、数据头长度、数据头标识、缓存时间起始位置、缓存时间长度
+	 */
+	private static final RedisScript<Long> setDataScript = new DefaultRedisScript<>(
+			"local header = redis.call('getrange', KEYS[1], 0, tonumber(ARGV[4]) - 1); " +
+			"if (string.len(header) == tonumber(ARGV[4]) and string.sub(header, 1, string.len(ARGV[5])) == ARGV[5]) then " +
+			"local offset = tonumber(ARGV[6]); " +
+			"local cacheTime = tonumber(string.sub(header, offset + 1, offset + tonumber(ARGV[7])), 16); " +
+			"if (cacheTime and cacheTime >= tonumber(ARGV[1])) then return 0; end; " +
+			"end; " +
+			"if (tonumber(ARGV[3]) > 0) then " +
+			"redis.call('set', KEYS[1], ARGV[2], 'px', ARGV[3]); " +
+			"else " +
+			"redis.call('set', KEYS[1], ARGV[2]); " +
+			"end; " +
+			"return 1; ", Long.class);
+
+	/**
+	 * 刷新租约前缀
+	 */
+	private static final String METHOD_CACHE_REFRESH = "METHOD_CACHE_REFRESH";
+
+	/**
+	 * 获取刷新租约脚本
+	 * KEYS[1]：租约key；ARGV：节点ID、租期(毫秒)
+	 */
+	private static final RedisScript<Long> acquireLeaseScript = new DefaultRedisScript<>(
+			"if (redis.call('set', KEYS[1], ARGV[1], 'nx', 'px', ARGV[2])) then return 1; end; " +
+			"return 0; ", Long.class);
+
+	/**
+	 * 释放刷新租约脚本
+	 * 仅释放本节点持有的租约
+	 * KEYS[1]：租约key；ARGV：节点ID
+	 */
+	private static final RedisScript<Long> releaseLeaseScript = new DefaultRedisScript<>(
+			"if (redis.call('get', KEYS[1]) == ARGV[1]) then return redis.call('del', KEYS[1]); end; " +
+			"return 0; ", Long.class);
+
+	/**
+	 * 方法签名注册表key
+	 * 内容(hash)：{方法标识:方法签名}
+	 */
+	private static final String METHOD_CACHE_SIGNATURE = "METHOD_CACHE_SIGNATURE";
+
+	/**
+	 * 方法标识长度
+	 */
+	private static final int METHOD_TOKEN_LENGTH = 12;
+
+	/**
+	 * 批量操作每批的key个数
+	 */
+	private static final int BATCH_SIZE = 500;
+
+	/**
+	 * 耗时分布字段中，分布名与桶下标的分隔符
+	 * 如：hitLatency#12
+	 */
+	private static final String LATENCY_BUCKET_SEPARATOR = "#";
+
+	/**
+	 * 累加缓存统计脚本内容
+	 * 计数字段使用 hincrby 累加，最小/最大耗时及最后一次异常仅在更优(更新)时覆盖；
+	 * ARGV[28]起为耗时分布的"字段,次数"对，按桶累加
+	 */
+	private static final String INCREASE_STATISTICS_LUA =
+			"local key = KEYS[1]; " +
+			"redis.call('hmset', key, 'cacheKey', ARGV[1], 'methodSignature', ARGV[2], " +
+			"'methodSignatureHashCode', ARGV[3], 'id', ARGV[4], 'remark', ARGV[5]); " +
+			"local counters = {'hit', 'totalOfHitSpend', 'failure', 'totalOfFailureSpend', 'exception', " +
+			"'totalOfOriginalSize', 'totalOfStoredSize'}; " +
+			"for i, field in ipairs(counters) do " +
+			"local delta = tonumber(ARGV[5 + i]); " +
+			"if (delta > 0) then redis.call('hincrby', key, field, delta); end; " +
+			"end; " +
+			"local function compare(index, spendField, timeField, argsField, less) " +
+			"local spend = tonumber(ARGV[index]); " +
+			"if (spend < 0) then return; end; " +
+			"local current = redis.call('hget', key, spendField); " +
+			"if (current) then " +
+			"current = tonumber(current); " +
+			"if ((less and current <= spend) or ((not less) and current >= spend)) then return; end; " +
+			"end; " +
+			"redis.call('hmset', key, spendField, ARGV[index], timeField, ARGV[index + 1], argsField, ARGV[index + 2]); " +
+			"end; " +
+			"compare(13, 'minHitSpend', 'timeOfMinHitSpend', 'argsOfMinHitSpend', true); " +
+			"compare(16, 'maxHitSpend', 'timeOfMaxHitSpend', 'argsOfMaxHitSpend', false); " +
+			"compare(19, 'minFailureSpend', 'timeOfMinFailureSpend', 'argsOfMinFailureSpend', true); " +
+			"compare(22, 'maxFailureSpend', 'timeOfMaxFailureSpend', 'argsOfMaxFailureSpend', false); " +
+			"local timeOfLastException = tonumber(ARGV[25]); " +
+			"if (timeOfLastException > 0) then " +
+			"local current = redis.call('hget', key, 'timeOfLastException'); " +
+			"if ((not current) or tonumber(current) <= timeOfLastException) then " +
+			"redis.call('hmset', key, 'timeOfLastException', ARGV[25], 'argsOfLastException', ARGV[26], " +
+			"'stackTraceOfLastException', ARGV[27]); " +
+			"end; " +
+			"end; " +
+			"for i = 28, #ARGV, 2 do " +
+			"redis.call('hincrby', key, ARGV[i], ARGV[i + 1]); " +
+			"end; " +
+			"return 1; ";
+
+	/**
+	 * 累加缓存统计脚本
+	 */
+	private static final RedisScript<Long> increaseStatisticsScript = new DefaultRedisScript<>(
+			INCREASE_STATISTICS_LUA, Long.class);
+
+	/**
+	 * 设置缓存统计脚本
+	 * 删除后累加在同一脚本中执行，期间不会穿插其他节点的累加
+	 */
+	private static final RedisScript<Long> setStatisticsScript = new DefaultRedisScript<>(
+			"redis.call('del', KEYS[1]); " + INCREASE_STATISTICS_LUA, Long.class);
+
+	/**
+	 * 节点标识
+	 */
+	private final String nodeId = UUID.randomUUID().toString().replaceAll("-", "");
+
+	/**
+	 * 近端缓存
+	 */
+	private NearCache nearCache;
+
+	/**
+	 * Redis熔断器
+	 */
+	private CircuitBreaker circuitBreaker;
+
+	/**
+	 * 熔断期间使用的本地缓存
+	 */
+	private NearCache fallbackCache;
+
+	/**
+	 * 缓存失效通知频道
+	 */
+	private volatile String invalidationChannel;
+
+	/**
+	 * 缓存失效通知订阅者(仅接收其他节点的通知)
+	 */
+	private final List<BiConsumer<String, Integer>> invalidationSubscribers = new CopyOnWriteArrayList<>();
+
+	/**
+	 * 缓存失效通知订阅者(同时接收本节点的通知)
+	 */
+	private final List<BiConsumer<String, Integer>> localInvalidationSubscribers = new CopyOnWriteArrayList<>();
+
+	/**
+	 * 开启统计
+	 */
+	private final boolean enableStatistics;
+
+	/**
+	 * 开启紧凑key
+	 */
+	private final boolean compactKey;
+
+	/**
+	 * 开启key哈希标签
 	 */
-	private static final ExecutorService executorService = ThreadPoolBuilder.buildDefaultThreadPool();
+	private final boolean keyHashTag;
+
+	/**
+	 * 已注册的方法标识
+	 * 内容：<方法签名,方法标识>
+	 */
+	private final Map<String, String> methodTokens = new ConcurrentHashMap<>();
+
+	/**
+	 * 刷新调度
+	 */
+	private final RefreshScheduler refreshScheduler = new RefreshScheduler();
+
+	/**
+	 * 统计采样
+	 */
+	private final StatisticsSampler statisticsSampler;
+
+	/**
+	 * 本地累加的缓存统计
+	 * 内容：<方法签名,统计信息>
+	 */
+	private final Map<String, CacheStatisticsModel> localStatistics = new ConcurrentHashMap<>();
+
+	/**
+	 * 上一次累加至Redis时的统计快照
+	 * 内容：<方法签名,统计快照>
+	 */
+	private final Map<String, CacheStatisticsModel> flushedStatistics = new ConcurrentHashMap<>();
+
+	/**
+	 * 统计累加锁
+	 * 累加、设置、清除统计信息互斥执行，避免清除后又累加回清除前的数据
+	 */
+	private final Object statisticsLock = new Object();
+
+	/**
+	 * 异步请求中的数据
+	 * 内容：<缓存key,请求结果>
+	 */
+	private final Map<String, CompletableFuture<Object>> loadingData = new ConcurrentHashMap<>();
 
 
 	public RedisDataHelper(MethodcacheProperties methodcacheProperties,
 						   SpringApplicationProperties springApplicationProperties, RedisUtil redisUtil) {
+		this(methodcacheProperties, springApplicationProperties, redisUtil, methodcacheProperties.isEnableStatistics());
+	}
+
+	public RedisDataHelper(MethodcacheProperties methodcacheProperties,
+						   SpringApplicationProperties springApplicationProperties, RedisUtil redisUtil,
+						   boolean enableStatistics) {
 		this.redisUtil = redisUtil;
 		this.methodcacheProperties = methodcacheProperties;
+		this.enableStatistics = enableStatistics;
+		ThreadPoolBuilder.configure(methodcacheProperties.getExecutorCoreSize(), methodcacheProperties.getExecutorMaxSize(),
+				methodcacheProperties.getExecutorQueueCapacity(), methodcacheProperties.getExecutorShutdownTimeout(),
+				methodcacheProperties.isExecutorVirtualThreads(), methodcacheProperties.getExecutorVirtualConcurrency());
+		this.statisticsSampler = new StatisticsSampler(methodcacheProperties.getStatisticsSampleRate(),
+				methodcacheProperties.getStatisticsTargetQps());
+		this.compactKey = methodcacheProperties.isCompactKey();
+		this.keyHashTag = methodcacheProperties.isKeyHashTag();
 
 		if (StringUtils.isEmpty(this.applicationName = methodcacheProperties.getName())) {
 			this.applicationName = springApplicationProperties.getName();
 		}
 
-		if (methodcacheProperties.isEnableStatistics()) {
-			Executors.newSingleThreadExecutor().execute(() -> {
+		redisUtil.setCommandTimeout(methodcacheProperties.getRedisCommandTimeout());
+
+		if (methodcacheProperties.isEnableCircuitBreaker()) {
+			// Redis熔断，熔断期间使用本地缓存或直接发起请求
+			this.circuitBreaker = new CircuitBreaker("Redis", methodcacheProperties.getCircuitBreakerFailureThreshold(),
+					methodcacheProperties.getCircuitBreakerSlowCallThreshold(),
+					methodcacheProperties.getCircuitBreakerOpenDuration());
+			redisUtil.setCircuitBreaker(circuitBreaker);
+			if (methodcacheProperties.getCircuitBreakerFallbackMaxSize() > 0) {
+				this.fallbackCache = new NearCache(methodcacheProperties.getCircuitBreakerOpenDuration(),
+						methodcacheProperties.getCircuitBreakerFallbackMaxSize());
+			}
+		}
+
+		if (methodcacheProperties.isEnableNearCache()) {
+			// 近端缓存，其他节点更新或删除数据时，通过失效通知移除本地副本
+			this.nearCache = new NearCache(methodcacheProperties.getNearCacheExpiration(),
+					methodcacheProperties.getNearCacheMaxSize());
+			subInvalidation((cacheKey, cacheHashCode) -> nearCache.remove(cacheKey), false);
+		}
+
+		if (enableStatistics) {
+			// 统计信息先在本地累加，每隔一段时间将增量累加至Redis
+			ThreadPoolBuilder.startDaemonThread("statistics-flush", () -> {
+				long flushInterval = Math.max(methodcacheProperties.getStatisticsFlushInterval(), 1L);
 				while (true) {
 					try {
-						CacheStatisticsNode statisticsNode = cacheStatisticsInfoQueue.take();
-						String cacheKey = statisticsNode.getCacheKey();
-
-						String statisticsLockKey = getIntactCacheStatisticsLockKey(cacheKey);
-						try {
-							redisUtil.lock(statisticsLockKey, methodcacheProperties.getRedisLockTimeout(), true);
-							String methodSignature = statisticsNode.getMethodSignature();
-							CacheStatisticsModel statisticsModel =
-									increaseStatistics(getCacheStatistics(methodSignature), statisticsNode);
-							setCacheStatistics(methodSignature, statisticsModel);
-						} finally {
-							redisUtil.unlock(statisticsLockKey);
-						}
+						Thread.sleep(flushInterval);
+						flushStatistics();
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+						return;
 					} catch (Exception e) {
 						e.printStackTrace();
 					}
@@ -87,22 +362,41 @@ public class RedisDataHelper implements DataHelper {
 	}
 
 	@Override
-	public Object getData(Object proxy, Method method, Object[] args, String isolationSignal, boolean refreshData,
+	public Object getData(Object proxy, Method method, Object[] args, boolean refreshData,
 						  ActualDataFunctional actualDataFunctional, String id, String remark,
 						  boolean nullable, boolean shared) throws Throwable {
 
 		long startTime = new Date().getTime();
+		long startNanoTime = System.nanoTime();
 		String methodSignature = method.toGenericString(); // 方法签名
 		int methodSignatureHashCode = methodSignature.hashCode(); // 方法签名哈希
 		int argsHashCode = DataUtil.getArgsHashCode(args); // 方法入参哈希
 		String argsInfo = Arrays.toString(args); // 方法入参信息
-		int cacheHashCode = getCacheHashCode(applicationName, methodSignatureHashCode, argsHashCode, isolationSignal); // 缓存哈希值
+		int statisticsWeight = enableStatistics ?
+				statisticsSampler.sample(methodSignature, actualDataFunctional.getStatisticsSampleRate()) : 0; // 统计权重
+		int cacheHashCode = getCacheHashCode(applicationName, methodSignatureHashCode, argsHashCode); // 缓存哈希值
 		if (StringUtils.isEmpty(id)) {
 			id = String.valueOf(methodSignature.hashCode());
 		}
 		String cacheKey = getCacheKey(applicationName, methodSignature, cacheHashCode, id); // 构建缓存key
 		String dataLockKey = getIntactDataLockKey(cacheKey); // 数据锁
-		CacheDataModel cacheDataModel = getDataFromRedis(cacheKey, false, shared);
+		if (circuitBreaker != null && !circuitBreaker.allowRequest()) {
+			// Redis已熔断
+			return getDataFromFallback(proxy, cacheKey, methodSignature, argsInfo, cacheHashCode, actualDataFunctional,
+					id, remark, nullable, shared);
+		}
+
+		CacheDataModel cacheDataModel;
+		try {
+			cacheDataModel = getDataFromRedis(cacheKey, false, shared);
+		} catch (RuntimeException e) {
+			if (circuitBreaker == null) {
+				throw e;
+			}
+			logger.error("从Redis获取缓存出现异常：" + e.getMessage());
+			return getDataFromFallback(proxy, cacheKey, methodSignature, argsInfo, cacheHashCode, actualDataFunctional,
+					id, remark, nullable, shared);
+		}
 		boolean hit = (cacheDataModel != null && !cacheDataModel.isExpired());
 		log(String.format(	"\n ************* CacheData *************" +
 							"\n ** ------- 从Redis获取缓存 -------- **" +
@@ -121,10 +415,25 @@ public class RedisDataHelper implements DataHelper {
 		if (!hit) {
 			try {
 				// 缓存未命中或数据已过期，加锁再次尝试获取
+				long lockStartNanoTime = System.nanoTime();
 				redisUtil.lock(dataLockKey, methodcacheProperties.getRedisLockTimeout(), true);
+				CacheMetrics.recordLockWait(System.nanoTime() - lockStartNanoTime);
 				cacheDataModel = getDataFromRedis(cacheKey, false, shared);
-			}finally {
-				redisUtil.unlock(dataLockKey);
+			} catch (RuntimeException e) {
+				if (circuitBreaker == null) {
+					throw e;
+				}
+				logger.error("从Redis获取缓存(加锁)出现异常：" + e.getMessage());
+				return getDataFromFallback(proxy, cacheKey, methodSignature, argsInfo, cacheHashCode,
+						actualDataFunctional, id, remark, nullable, shared);
+			} finally {
+				try {
+					redisUtil.unlock(dataLockKey);
+				} catch (RuntimeException e) {
+					if (circuitBreaker == null) {
+						throw e;
+					}
+				}
 			}
 
 			hit = (cacheDataModel != null && !cacheDataModel.isExpired());
@@ -146,8 +455,11 @@ public class RedisDataHelper implements DataHelper {
 			if (!hit) {
 				// 发起实际请求
 				Object actualData;
+				long loadStartNanoTime = System.nanoTime();
+				Object loadEvent = CacheEvents.beginLoad();
 				try {
 					actualData = actualDataFunctional.getActualData();
+					CacheEvents.endLoad(loadEvent, CACHE_STORE, methodSignature, id, cacheHashCode, true);
 					log(String.format(	"\n ************* CacheData *************" +
 										"\n ** ----------- 发起请求 ----------- **" +
 									    "\n ** 执行对象：%s" +
@@ -160,6 +472,7 @@ public class RedisDataHelper implements DataHelper {
 							argsInfo,
 							actualData));
 				} catch (Throwable throwable) {
+					CacheEvents.endLoad(loadEvent, CACHE_STORE, methodSignature, id, cacheHashCode, false);
 					throwable.printStackTrace();
 					String uuid = UUID.randomUUID().toString().trim().replaceAll("-", "");
 					logger.info("\n ************* CacheData *************" +
@@ -167,24 +480,29 @@ public class RedisDataHelper implements DataHelper {
 								"\n ** 异常信息(UUID=" + uuid + ")：" + throwable.getMessage() + "\n" + printStackTrace(throwable.getStackTrace()) +
 								"\n *************************************");
 
-					if (methodcacheProperties.isEnableStatistics()) {
+					if (statisticsWeight > 0) {
 						recordStatistics(cacheKey, methodSignature, methodSignatureHashCode, argsInfo, argsHashCode,
 								cacheHashCode, id, remark, false, true, printStackTrace(throwable, uuid), startTime,
-								new Date().getTime());
+								new Date().getTime(), System.nanoTime() - startNanoTime,
+								System.nanoTime() - loadStartNanoTime, statisticsWeight);
 					}
 
 					throw throwable;
 				}
 
 
-				if (methodcacheProperties.isEnableStatistics()) {
+				long loadNanos = System.nanoTime() - loadStartNanoTime;
+				if (statisticsWeight > 0) {
 					recordStatistics(cacheKey, methodSignature, methodSignatureHashCode, argsInfo, argsHashCode,
-							cacheHashCode, id, remark, hit, false, "", startTime, new Date().getTime());
+							cacheHashCode, id, remark, hit, false, "", startTime, new Date().getTime(),
+							System.nanoTime() - startNanoTime, loadNanos, statisticsWeight);
 				}
 
 				if (isNotNull(actualData, nullable)) {
-					long expirationTime = actualDataFunctional.getExpirationTime();
-					refreshData(proxy, actualData, expirationTime, applicationName, dataLockKey, actualDataFunctional,
+					long expirationTime = actualData != null ? actualDataFunctional.getExpirationTime() :
+							actualDataFunctional.getNegativeExpirationTime();
+					refreshData(proxy, actualData != null ? actualData : NullObject.INSTANCE, expirationTime, startTime,
+							loadNanos / 1000000L, applicationName, actualDataFunctional,
 							nullable, cacheKey, methodSignature, argsInfo, cacheHashCode, id, remark);
 				}
 				return actualData;
@@ -192,19 +510,300 @@ public class RedisDataHelper implements DataHelper {
 
 		}
 
-		if (methodcacheProperties.isEnableStatistics()) {
+		if (statisticsWeight > 0) {
 			recordStatistics(cacheKey, methodSignature, methodSignatureHashCode, argsInfo, argsHashCode, cacheHashCode,
-					id, remark, hit, false, "", startTime, new Date().getTime());
+					id, remark, hit, false, "", startTime, new Date().getTime(), System.nanoTime() - startNanoTime, 0L,
+					statisticsWeight);
 		}
+		CacheEvents.hit(CACHE_STORE, methodSignature, id, cacheHashCode);
 
-		if (refreshData) {
-			refreshData(proxy, null, -1, applicationName, dataLockKey, actualDataFunctional, nullable, cacheKey,
-					methodSignature, argsInfo, cacheHashCode, id, remark);
+		if (refreshScheduler.isRefreshDue(cacheKey, refreshData, cacheDataModel, actualDataFunctional)) {
+			refreshAhead(proxy, actualDataFunctional, nullable, cacheKey, methodSignature, argsInfo, cacheHashCode,
+					id, remark);
 		}
 
 		return cacheDataModel.getData();
 	}
 
+	@Override
+	public CompletableFuture<Object> getDataAsync(Object proxy, Method method, Object[] args, boolean refreshData,
+												  AsyncDataFunctional actualDataFunctional,
+												  String id, String remark, boolean nullable, boolean shared) {
+		if (reactiveRedisUtil == null || (circuitBreaker != null && circuitBreaker.isOpen())) {
+			return DataHelper.super.getDataAsync(proxy, method, args, refreshData,
+					actualDataFunctional, id, remark, nullable, shared);
+		}
+
+		long startTime = new Date().getTime();
+		long startNanoTime = System.nanoTime();
+		String methodSignature = method.toGenericString(); // 方法签名
+		int methodSignatureHashCode = methodSignature.hashCode(); // 方法签名哈希
+		int argsHashCode = DataUtil.getArgsHashCode(args); // 方法入参哈希
+		int cacheHashCode = getCacheHashCode(applicationName, methodSignatureHashCode, argsHashCode); // 缓存哈希值
+		String cacheId = StringUtils.isEmpty(id) ? String.valueOf(methodSignatureHashCode) : id;
+		String cacheKey = getCacheKey(applicationName, methodSignature, cacheHashCode, cacheId); // 构建缓存key
+
+		CompletableFuture<CacheDataModel> cacheDataFuture;
+		CacheDataModel nearCacheData = nearCache != null ? nearCache.get(cacheKey, shared) : null;
+		if (nearCacheData != null) {
+			cacheDataFuture = CompletableFuture.completedFuture(
+					shared ? DataHelper.decisionCacheDataModel(nearCacheData) : nearCacheData);
+		} else {
+			// 非阻塞查询Redis，在线程池中反序列化
+			cacheDataFuture = reactiveRedisUtil.get(getIntactCacheDataKey(cacheKey)).thenApplyAsync(value -> {
+				CacheDataModel negativeDataModel = toNegativeCacheDataModel(value);
+				if (negativeDataModel != null) {
+					return negativeDataModel;
+				}
+				byte[] bytes = decodeData(value);
+				CacheDataModel cacheDataModel = toCacheDataModel(bytes);
+				if (cacheDataModel == null) {
+					return null;
+				}
+				if (nearCache != null) {
+					nearCache.put(cacheKey, bytes, cacheDataModel.getExpireTime());
+				}
+				return shared ? DataHelper.decisionCacheDataModel(cacheDataModel) : cacheDataModel;
+			}, ThreadPoolBuilder.getExecutor(ThreadPoolBuilder.Purpose.IO));
+		}
+
+		return cacheDataFuture.handle((cacheDataModel, throwable) -> {
+			if (throwable != null) {
+				logger.error("从Redis异步获取缓存出现异常：" + throwable.getMessage());
+			}
+			return cacheDataModel;
+		}).thenCompose(cacheDataModel -> {
+			String argsInfo = Arrays.toString(args); // 方法入参信息
+			if (cacheDataModel == null || cacheDataModel.isExpired()) {
+				// 未命中，在方法返回的结果上组合，不阻塞线程
+				return loadAsync(proxy, actualDataFunctional, nullable, startTime, startNanoTime, cacheKey,
+						methodSignature, methodSignatureHashCode, argsInfo, argsHashCode, cacheHashCode, cacheId,
+						remark);
+			}
+
+			log(String.format(	"\n ************* CacheData *************" +
+								"\n ** ----- 从Redis异步获取缓存 ------ **" +
+								"\n ** 执行对象：%s" +
+								"\n ** 方法签名：%s" +
+								"\n ** 方法入参：%s" +
+								"\n ** 过期时间：%s" +
+								"\n *************************************",
+					proxy,
+					methodSignature,
+					argsInfo,
+					formatDate(cacheDataModel.getExpireTime())));
+
+			int statisticsWeight = enableStatistics ?
+					statisticsSampler.sample(methodSignature, actualDataFunctional.getStatisticsSampleRate()) : 0;
+			if (statisticsWeight > 0) {
+				recordStatistics(cacheKey, methodSignature, methodSignatureHashCode, argsInfo, argsHashCode,
+						cacheHashCode, cacheId, remark, true, false, "", startTime, new Date().getTime(),
+						System.nanoTime() - startNanoTime, 0L, statisticsWeight);
+			}
+			CacheEvents.hit(CACHE_STORE, methodSignature, cacheId, cacheHashCode);
+
+			if (refreshScheduler.isRefreshDue(cacheKey, refreshData, cacheDataModel, actualDataFunctional)) {
+				refreshAhead(proxy, actualDataFunctional, nullable, cacheKey, methodSignature, argsInfo,
+						cacheHashCode, cacheId, remark);
+			}
+			return CompletableFuture.completedFuture(cacheDataModel.getData());
+		});
+	}
+
+	/**
+	 * 异步发起实际请求
+	 * 同一节点内相同key只发起一次请求，请求完成后写入缓存
+	 *
+	 * @return 请求结果
+	 */
+	private CompletableFuture<Object> loadAsync(Object proxy, AsyncDataFunctional actualDataFunctional,
+												boolean nullable, long startTime, long startNanoTime, String cacheKey,
+												String methodSignature, int methodSignatureHashCode, String argsInfo,
+												int argsHashCode, int cacheHashCode, String id, String remark) {
+		CompletableFuture<Object> future = new CompletableFuture<>();
+		CompletableFuture<Object> loading = loadingData.putIfAbsent(cacheKey, future);
+		if (loading != null) {
+			// 已有相同请求在执行，共用其结果
+			return loading;
+		}
+
+		int statisticsWeight = enableStatistics ?
+				statisticsSampler.sample(methodSignature, actualDataFunctional.getStatisticsSampleRate()) : 0;
+		long loadStartNanoTime = System.nanoTime();
+		Object loadEvent = CacheEvents.beginLoad();
+		CompletionStage<?> stage;
+		try {
+			stage = actualDataFunctional.getActualDataAsync();
+		} catch (Throwable throwable) {
+			stage = failedStage(throwable);
+		}
+		if (stage == null) {
+			stage = CompletableFuture.completedFuture(null);
+		}
+
+		stage.whenComplete((actualData, throwable) -> {
+			loadingData.remove(cacheKey, future);
+			long loadNanos = System.nanoTime() - loadStartNanoTime;
+			if (throwable != null) {
+				Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ?
+						throwable.getCause() : throwable;
+				CacheEvents.endLoad(loadEvent, CACHE_STORE, methodSignature, id, cacheHashCode, false);
+				String uuid = UUID.randomUUID().toString().trim().replaceAll("-", "");
+				logger.info("\n ************* CacheData *************" +
+							"\n ** ------- 获取数据发生异常 -------- **" +
+							"\n ** 异常信息(UUID=" + uuid + ")：" + cause.getMessage() + "\n" + printStackTrace(cause.getStackTrace()) +
+							"\n *************************************");
+				if (statisticsWeight > 0) {
+					recordStatistics(cacheKey, methodSignature, methodSignatureHashCode, argsInfo, argsHashCode,
+							cacheHashCode, id, remark, false, true, printStackTrace(cause, uuid), startTime,
+							new Date().getTime(), System.nanoTime() - startNanoTime, loadNanos, statisticsWeight);
+				}
+				future.completeExceptionally(cause);
+				return;
+			}
+
+			CacheEvents.endLoad(loadEvent, CACHE_STORE, methodSignature, id, cacheHashCode, true);
+			log(String.format(	"\n ************* CacheData *************" +
+								"\n ** --------- 异步发起请求 --------- **" +
+								"\n ** 执行对象：%s" +
+								"\n ** 方法签名：%s" +
+								"\n ** 方法入参：%s" +
+								"\n ** 返回数据：%s" +
+								"\n *************************************",
+					proxy,
+					methodSignature,
+					argsInfo,
+					actualData));
+			if (statisticsWeight > 0) {
+				recordStatistics(cacheKey, methodSignature, methodSignatureHashCode, argsInfo, argsHashCode,
+						cacheHashCode, id, remark, false, false, "", startTime, new Date().getTime(),
+						System.nanoTime() - startNanoTime, loadNanos, statisticsWeight);
+			}
+			try {
+				if (isNotNull(actualData, nullable)) {
+					long expirationTime = actualData != null ? actualDataFunctional.getExpirationTime() :
+							actualDataFunctional.getNegativeExpirationTime();
+					refreshData(proxy, actualData != null ? actualData : NullObject.INSTANCE, expirationTime,
+							startTime, loadNanos / 1000000L, applicationName, actualDataFunctional, nullable,
+							cacheKey, methodSignature, argsInfo, cacheHashCode, id, remark);
+				}
+			} catch (RuntimeException e) {
+				logger.error("异步写入缓存出现异常：" + e.getMessage());
+			}
+			future.complete(actualData);
+		});
+		return future;
+	}
+
+	/**
+	 * 构建异常结束的结果
+	 *
+	 * @param throwable 异常
+	 * @return 异常结束的结果
+	 */
+	private static CompletableFuture<Object> failedStage(Throwable throwable) {
+		CompletableFuture<Object> failed = new CompletableFuture<>();
+		failed.completeExceptionally(throwable);
+		return failed;
+	}
+
+	@Override
+	public List<CacheDataModel> getBatchCacheData(Method method, List<Object[]> elementArgs, int batchIndex,
+												  String id, boolean shared) {
+		if (circuitBreaker != null && !circuitBreaker.allowRequest()) {
+			// Redis已熔断，按整体缓存
+			return null;
+		}
+
+		String methodSignature = method.toGenericString(); // 方法签名
+		int methodSignatureHashCode = methodSignature.hashCode(); // 方法签名哈希
+		String cacheId = StringUtils.isEmpty(id) ? String.valueOf(methodSignatureHashCode) : id;
+
+		List<CacheDataModel> cacheDataModels = new ArrayList<>(elementArgs.size());
+		Map<String, List<Integer>> missIndexes = new HashMap<>(); // 内容：<缓存key,[元素下标]>
+		for (Object[] args : elementArgs) {
+			int cacheHashCode = getCacheHashCode(applicationName, methodSignatureHashCode,
+					DataUtil.getArgsHashCode(args, batchIndex)); // 缓存哈希值
+			String cacheKey = getCacheKey(applicationName, methodSignature, cacheHashCode, cacheId); // 构建缓存key
+			CacheDataModel cacheDataModel = nearCache != null ? nearCache.get(cacheKey, shared) : null;
+			if (cacheDataModel == null) {
+				missIndexes.computeIfAbsent(cacheKey, k -> new ArrayList<>()).add(cacheDataModels.size());
+			}
+			cacheDataModels.add(cacheDataModel);
+		}
+
+		// 本地缓存未命中的数据，按slot分组，每组每 BATCH_SIZE 个key批量查询一次
+		for (List<String> batchCacheKeys : groupBySlot(missIndexes.keySet(), false)) {
+			List<String> intactKeys = new ArrayList<>(batchCacheKeys.size());
+			for (String cacheKey : batchCacheKeys) {
+				intactKeys.add(getIntactCacheDataKey(cacheKey));
+			}
+
+			List<Object> values = redisUtil.multiGet(intactKeys);
+			if (values == null) {
+				continue;
+			}
+
+			for (int j = 0; j < batchCacheKeys.size() && j < values.size(); j++) {
+				Object value = values.get(j);
+				CacheDataModel cacheDataModel = toNegativeCacheDataModel(value);
+				if (cacheDataModel == null) {
+					byte[] bytes = decodeData(value);
+					cacheDataModel = toCacheDataModel(bytes);
+					if (cacheDataModel != null && nearCache != null) {
+						nearCache.put(batchCacheKeys.get(j), bytes, cacheDataModel.getExpireTime());
+					}
+				}
+				for (Integer index : missIndexes.get(batchCacheKeys.get(j))) {
+					cacheDataModels.set(index, cacheDataModel);
+				}
+			}
+		}
+
+		if (shared) {
+			cacheDataModels.replaceAll(cacheDataModel -> cacheDataModel == null || cacheDataModel.isNullData() ?
+					cacheDataModel : DataHelper.decisionCacheDataModel(cacheDataModel));
+		}
+		return cacheDataModels;
+	}
+
+	@Override
+	public void setBatchCacheData(Method method, List<Object[]> elementArgs, int batchIndex, List<Object> data,
+								  long loadSpend, ActualDataFunctional actualDataFunctional,
+								  String id, String remark) {
+		String methodSignature = method.toGenericString(); // 方法签名
+		int methodSignatureHashCode = methodSignature.hashCode(); // 方法签名哈希
+		String cacheId = StringUtils.isEmpty(id) ? String.valueOf(methodSignatureHashCode) : id;
+		long expirationTime = actualDataFunctional.getExpirationTime();
+		long negativeExpirationTime = actualDataFunctional.getNegativeExpirationTime();
+		long staleExpiration = actualDataFunctional.getStaleExpiration();
+		long cacheTime = new Date().getTime();
+
+		ThreadPoolBuilder.getExecutor(ThreadPoolBuilder.Purpose.IO).execute(() -> {
+			int savedCount = 0;
+			for (int i = 0; i < elementArgs.size(); i++) {
+				Object[] args = elementArgs.get(i);
+				Object eachData = data.get(i);
+				int cacheHashCode = getCacheHashCode(applicationName, methodSignatureHashCode,
+						DataUtil.getArgsHashCode(args, batchIndex)); // 缓存哈希值
+				String cacheKey = getCacheKey(applicationName, methodSignature, cacheHashCode, cacheId); // 构建缓存key
+				// 仅当数据比Redis中的数据新时写入，无需加锁
+				if (setDataToRedis(applicationName, cacheKey, methodSignature, Arrays.toString(args), cacheHashCode,
+						eachData, eachData instanceof NullObject ? negativeExpirationTime : expirationTime,
+						staleExpiration, loadSpend, cacheTime, cacheId, remark)) {
+					savedCount++;
+				}
+			}
+			log(String.format(	"\n ************* CacheData *************" +
+								"\n ** ------ 批量缓存数据至Redis ------ **" +
+								"\n 方法签名：%s" +
+								"\n 缓存个数：%s" +
+								"\n *************************************",
+					methodSignature,
+					savedCount));
+		});
+	}
+
 	@SuppressWarnings("unchecked")
 	@Override
 	public Map<String, Map<String, Object>> getCaches(String match) {
@@ -218,9 +817,15 @@ public class RedisDataHelper implements DataHelper {
 			cacheKeys.addAll(redisUtil.keys(buildCacheKeyPattern(applicationName, match, null, null)));
 			cacheKeys.addAll(redisUtil.keys(buildCacheKeyPattern(applicationName, null, match, null)));
 			cacheKeys.addAll(redisUtil.keys(buildCacheKeyPattern(applicationName, null, null, match)));
+			if (compactKey) {
+				// 缓存key中为方法标识，通过注册表匹配方法签名
+				for (String methodToken : matchMethodTokens(match)) {
+					cacheKeys.addAll(redisUtil.keys(buildCacheKeyPattern(applicationName, methodToken, null, null)));
+				}
+			}
 		}
 
-		Set<CacheDataModel> dataModelSet = getCacheDataModel(cacheKeys);
+		Set<CacheDataModel> dataModelSet = getCacheDataModel(cacheKeys, header -> true);
 
 		for (CacheDataModel dataModel : dataModelSet) {
 			if (dataModel != null && !dataModel.isExpired()) {
@@ -250,27 +855,44 @@ public class RedisDataHelper implements DataHelper {
 			}
 		}
 
-		Set<CacheDataModel> dataModelSet = getCacheDataModel(cacheKeys);
-		for (CacheDataModel dataModel : dataModelSet) {
+		// key按通配符匹配，先通过数据头精确匹配id或缓存哈希值，匹配后再读取数据
+		boolean matchAll = StringUtils.isEmpty(id) && StringUtils.isEmpty(cacheHashCode);
+		Predicate<CacheDataHeader> headerFilter = header -> matchAll ||
+				(!StringUtils.isEmpty(id) && header.getIdHashCode() == CacheDataHeader.idHashCode(id)) ||
+				String.valueOf(header.getCacheHashCode()).equals(cacheHashCode);
+
+		// 按slot分组，各组并行加锁并批量删除
+		Map<String, CacheDataModel> dataModelMap = new TreeMap<>();
+		for (CacheDataModel dataModel : getCacheDataModel(cacheKeys, headerFilter)) {
 			if (dataModel == null || dataModel.isExpired()) {
 				continue;
 			}
+			boolean matched = matchAll || (!StringUtils.isEmpty(id) && id.equals(dataModel.getId())) ||
+					String.valueOf(dataModel.getCacheHashCode()).equals(cacheHashCode);
+			if (!matched) {
+				continue;
+			}
+			dataModelMap.put(getCacheKey(dataModel.getApplicationName(), dataModel.getMethodSignature(),
+					dataModel.getCacheHashCode(), dataModel.getId()), dataModel);
+		}
 
-			String cacheKey = getCacheKey(dataModel.getApplicationName(), dataModel.getMethodSignature(),
-					dataModel.getCacheHashCode(), dataModel.getId()); // 缓存key
-			String redisDataLockKey = getIntactDataLockKey(cacheKey);
-			try {
-				redisUtil.lock(redisDataLockKey, methodcacheProperties.getRedisLockTimeout(), true);
-				if (!dataModel.isExpired()) {
-					dataModel.expired();
+		List<List<String>> batchCacheKeys = groupBySlot(dataModelMap.keySet(), false);
+		CountDownLatch countDownLatch = new CountDownLatch(batchCacheKeys.size());
+		for (List<String> batchCacheKey : batchCacheKeys) {
+			ThreadPoolBuilder.getExecutor(ThreadPoolBuilder.Purpose.IO).execute(() -> {
+				try {
+					deleteDataFromRedis(batchCacheKey, dataModelMap, delCacheMap);
+				} finally {
+					countDownLatch.countDown();
 				}
-				filterDataModel(delCacheMap, dataModel, "");
-				deleteDataFromRedis(cacheKey);
-			} catch (Throwable throwable) {
-				throwable.printStackTrace();
-			} finally {
-				redisUtil.unlock(redisDataLockKey);
-			}
+			});
+		}
+
+		try {
+			countDownLatch.await();
+		} catch (InterruptedException e) {
+			e.printStackTrace();
+			logger.error("删除缓存被中断：" + e.getMessage());
 		}
 		return delCacheMap;
 	}
@@ -282,36 +904,134 @@ public class RedisDataHelper implements DataHelper {
 
 	@Override
 	public CacheStatisticsModel getCacheStatistics(String methodSignature) {
-		Map<String, CacheStatisticsModel> statisticsFromRedis = getStatisticsFromRedis();
-		if (statisticsFromRedis == null) {
-			return null;
-		}
-		return statisticsFromRedis.get(methodSignature);
+		return getStatisticsFromRedis(methodSignature);
 	}
 
 	@Override
 	public void setCacheStatistics(String methodSignature, CacheStatisticsModel cacheStatisticsModel) {
-		setStatisticsToRedis(methodSignature, cacheStatisticsModel);
+		synchronized (statisticsLock) {
+			increaseStatisticsToRedis(cacheStatisticsModel, setStatisticsScript);
+		}
+	}
+
+	@Override
+	public CacheStatisticsModel getLocalStatistics(String cacheKey, String methodSignature,
+												   int methodSignatureHashCode, String id, String remark) {
+		CacheStatisticsModel statisticsModel = localStatistics.get(methodSignature);
+		if (statisticsModel != null) {
+			return statisticsModel;
+		}
+		return localStatistics.computeIfAbsent(methodSignature,
+				k -> new CacheStatisticsModel(cacheKey, methodSignature, methodSignatureHashCode, id, remark));
+	}
+
+	@Override
+	public Map<String, CacheStatisticsModel> getLocalStatistics() {
+		return localStatistics;
+	}
+
+	@Override
+	public int getRefreshingCount() {
+		return refreshScheduler.getRefreshingCount();
 	}
 
 	@Override
 	public void wipeStatistics(CacheStatisticsModel statisticsModel) {
-		String statisticsLockKey = getIntactCacheStatisticsLockKey(statisticsModel.getCacheKey());
-		try {
-			redisUtil.lock(statisticsLockKey, methodcacheProperties.getRedisLockTimeout(), true);
-			deleteStatisticsFromRedis(statisticsModel.getMethodSignature());
-		} catch (InterruptedException e) {
-			e.printStackTrace();
-		} finally {
-			redisUtil.unlock(statisticsLockKey);
+		String methodSignature = statisticsModel.getMethodSignature();
+		synchronized (statisticsLock) {
+			// 同时清除本地统计及其快照，避免下一次累加写回清除前的最小/最大耗时、最后一次异常
+			localStatistics.remove(methodSignature);
+			flushedStatistics.remove(methodSignature);
+			deleteStatisticsFromRedis(methodSignature);
 		}
 	}
 
 	@Override
-	public Map<String, CacheStatisticsModel> wipeStatisticsAll() {
-		Map<String, CacheStatisticsModel> resultMap = getCacheStatistics();
-		deleteStatisticsAllFromRedis();
-		return resultMap;
+	public Map<String, CacheStatisticsModel> wipeStatisticsAll() {
+		Map<String, CacheStatisticsModel> resultMap = getCacheStatistics();
+		synchronized (statisticsLock) {
+			localStatistics.clear();
+			flushedStatistics.clear();
+			deleteStatisticsAllFromRedis();
+		}
+		return resultMap;
+	}
+
+	/**
+	 * 设置redis异步工具类
+	 * 设置后 getDataAsync 使用非阻塞的方式查询Redis及发起请求
+	 *
+	 * @param reactiveRedisUtil redis异步工具类
+	 */
+	public void setReactiveRedisUtil(ReactiveRedisUtil reactiveRedisUtil) {
+		this.reactiveRedisUtil = reactiveRedisUtil;
+	}
+
+	/**
+	 * 获取缓存key
+	 * 开启紧凑key时，方法签名替换为方法标识；开启key哈希标签时，方法签名(方法标识)使用{}包裹
+	 *
+	 * @param applicationName 应用名
+	 * @param methodSignature 方法签名
+	 * @param cacheHashCode   缓存哈希值
+	 * @param id              缓存ID
+	 * @return 缓存key
+	 */
+	@Override
+	public String getCacheKey(String applicationName, String methodSignature, int cacheHashCode, String id) {
+		String methodKey = compactKey ? getMethodToken(methodSignature) : methodSignature;
+		if (keyHashTag) {
+			methodKey = "{" + methodKey + "}";
+		}
+		return DataHelper.super.getCacheKey(applicationName, methodKey, cacheHashCode, id);
+	}
+
+	/**
+	 * 订阅缓存失效通知
+	 * 其他节点更新或删除缓存数据时，订阅者会收到对应的缓存key及缓存哈希值；
+	 * 接收本节点通知时，本节点更新或删除数据后同步通知订阅者
+	 *
+	 * @param subscriber 订阅者(缓存key,缓存哈希值)
+	 * @param local      接收本节点的通知
+	 */
+	public synchronized void subInvalidation(BiConsumer<String, Integer> subscriber, boolean local) {
+		if (invalidationChannel == null) {
+			String channel = StringUtils.isEmpty(applicationName) ? METHOD_CACHE_INVALIDATION :
+					METHOD_CACHE_INVALIDATION + KEY_SEPARATION_CHARACTER + applicationName;
+			redisUtil.subscribe(channel, message -> {
+				// 节点标识@缓存哈希值@缓存key
+				int nodeIndex = message.indexOf(KEY_SEPARATION_CHARACTER);
+				int hashIndex = message.indexOf(KEY_SEPARATION_CHARACTER, nodeIndex + 1);
+				if (nodeIndex <= 0 || hashIndex <= 0 || nodeId.equals(message.substring(0, nodeIndex))) {
+					return;
+				}
+				int cacheHashCode;
+				try {
+					cacheHashCode = Integer.parseInt(message.substring(nodeIndex + 1, hashIndex));
+				} catch (NumberFormatException e) {
+					return;
+				}
+				String cacheKey = message.substring(hashIndex + 1);
+				for (BiConsumer<String, Integer> sub : invalidationSubscribers) {
+					sub.accept(cacheKey, cacheHashCode);
+				}
+				for (BiConsumer<String, Integer> sub : localInvalidationSubscribers) {
+					sub.accept(cacheKey, cacheHashCode);
+				}
+			});
+			invalidationChannel = channel;
+		}
+		(local ? localInvalidationSubscribers : invalidationSubscribers).add(subscriber);
+	}
+
+	/**
+	 * 关闭缓存
+	 * 停止缓存失效通知的订阅
+	 */
+	@Override
+	public synchronized void shutdown() {
+		redisUtil.unsubscribeAll();
+		invalidationChannel = null;
 	}
 
 	/****************************************************************** 私有方法 start ******************************************************************/
@@ -322,7 +1042,8 @@ public class RedisDataHelper implements DataHelper {
 	 * @param proxy        			  执行对象
 	 * @param data        			  数据
 	 * @param expirationTime          数据过期时间
-	 * @param redisDataLockKey        数据锁
+	 * @param cacheTime               数据的获取时间(发起请求的时间)，data为null时取发起刷新请求的时间
+	 * @param loadSpend               获取数据的耗时(毫秒)
 	 * @param actualDataFunctional    真实数据请求
 	 * @param nullable                返回值允许为空
 	 * @param cacheKey                缓存key
@@ -331,56 +1052,222 @@ public class RedisDataHelper implements DataHelper {
 	 * @param id                      缓存ID
 	 * @param remark                  缓存备注
 	 */
-	private void refreshData(final Object proxy, final Object data, long expirationTime, String applicationName, String redisDataLockKey,
-							 ActualDataFunctional actualDataFunctional, boolean nullable, String cacheKey,
-							 String methodSignature, String argsStr, int cacheHashCode, String id, String remark) {
-		executorService.execute(() -> {
+	private void refreshData(final Object proxy, final Object data, long expirationTime, long cacheTime,
+							 long loadSpend, String applicationName, ActualDataFunctional actualDataFunctional,
+							 boolean nullable, String cacheKey, String methodSignature, String argsStr,
+							 int cacheHashCode, String id, String remark) {
+		ThreadPoolBuilder.getExecutor(ThreadPoolBuilder.Purpose.IO).execute(() -> doRefreshData(proxy, data,
+				expirationTime, cacheTime, loadSpend, applicationName, actualDataFunctional, nullable, cacheKey, methodSignature,
+				argsStr, cacheHashCode, id, remark));
+	}
 
-			Object saveData;
-			long saveExpirationTime;
+	/**
+	 * 命中后刷新数据
+	 * 同一缓存同时只会有一个刷新任务，并且仅由获得刷新租约的节点刷新。
+	 * 设置了刷新间隔时，租约在间隔内保留，其他节点在此期间不会重复刷新；否则刷新结束后释放租约
+	 *
+	 * @param proxy        			  执行对象
+	 * @param actualDataFunctional    真实数据请求
+	 * @param nullable                返回值允许为空
+	 * @param cacheKey                缓存key
+	 * @param methodSignature         方法签名
+	 * @param argsStr                 方法参数信息
+	 * @param id                      缓存ID
+	 * @param remark                  缓存备注
+	 */
+	private void refreshAhead(final Object proxy, ActualDataFunctional actualDataFunctional, boolean nullable,
+							  String cacheKey, String methodSignature, String argsStr, int cacheHashCode, String id,
+							  String remark) {
+		long refreshInterval = actualDataFunctional.getRefreshInterval();
+		refreshScheduler.refresh(cacheKey, refreshInterval,
+				ThreadPoolBuilder.getExecutor(ThreadPoolBuilder.Purpose.REFRESH), () -> {
+			List<String> leaseKey = Collections.singletonList(getIntactRefreshLeaseKey(cacheKey));
+			long leaseTime = refreshInterval > 0L ? refreshInterval : methodcacheProperties.getRedisLockTimeout();
+			try {
+				Long acquired = redisUtil.execute(acquireLeaseScript, leaseKey, nodeId, String.valueOf(leaseTime));
+				if (acquired == null || acquired != 1L) {
+					return;
+				}
+			} catch (Exception e) {
+				logger.error("获取刷新租约出现异常：" + e.getMessage());
+				return;
+			}
 
-			if(data != null){
-				saveData = data;
-				saveExpirationTime = expirationTime;
-			}else {
-				saveData = new NullObject();
-				saveExpirationTime = actualDataFunctional.getExpirationTime();
-				try {
-					saveData = actualDataFunctional.getActualData();
-				} catch (Throwable throwable) {
-					throwable.printStackTrace();
-					logger.info("\n ************* CacheData *************" +
-								"\n ** ---- 更新数据至Redis发生异常 ---- **" +
-								"\n ** 异常信息：" + throwable.getMessage() +
-								"\n *************************************");
+			try {
+				doRefreshData(proxy, null, -1, -1, -1, applicationName, actualDataFunctional, nullable, cacheKey,
+						methodSignature, argsStr, cacheHashCode, id, remark);
+			} finally {
+				if (refreshInterval <= 0L) {
+					try {
+						redisUtil.execute(releaseLeaseScript, leaseKey, nodeId);
+					} catch (Exception e) {
+						logger.error("释放刷新租约出现异常：" + e.getMessage());
+					}
 				}
+			}
+		});
+	}
 
+	/**
+	 * 刷新数据(同步)
+	 *
+	 * @param proxy        			  执行对象
+	 * @param data        			  数据，为null时发起实际请求
+	 * @param expirationTime          数据过期时间
+	 * @param cacheTime               数据的获取时间(发起请求的时间)，data为null时取发起刷新请求的时间
+	 * @param loadSpend               获取数据的耗时(毫秒)，data为null时取实际请求的耗时
+	 * @param actualDataFunctional    真实数据请求
+	 * @param nullable                返回值允许为空
+	 * @param cacheKey                缓存key
+	 * @param methodSignature         方法签名
+	 * @param argsStr                 方法参数信息
+	 * @param id                      缓存ID
+	 * @param remark                  缓存备注
+	 */
+	private void doRefreshData(final Object proxy, final Object data, long expirationTime, long cacheTime,
+							   long loadSpend, String applicationName, ActualDataFunctional actualDataFunctional,
+							   boolean nullable, String cacheKey, String methodSignature, String argsStr,
+							   int cacheHashCode, String id, String remark) {
+
+		Object saveData;
+		long saveExpirationTime;
+		long saveCacheTime;
+		long saveLoadSpend;
+
+		if(data != null){
+			saveData = data;
+			saveExpirationTime = expirationTime;
+			saveCacheTime = cacheTime;
+			saveLoadSpend = loadSpend;
+		}else {
+			long dataExpirationTime = actualDataFunctional.getExpirationTime();
+			long negativeExpirationTime = actualDataFunctional.getNegativeExpirationTime();
+			saveCacheTime = new Date().getTime();
+			long loadStartNanoTime = System.nanoTime();
+			try {
+				saveData = actualDataFunctional.getActualData();
+			} catch (Throwable throwable) {
+				throwable.printStackTrace();
+				logger.info("\n ************* CacheData *************" +
+							"\n ** ---- 更新数据至Redis发生异常 ---- **" +
+							"\n ** 异常信息：" + throwable.getMessage() +
+							"\n *************************************");
+				// 请求失败时保留已有的缓存数据(包括旧数据)，不写入空数据
+				return;
 			}
-			if ((isNotNull(saveData, nullable))) {
-				try {
-					redisUtil.lock(redisDataLockKey, methodcacheProperties.getRedisLockTimeout(), true);
-					log(String.format(	"\n ************* CacheData *************" +
-										"\n ** -------- 刷新缓存至Redis ------- **" +
-										"\n 执行对象：%s" +
-										"\n 方法签名：%s" +
-										"\n 方法入参：%s" +
-										"\n 缓存数据：%s" +
-										"\n 过期时间：%s" +
-										"\n *************************************",
-								proxy,
-								methodSignature,
-								argsStr,
-								saveData,
-								formatDate(saveExpirationTime)));
-					setDataToRedis(applicationName, cacheKey, methodSignature, argsStr, cacheHashCode,
-							saveData != null ? saveData : new NullObject(), saveExpirationTime, id, remark);
-				} catch (InterruptedException e) {
-					e.printStackTrace();
-				} finally {
-					redisUtil.unlock(redisDataLockKey);
+			saveLoadSpend = (System.nanoTime() - loadStartNanoTime) / 1000000L;
+			saveExpirationTime = (saveData == null || saveData instanceof NullObject) ? negativeExpirationTime :
+					dataExpirationTime;
+		}
+		if ((isNotNull(saveData, nullable))) {
+			// 仅当数据比Redis中的数据新时写入，无需加锁
+			boolean saved = setDataToRedis(applicationName, cacheKey, methodSignature, argsStr, cacheHashCode,
+					saveData != null ? saveData : NullObject.INSTANCE, saveExpirationTime,
+					actualDataFunctional.getStaleExpiration(), saveLoadSpend, saveCacheTime, id, remark);
+			if (saved) {
+				log(String.format(	"\n ************* CacheData *************" +
+									"\n ** -------- 刷新缓存至Redis ------- **" +
+									"\n 执行对象：%s" +
+									"\n 方法签名：%s" +
+									"\n 方法入参：%s" +
+									"\n 缓存数据：%s" +
+									"\n 过期时间：%s" +
+									"\n *************************************",
+							proxy,
+							methodSignature,
+							argsStr,
+							saveData,
+							formatDate(saveExpirationTime)));
+			}
+		}
+	}
+
+	/**
+	 * 熔断期间获取数据
+	 * 优先从本地缓存获取，未命中时发起实际请求；未开启本地缓存时直接发起实际请求
+	 *
+	 * @param proxy                执行对象
+	 * @param cacheKey             缓存key
+	 * @param methodSignature      方法签名
+	 * @param argsInfo             方法入参信息
+	 * @param cacheHashCode        缓存哈希值
+	 * @param actualDataFunctional 真实数据请求
+	 * @param id                   缓存ID
+	 * @param remark               缓存备注
+	 * @param nullable             返回值允许为空
+	 * @param shared               共享式数据
+	 * @return 数据
+	 * @throws Throwable 发起实际请求时发生的异常
+	 */
+	private Object getDataFromFallback(Object proxy, String cacheKey, String methodSignature, String argsInfo,
+									   int cacheHashCode, ActualDataFunctional actualDataFunctional, String id,
+									   String remark, boolean nullable, boolean shared) throws Throwable {
+		if (fallbackCache != null) {
+			CacheDataModel cacheDataModel = fallbackCache.get(cacheKey, shared);
+			if (cacheDataModel != null && !cacheDataModel.isExpired()) {
+				return cacheDataModel.getData();
+			}
+		}
+
+		Object data = actualDataFunctional.getActualData();
+		log(String.format(	"\n ************* CacheData *************" +
+							"\n ** ------- Redis熔断，发起请求 ------- **" +
+							"\n ** 执行对象：%s" +
+							"\n ** 方法签名：%s" +
+							"\n ** 方法入参：%s" +
+							"\n ** 返回数据：%s" +
+							"\n *************************************",
+				proxy,
+				methodSignature,
+				argsInfo,
+				data));
+
+		if (fallbackCache != null && isNotNull(data, nullable)) {
+			CacheDataModel cacheDataModel = new CacheDataModel(applicationName, methodSignature, argsInfo,
+					cacheHashCode, data != null ? data : NullObject.INSTANCE, data != null ?
+					actualDataFunctional.getExpirationTime() : actualDataFunctional.getNegativeExpirationTime());
+			cacheDataModel.setId(id);
+			cacheDataModel.setRemark(remark);
+			fallbackCache.put(cacheKey, SerializeUtil.serizlize(cacheDataModel), cacheDataModel.getExpireTime());
+		}
+		return data;
+	}
+
+	/**
+	 * 获取方法标识
+	 * 方法标识为方法签名MD5的前12位，首次使用时将方法签名登记至Redis注册表
+	 *
+	 * @param methodSignature 方法签名
+	 * @return 方法标识
+	 */
+	private String getMethodToken(String methodSignature) {
+		String methodToken = methodTokens.get(methodSignature);
+		if (methodToken == null) {
+			methodToken = DigestUtils.md5DigestAsHex(methodSignature.getBytes(StandardCharsets.UTF_8))
+					.substring(0, METHOD_TOKEN_LENGTH);
+			redisUtil.hset(METHOD_CACHE_SIGNATURE, methodToken, methodSignature);
+			methodTokens.put(methodSignature, methodToken);
+		}
+		return methodToken;
+	}
+
+	/**
+	 * 匹配方法标识
+	 *
+	 * @param match 匹配规则
+	 * @return 方法签名符合匹配规则的方法标识
+	 */
+	private Set<String> matchMethodTokens(String match) {
+		Set<String> matchMethodTokens = new HashSet<>();
+		Map<Object, Object> signatures = redisUtil.hGetAll(METHOD_CACHE_SIGNATURE);
+		if (signatures != null) {
+			for (Map.Entry<Object, Object> signature : signatures.entrySet()) {
+				if (String.valueOf(signature.getValue()).contains(match)) {
+					matchMethodTokens.add(String.valueOf(signature.getKey()));
 				}
 			}
-		});
+		}
+		return matchMethodTokens;
 	}
 
 	/**
@@ -439,19 +1326,39 @@ public class RedisDataHelper implements DataHelper {
 			key = cacheKey;
 		} else {
 			key = getIntactCacheDataKey(cacheKey);
+
+			if (nearCache != null) {
+				CacheDataModel cacheDataModel = nearCache.get(cacheKey, shared);
+				if (cacheDataModel != null) {
+					return shared ? DataHelper.decisionCacheDataModel(cacheDataModel) : cacheDataModel;
+				}
+			}
 		}
 
-		Object objectByteString = redisUtil.get(key);
-		if (!(objectByteString instanceof String)) {
-			return null;
+		Object value = redisUtil.get(key);
+		if (value instanceof String) {
+			CacheDataHeader header = CacheDataHeader.parse((String) value);
+			if (header != null && header.isExpired()) {
+				// 已过期，无需反序列化
+				return null;
+			}
 		}
 
-		Object dataModel = SerializeUtil.deserialize(SerializeUtil.string2ByteArray((String) objectByteString));
-		if (!(dataModel instanceof CacheDataModel)) {
+		CacheDataModel negativeDataModel = toNegativeCacheDataModel(value);
+		if (negativeDataModel != null) {
+			// 空结果，无需反序列化
+			return negativeDataModel;
+		}
+
+		byte[] bytes = decodeData(value);
+		CacheDataModel cacheDataModel = toCacheDataModel(bytes);
+		if (cacheDataModel == null) {
 			return null;
 		}
 
-		CacheDataModel cacheDataModel = (CacheDataModel) dataModel;
+		if (nearCache != null && !intactKeyFlag) {
+			nearCache.put(cacheKey, bytes, cacheDataModel.getExpireTime());
+		}
 
 		if(!shared){
 			// 独享数据
@@ -461,6 +1368,48 @@ public class RedisDataHelper implements DataHelper {
 		return DataHelper.decisionCacheDataModel(cacheDataModel);
 	}
 
+	/**
+	 * 解码Redis中的数据
+	 *
+	 * @param objectByteString Redis中的数据
+	 * @return (解压后的)序列化数据
+	 */
+	private static byte[] decodeData(Object objectByteString) {
+		if (!(objectByteString instanceof String)) {
+			return null;
+		}
+		return SerializeUtil.decompress(SerializeUtil.string2ByteArray(
+				CacheDataHeader.payload((String) objectByteString)));
+	}
+
+	/**
+	 * 解析空结果缓存数据
+	 * 空结果仅含数据头及元信息，无需反序列化
+	 *
+	 * @param objectByteString Redis中的数据
+	 * @return 缓存数据(空结果)，不是空结果时返回null
+	 */
+	private static CacheDataModel toNegativeCacheDataModel(Object objectByteString) {
+		if (!(objectByteString instanceof String)) {
+			return null;
+		}
+		return CacheDataHeader.decodeNegative((String) objectByteString);
+	}
+
+	/**
+	 * 反序列化缓存数据
+	 *
+	 * @param bytes 序列化数据
+	 * @return 缓存数据
+	 */
+	private static CacheDataModel toCacheDataModel(byte[] bytes) {
+		if (bytes == null) {
+			return null;
+		}
+		Object dataModel = SerializeUtil.deserialize(bytes);
+		return dataModel instanceof CacheDataModel ? (CacheDataModel) dataModel : null;
+	}
+
 	/**
 	 * 缓存数据至Redis
 	 *
@@ -471,14 +1420,22 @@ public class RedisDataHelper implements DataHelper {
 	 * @param cacheHashCode           缓存哈希
 	 * @param data                    数据
 	 * @param expireTimeStamp         过期时间
+	 * @param staleExpiration         旧数据有效期
+	 * @param loadSpend               获取数据的耗时(毫秒)
+	 * @param cacheTime               缓存时间(数据版本)
 	 * @param id                      缓存ID
 	 * @param remark                  缓存备注
+	 * @return 已写入，Redis中的数据更新时返回false
 	 */
-	private void setDataToRedis(String applicationName, String cacheKey, String methodSignature, String argStr,
-								int cacheHashCode, Object data, long expireTimeStamp, String id, String remark) {
+	private boolean setDataToRedis(String applicationName, String cacheKey, String methodSignature, String argStr,
+								   int cacheHashCode, Object data, long expireTimeStamp, long staleExpiration,
+								   long loadSpend, long cacheTime, String id, String remark) {
 
 		CacheDataModel cacheDataModel = new CacheDataModel(applicationName, methodSignature, argStr, cacheHashCode,
 				data, expireTimeStamp);
+		cacheDataModel.setCacheTime(cacheTime);
+		cacheDataModel.setStaleExpiration(staleExpiration);
+		cacheDataModel.setLoadSpend(loadSpend);
 
 		if (!StringUtils.isEmpty(id)) {
 			cacheDataModel.setId(id);
@@ -488,66 +1445,203 @@ public class RedisDataHelper implements DataHelper {
 			cacheDataModel.setRemark(remark);
 		}
 
-		setDataToRedis(cacheKey, cacheDataModel, expireTimeStamp - new Date().getTime());
+		return setDataToRedis(cacheKey, cacheDataModel, cacheDataModel.getExpireTime() - new Date().getTime());
 	}
 
 	/**
-	 * 获取缓存统计
+	 * 获取所有缓存统计
 	 *
 	 * @return 缓存统计信息
 	 */
-	@SuppressWarnings("unchecked")
 	private Map<String, CacheStatisticsModel> getStatisticsFromRedis() {
-		Map<String, CacheStatisticsModel> resultMap = new HashMap<>();
-		List<Object> objects = redisUtil.hValues(METHOD_CACHE_STATISTICS);
-		if (objects == null) {
+		Set<Object> methodSignatures = redisUtil.sMembers(METHOD_CACHE_STATISTICS_INDEX);
+		if (methodSignatures == null) {
 			return null;
 		}
 
-		for (Object object : objects) {
-			if (object instanceof String) {
-				Object model = SerializeUtil.deserialize(SerializeUtil.string2ByteArray((String) object));
-				if (model instanceof CacheStatisticsModel) {
-					CacheStatisticsModel statisticsModel = (CacheStatisticsModel) model;
-					resultMap.put(statisticsModel.getMethodSignature(), statisticsModel);
-				}
+		Map<String, CacheStatisticsModel> resultMap = new HashMap<>();
+		for (Object methodSignature : methodSignatures) {
+			CacheStatisticsModel statisticsModel = getStatisticsFromRedis((String) methodSignature);
+			if (statisticsModel != null) {
+				resultMap.put(statisticsModel.getMethodSignature(), statisticsModel);
 			}
 		}
-
 		return resultMap;
 	}
 
 	/**
 	 * 获取缓存统计
 	 *
+	 * @param methodSignature 方法签名
 	 * @return 缓存统计信息
 	 */
-	@SuppressWarnings("unchecked")
+	private CacheStatisticsModel getStatisticsFromRedis(String methodSignature) {
+		Map<Object, Object> fields = redisUtil.hGetAll(getIntactCacheStatisticsKey(methodSignature));
+		if (fields == null || fields.isEmpty()) {
+			return null;
+		}
+
+		CacheStatisticsModel statisticsModel = new CacheStatisticsModel((String) fields.get("cacheKey"),
+				methodSignature, (int) getLongField(fields, "methodSignatureHashCode", 0L),
+				(String) fields.get("id"), (String) fields.get("remark"));
+
+		if (fields.containsKey("hit")) {
+			statisticsModel.incrementHit((int) getLongField(fields, "hit", 0L),
+					getLongField(fields, "totalOfHitSpend", 0L));
+		}
+		if (fields.containsKey("minHitSpend")) {
+			statisticsModel.setMinHitSpend(getLongField(fields, "minHitSpend", -1L),
+					getLongField(fields, "timeOfMinHitSpend", -1L), (String) fields.get("argsOfMinHitSpend"));
+		}
+		if (fields.containsKey("maxHitSpend")) {
+			statisticsModel.setMaxHitSpend(getLongField(fields, "maxHitSpend", -1L),
+					getLongField(fields, "timeOfMaxHitSpend", -1L), (String) fields.get("argsOfMaxHitSpend"));
+		}
+		if (fields.containsKey("failure")) {
+			statisticsModel.incrementFailure((int) getLongField(fields, "failure", 0L),
+					getLongField(fields, "totalOfFailureSpend", 0L));
+		}
+		if (fields.containsKey("minFailureSpend")) {
+			statisticsModel.setMinFailureSpend(getLongField(fields, "minFailureSpend", -1L),
+					getLongField(fields, "timeOfMinFailureSpend", -1L), (String) fields.get("argsOfMinFailureSpend"));
+		}
+		if (fields.containsKey("maxFailureSpend")) {
+			statisticsModel.setMaxFailureSpend(getLongField(fields, "maxFailureSpend", -1L),
+					getLongField(fields, "timeOfMaxFailureSpend", -1L), (String) fields.get("argsOfMaxFailureSpend"));
+		}
+		if (fields.containsKey("exception")) {
+			statisticsModel.incrementTimesOfException((int) getLongField(fields, "exception", 0L),
+					(String) fields.get("argsOfLastException"), (String) fields.get("stackTraceOfLastException"),
+					getLongField(fields, "timeOfLastException", -1L));
+		}
+		statisticsModel.incrementStoredSize(getLongField(fields, "totalOfOriginalSize", 0L),
+				getLongField(fields, "totalOfStoredSize", 0L));
+
+		// 耗时分布，各节点已按桶累加
+		for (Map.Entry<Object, Object> field : fields.entrySet()) {
+			String name = String.valueOf(field.getKey());
+			int index = name.indexOf(LATENCY_BUCKET_SEPARATOR);
+			if (index <= 0) {
+				continue;
+			}
+			LatencyHistogram histogram = getLatencyHistogram(statisticsModel, name.substring(0, index));
+			if (histogram == null) {
+				continue;
+			}
+			try {
+				histogram.add(Integer.parseInt(name.substring(index + 1)), Long.parseLong(String.valueOf(field.getValue())));
+			} catch (NumberFormatException ignored) {
+			}
+		}
+
+		return statisticsModel;
+	}
+
+	/**
+	 * 获取耗时分布
+	 *
+	 * @param statisticsModel 统计信息
+	 * @param name            耗时分布名称
+	 * @return 耗时分布，名称未知时返回null
+	 */
+	private static LatencyHistogram getLatencyHistogram(CacheStatisticsModel statisticsModel, String name) {
+		switch (name) {
+			case "hitLatency":
+				return statisticsModel.getHitLatency();
+			case "loadLatency":
+				return statisticsModel.getLoadLatency();
+			case "overheadLatency":
+				return statisticsModel.getOverheadLatency();
+			default:
+				return null;
+		}
+	}
+
+	/**
+	 * 获取数值字段
+	 *
+	 * @param fields       字段及值
+	 * @param field        字段
+	 * @param defaultValue 默认值
+	 * @return 数值
+	 */
+	private static long getLongField(Map<Object, Object> fields, String field, long defaultValue) {
+		Object value = fields.get(field);
+		if (value == null) {
+			return defaultValue;
+		}
+		try {
+			return Long.parseLong(value.toString());
+		} catch (NumberFormatException e) {
+			return defaultValue;
+		}
+	}
+
+	/**
+	 * 删除所有缓存统计
+	 */
 	private void deleteStatisticsAllFromRedis() {
-		redisUtil.del(METHOD_CACHE_STATISTICS);
+		Set<Object> methodSignatures = redisUtil.sMembers(METHOD_CACHE_STATISTICS_INDEX);
+		if (methodSignatures != null) {
+			for (Object methodSignature : methodSignatures) {
+				redisUtil.del(getIntactCacheStatisticsKey((String) methodSignature));
+			}
+		}
+		redisUtil.del(METHOD_CACHE_STATISTICS_INDEX);
+		redisUtil.del(METHOD_CACHE_STATISTICS); // 旧版本的统计信息
 	}
 
 	/**
 	 * 获取匹配的数据模型
+	 * 先批量读取数据头，跳过已过期或数据头不匹配的数据，仅读取并反序列化其余数据
 	 *
-	 * @param cacheKeys 缓存key
+	 * @param cacheKeys    缓存key
+	 * @param headerFilter 数据头过滤条件(无数据头的数据不过滤)
 	 * @return 匹配的数据
 	 */
 	@SuppressWarnings("unchecked")
-	private Set<CacheDataModel> getCacheDataModel(Set<String> cacheKeys) {
+	private Set<CacheDataModel> getCacheDataModel(Set<String> cacheKeys, Predicate<CacheDataHeader> headerFilter) {
 
-		Set<CacheDataModel> dataModelSet = new HashSet<>();
+		Set<CacheDataModel> dataModelSet = ConcurrentHashMap.newKeySet();
 
 		if (cacheKeys.size() <= 0) {
 			return dataModelSet;
 		}
 
-		CountDownLatch countDownLatch = new CountDownLatch(cacheKeys.size());
+		// 按slot分组批量查询
+		List<List<String>> batchCacheKeys = groupBySlot(cacheKeys, true);
+		CountDownLatch countDownLatch = new CountDownLatch(batchCacheKeys.size());
 
-		for (String cacheKey : cacheKeys) {
-			executorService.execute(() -> {
+		for (List<String> batchCacheKey : batchCacheKeys) {
+			ThreadPoolBuilder.getExecutor(ThreadPoolBuilder.Purpose.IO).execute(() -> {
 				try {
-					dataModelSet.add(getDataFromRedis(cacheKey, true, false));
+					// 先读取数据头，跳过已过期或不匹配的数据
+					List<String> unexpiredCacheKeys = new ArrayList<>();
+					List<String> headers = redisUtil.execute(getHeadersScript, batchCacheKey,
+							String.valueOf(CacheDataHeader.HEADER_LENGTH));
+					for (int i = 0; i < batchCacheKey.size(); i++) {
+						CacheDataHeader header = (headers != null && i < headers.size()) ?
+								CacheDataHeader.parse(headers.get(i)) : null;
+						if (header == null || (!header.isExpired() && headerFilter.test(header))) {
+							unexpiredCacheKeys.add(batchCacheKey.get(i));
+						}
+					}
+					if (unexpiredCacheKeys.isEmpty()) {
+						return;
+					}
+
+					List<Object> values = redisUtil.multiGet(unexpiredCacheKeys);
+					if (values != null) {
+						for (Object value : values) {
+							CacheDataModel dataModel = toNegativeCacheDataModel(value);
+							if (dataModel == null) {
+								dataModel = toCacheDataModel(decodeData(value));
+							}
+							if (dataModel != null) {
+								dataModelSet.add(dataModel);
+							}
+						}
+					}
 				} catch (Exception e) {
 					logger.error("从Redis批量查询缓存出现异常：" + e.getMessage());
 				} finally {
@@ -567,6 +1661,37 @@ public class RedisDataHelper implements DataHelper {
 		return dataModelSet;
 	}
 
+	/**
+	 * 按slot分组
+	 * 同一组的key位于同一slot，且个数不超过 BATCH_SIZE
+	 *
+	 * @param cacheKeys     缓存key
+	 * @param intactKeyFlag 完整key标识
+	 * @return 分组后的缓存key
+	 */
+	private static List<List<String>> groupBySlot(Collection<String> cacheKeys, boolean intactKeyFlag) {
+		Map<Integer, List<String>> slotKeys = new HashMap<>();
+		for (String cacheKey : cacheKeys) {
+			String intactKey = intactKeyFlag ? cacheKey : getIntactCacheDataKey(cacheKey);
+			slotKeys.computeIfAbsent(RedisUtil.getSlot(intactKey), k -> new ArrayList<>()).add(cacheKey);
+		}
+
+		List<List<String>> batchKeys = new ArrayList<>();
+		for (List<String> keys : slotKeys.values()) {
+			for (int i = 0; i < keys.size(); i += BATCH_SIZE) {
+				batchKeys.add(keys.subList(i, Math.min(i + BATCH_SIZE, keys.size())));
+			}
+		}
+		return batchKeys;
+	}
+
+	/**
+	 * 获取完整的刷新租约key
+	 */
+	private static String getIntactRefreshLeaseKey(String key) {
+		return REDIS_LOCK_PREFIX + METHOD_CACHE_REFRESH + KEY_SEPARATION_CHARACTER + key;
+	}
+
 	/**
 	 * 获取完整的数据锁key
 	 */
@@ -582,49 +1707,254 @@ public class RedisDataHelper implements DataHelper {
 	}
 
 	/**
-	 * 获取完整的数据锁key
+	 * 获取缓存统计key
 	 */
-	private static String getIntactCacheStatisticsLockKey(String key) {
-		return REDIS_LOCK_PREFIX + METHOD_CACHE_STATISTICS + KEY_SEPARATION_CHARACTER + key;
+	private static String getIntactCacheStatisticsKey(String methodSignature) {
+		return METHOD_CACHE_STATISTICS + KEY_SEPARATION_CHARACTER + methodSignature;
 	}
 
 	/**
 	 * 保存数据至Redis
-	 * 这里会对返回值进行反序列化
+	 * 这里会对返回值进行序列化，达到压缩阈值时进行压缩，空结果仅保存元信息；以缓存时间作为版本，Redis中的数据更新时不写入
+	 *
+	 * @return 已写入
 	 */
-	private void setDataToRedis(String cacheKey, CacheDataModel cacheDataModel, long timeout) {
-		redisUtil.set(getIntactCacheDataKey(cacheKey), SerializeUtil.byteArray2String(SerializeUtil.serizlize(cacheDataModel)), timeout);
+	private boolean setDataToRedis(String cacheKey, CacheDataModel cacheDataModel, long timeout) {
+		if (circuitBreaker != null && circuitBreaker.isOpen()) {
+			// Redis已熔断，不写入
+			return false;
+		}
+
+		byte[] bytes = null;
+		byte[] storedBytes = null;
+		String value;
+		int compressThreshold = methodcacheProperties.getCompressThreshold();
+		if (cacheDataModel.isNullData()) {
+			// 空结果仅保存元信息，不序列化
+			value = CacheDataHeader.encodeNegative(cacheDataModel);
+		} else {
+			bytes = SerializeUtil.serizlize(cacheDataModel);
+			if (bytes == null) {
+				return false;
+			}
+			storedBytes = SerializeUtil.compress(bytes, compressThreshold);
+			int flags = SerializeUtil.isCompressed(storedBytes) ? CacheDataHeader.FLAG_COMPRESSED : 0;
+			value = CacheDataHeader.encode(cacheDataModel, flags) + SerializeUtil.byteArray2String(storedBytes);
+		}
+
+		Long saved;
+		try {
+			saved = redisUtil.execute(setDataScript, Collections.singletonList(getIntactCacheDataKey(cacheKey)),
+					String.valueOf(cacheDataModel.getCacheTime()),
+					value,
+					String.valueOf(timeout),
+					String.valueOf(CacheDataHeader.HEADER_LENGTH),
+					CacheDataHeader.magic(),
+					String.valueOf(CacheDataHeader.CACHE_TIME_OFFSET),
+					String.valueOf(CacheDataHeader.CACHE_TIME_LENGTH));
+		} catch (Exception e) {
+			e.printStackTrace();
+			logger.error("保存缓存至Redis出现异常：" + e.getMessage());
+			return false;
+		}
+		if (saved == null || saved <= 0L) {
+			// Redis中的数据更新
+			return false;
+		}
+
+		if (nearCache != null && bytes != null) {
+			nearCache.put(cacheKey, bytes, cacheDataModel.getExpireTime());
+		}
+		publishInvalidation(cacheKey, cacheDataModel.getCacheHashCode());
+
+		if (compressThreshold > 0 && enableStatistics && bytes != null) {
+			String methodSignature = cacheDataModel.getMethodSignature();
+			recordStoredSize(cacheKey, methodSignature, methodSignature.hashCode(), cacheDataModel.getId(),
+					cacheDataModel.getRemark(), bytes.length, storedBytes.length);
+		}
+		return true;
 	}
 
 	/**
-	 * 保存数据至 Redis
-	 * 这里会对返回值进行反序列化
+	 * 从Redis批量删除数据
+	 * 缓存key需位于同一slot，按key顺序逐个加锁后批量删除
+	 *
+	 * @param cacheKeys    缓存key
+	 * @param dataModelMap <缓存key,缓存数据>
+	 * @param delCacheMap  删除的缓存
 	 */
-	private void deleteDataFromRedis(String cacheKey) {
-		redisUtil.del(getIntactCacheDataKey(cacheKey));
+	private void deleteDataFromRedis(List<String> cacheKeys, Map<String, CacheDataModel> dataModelMap,
+									 Map<String, Map<String, Object>> delCacheMap) {
+		List<String> lockKeys = new ArrayList<>();
+		try {
+			List<String> intactKeys = new ArrayList<>();
+			for (String cacheKey : cacheKeys) {
+				String redisDataLockKey = getIntactDataLockKey(cacheKey);
+				redisUtil.lock(redisDataLockKey, methodcacheProperties.getRedisLockTimeout(), true);
+				lockKeys.add(redisDataLockKey);
+				intactKeys.add(getIntactCacheDataKey(cacheKey));
+
+				CacheDataModel dataModel = dataModelMap.get(cacheKey);
+				if (!dataModel.isExpired()) {
+					dataModel.expired();
+				}
+				synchronized (delCacheMap) {
+					filterDataModel(delCacheMap, dataModel, "");
+				}
+			}
+			redisUtil.del(intactKeys);
+
+			for (String cacheKey : cacheKeys) {
+				if (nearCache != null) {
+					nearCache.remove(cacheKey);
+				}
+				publishInvalidation(cacheKey, dataModelMap.get(cacheKey).getCacheHashCode());
+			}
+		} catch (Throwable throwable) {
+			throwable.printStackTrace();
+		} finally {
+			for (String lockKey : lockKeys) {
+				redisUtil.unlock(lockKey);
+			}
+		}
 	}
 
 	/**
-	 * 保存缓存统计信息至Redis
-	 * Redis缓存信息模型(hash)
-	 * "METHOD_CACHE_STATISTICS":{
-	 * 方法签名:(序列化后的)统计信息
-	 * }
+	 * 发布缓存失效通知
+	 * 先同步通知接收本节点通知的订阅者，再发布消息，消息内容：节点标识@缓存哈希值@缓存key
+	 *
+	 * @param cacheKey      缓存key
+	 * @param cacheHashCode 缓存哈希值
 	 */
-	private void setStatisticsToRedis(String methodSignature, CacheStatisticsModel cacheStatisticsModel) {
-		redisUtil.hset(METHOD_CACHE_STATISTICS, methodSignature,
-				SerializeUtil.byteArray2String(SerializeUtil.serizlize(cacheStatisticsModel)));
+	private void publishInvalidation(String cacheKey, int cacheHashCode) {
+		if (invalidationChannel == null) {
+			// 无订阅者
+			return;
+		}
+		for (BiConsumer<String, Integer> sub : localInvalidationSubscribers) {
+			sub.accept(cacheKey, cacheHashCode);
+		}
+		redisUtil.publish(invalidationChannel, nodeId + KEY_SEPARATION_CHARACTER + cacheHashCode +
+				KEY_SEPARATION_CHARACTER + cacheKey);
+	}
+
+	/**
+	 * 将本地统计相对于上一次提交的增量累加至Redis
+	 */
+	private void flushStatistics() {
+		if (circuitBreaker != null && circuitBreaker.isOpen()) {
+			// 熔断期间不访问Redis，增量保留在本地，恢复后再累加
+			return;
+		}
+		synchronized (statisticsLock) {
+			doFlushStatistics();
+		}
+	}
+
+	private void doFlushStatistics() {
+		Object flushEvent = CacheEvents.beginStatisticsFlush();
+		int pendingMethods = 0;
+		int failedMethods = 0;
+		for (Map.Entry<String, CacheStatisticsModel> entry : localStatistics.entrySet()) {
+			String methodSignature = entry.getKey();
+			CacheStatisticsModel snapshot = entry.getValue().delta(null);
+			CacheStatisticsModel delta = snapshot.delta(flushedStatistics.get(methodSignature));
+			if (delta.isEmpty()) {
+				continue;
+			}
+			pendingMethods++;
+			if (increaseStatisticsToRedis(delta, increaseStatisticsScript)) {
+				flushedStatistics.put(methodSignature, snapshot);
+			} else {
+				failedMethods++;
+			}
+		}
+		CacheEvents.endStatisticsFlush(flushEvent, pendingMethods, failedMethods);
+	}
+
+	/**
+	 * 添加耗时分布参数
+	 * 仅添加次数不为0的桶
+	 *
+	 * @param args      脚本参数
+	 * @param name      分布名
+	 * @param histogram 耗时分布
+	 */
+	private static void addLatencyArgs(List<String> args, String name, LatencyHistogram histogram) {
+		for (int i = 0; i < LatencyHistogram.BUCKET_COUNT; i++) {
+			long count = histogram.getCount(i);
+			if (count != 0L) {
+				args.add(name + LATENCY_BUCKET_SEPARATOR + i);
+				args.add(String.valueOf(count));
+			}
+		}
 	}
 
 	/**
-	 * 保存缓存统计信息至Redis
+	 * 累加缓存统计信息至Redis
 	 * Redis缓存信息模型(hash)
-	 * "METHOD_CACHE_STATISTICS":{
-	 * 方法签名:(序列化后的)统计信息
+	 * "METHOD_CACHE_STATISTICS@方法签名":{
+	 * 字段:值
 	 * }
+	 *
+	 * @param cacheStatisticsModel 本地汇总的统计信息
+	 * @param script               累加(或设置)脚本
+	 * @return 累加成功
+	 */
+	private boolean increaseStatisticsToRedis(CacheStatisticsModel cacheStatisticsModel, RedisScript<Long> script) {
+		String methodSignature = cacheStatisticsModel.getMethodSignature();
+		try {
+			List<String> args = new ArrayList<>(Arrays.asList(
+					Objects.toString(cacheStatisticsModel.getCacheKey(), ""),
+					methodSignature,
+					String.valueOf(cacheStatisticsModel.getMethodSignatureHashCode()),
+					Objects.toString(cacheStatisticsModel.getId(), ""),
+					Objects.toString(cacheStatisticsModel.getRemark(), ""),
+					String.valueOf(cacheStatisticsModel.getHit()),
+					String.valueOf(cacheStatisticsModel.getTotalOfHitSpend()),
+					String.valueOf(cacheStatisticsModel.getFailure()),
+					String.valueOf(cacheStatisticsModel.getTotalOfFailureSpend()),
+					String.valueOf(cacheStatisticsModel.getException()),
+					String.valueOf(cacheStatisticsModel.getTotalOfOriginalSize()),
+					String.valueOf(cacheStatisticsModel.getTotalOfStoredSize()),
+					String.valueOf(cacheStatisticsModel.getMinHitSpend()),
+					String.valueOf(cacheStatisticsModel.getTimeOfMinHitSpend()),
+					Objects.toString(cacheStatisticsModel.getArgsOfMinHitSpend(), ""),
+					String.valueOf(cacheStatisticsModel.getMaxHitSpend()),
+					String.valueOf(cacheStatisticsModel.getTimeOfMaxHitSpend()),
+					Objects.toString(cacheStatisticsModel.getArgsOfMaxHitSpend(), ""),
+					String.valueOf(cacheStatisticsModel.getMinFailureSpend()),
+					String.valueOf(cacheStatisticsModel.getTimeOfMinFailureSpend()),
+					Objects.toString(cacheStatisticsModel.getArgsOfMinFailureSpend(), ""),
+					String.valueOf(cacheStatisticsModel.getMaxFailureSpend()),
+					String.valueOf(cacheStatisticsModel.getTimeOfMaxFailureSpend()),
+					Objects.toString(cacheStatisticsModel.getArgsOfMaxFailureSpend(), ""),
+					String.valueOf(cacheStatisticsModel.getTimeOfLastException()),
+					Objects.toString(cacheStatisticsModel.getArgsOfLastException(), ""),
+					Objects.toString(cacheStatisticsModel.getStackTraceOfLastException(), "")));
+			addLatencyArgs(args, "hitLatency", cacheStatisticsModel.getHitLatency());
+			addLatencyArgs(args, "loadLatency", cacheStatisticsModel.getLoadLatency());
+			addLatencyArgs(args, "overheadLatency", cacheStatisticsModel.getOverheadLatency());
+			redisUtil.execute(script,
+					Collections.singletonList(getIntactCacheStatisticsKey(methodSignature)),
+					args.toArray(new String[0]));
+			redisUtil.sAdd(METHOD_CACHE_STATISTICS_INDEX, methodSignature);
+			return true;
+		} catch (Exception e) {
+			e.printStackTrace();
+			logger.error("累加缓存统计至Redis出现异常：" + e.getMessage());
+			return false;
+		}
+	}
+
+	/**
+	 * 从Redis删除缓存统计信息
+	 *
+	 * @param methodSignature 方法签名
 	 */
 	private void deleteStatisticsFromRedis(String methodSignature) {
-		redisUtil.hdel(METHOD_CACHE_STATISTICS, methodSignature);
+		redisUtil.del(getIntactCacheStatisticsKey(methodSignature));
+		redisUtil.sRem(METHOD_CACHE_STATISTICS_INDEX, methodSignature);
 	}
 
 	/**
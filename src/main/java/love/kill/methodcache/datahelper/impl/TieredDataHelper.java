@@ -0,0 +1,331 @@
+package love.kill.methodcache.datahelper.impl;
+
+import love.kill.methodcache.MemoryMonitor;
+import love.kill.methodcache.MethodcacheProperties;
+import love.kill.methodcache.SpringApplicationProperties;
+import love.kill.methodcache.datahelper.CacheDataModel;
+import love.kill.methodcache.datahelper.CacheStatisticsModel;
+import love.kill.methodcache.datahelper.DataHelper;
+import love.kill.methodcache.util.RedisUtil;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 多级缓存
+ * 一级缓存为内存，二级缓存为Redis。优先从内存获取数据，内存未命中时从Redis获取并写入内存；
+ * Redis未命中时发起实际请求，数据同时写入Redis和内存。
+ *
+ * @author Lycop
+ */
+public class TieredDataHelper implements DataHelper {
+
+	/**
+	 * 一级缓存(内存)
+	 */
+	private final MemoryDataHelper memoryDataHelper;
+
+	/**
+	 * 二级缓存(Redis)
+	 */
+	private final RedisDataHelper redisDataHelper;
+
+	/**
+	 * 一级缓存有效期(毫秒)
+	 */
+	private final long memoryExpiration;
+
+	public TieredDataHelper(MethodcacheProperties methodcacheProperties,
+							SpringApplicationProperties springApplicationProperties, RedisUtil redisUtil,
+							MemoryMonitor memoryMonitor) {
+
+		this.memoryExpiration = methodcacheProperties.getTieredMemoryExpiration();
+
+		// 统计信息由一级缓存记录
+		this.memoryDataHelper = new MemoryDataHelper(methodcacheProperties, springApplicationProperties, memoryMonitor);
+		this.redisDataHelper = new RedisDataHelper(methodcacheProperties, springApplicationProperties, redisUtil,
+				false);
+
+		// 本节点或其他节点更新、删除二级缓存数据时(包括后台刷新)，移除一级缓存中对应的数据
+		this.redisDataHelper.subInvalidation((cacheKey, cacheHashCode) -> memoryDataHelper.removeData(cacheHashCode),
+				true);
+	}
+
+	@Override
+	public Object getData(Object proxy, Method method, Object[] args, boolean refreshData,
+						  ActualDataFunctional actualDataFunctional, String id, String remark, boolean nullable,
+						  boolean shared) throws Throwable {
+
+		return memoryDataHelper.getData(proxy, method, args, refreshData, new ActualDataFunctional() {
+
+			/**
+			 * 上一次获取数据时是否命中二级缓存
+			 */
+			private volatile boolean lowerCacheHit;
+
+			/**
+			 * 上一次发起实际请求的耗时(纳秒)
+			 */
+			private volatile long actualLoadNanos = -1L;
+
+			@Override
+			public Object getActualData() throws Throwable {
+				// 一级缓存未命中，从二级缓存获取；二级缓存未命中时才发起实际请求
+				lowerCacheHit = true;
+				actualLoadNanos = -1L;
+				return redisDataHelper.getData(proxy, method, args, refreshData,
+						new ActualDataFunctional() {
+							@Override
+							public Object getActualData() throws Throwable {
+								lowerCacheHit = false;
+								long loadStartNanoTime = System.nanoTime();
+								try {
+									return actualDataFunctional.getActualData();
+								} finally {
+									actualLoadNanos = System.nanoTime() - loadStartNanoTime;
+								}
+							}
+
+							@Override
+							public long getExpirationTime() {
+								return actualDataFunctional.getExpirationTime();
+							}
+
+							@Override
+							public long getNegativeExpirationTime() {
+								return actualDataFunctional.getNegativeExpirationTime();
+							}
+
+							@Override
+							public long getStaleExpiration() {
+								return actualDataFunctional.getStaleExpiration();
+							}
+
+							@Override
+							public long getRefreshInterval() {
+								return actualDataFunctional.getRefreshInterval();
+							}
+
+							@Override
+							public double getRefreshThreshold() {
+								return actualDataFunctional.getRefreshThreshold();
+							}
+
+							@Override
+							public double getEarlyRefreshBeta() {
+								return actualDataFunctional.getEarlyRefreshBeta();
+							}
+
+							@Override
+							public double getStatisticsSampleRate() {
+								return actualDataFunctional.getStatisticsSampleRate();
+							}
+						}, id, remark, nullable, shared);
+			}
+
+			@Override
+			public boolean isLowerCacheHit() {
+				return lowerCacheHit;
+			}
+
+			@Override
+			public long getActualLoadNanos() {
+				return actualLoadNanos;
+			}
+
+			@Override
+			public long getExpirationTime() {
+				return memoryExpirationTime(actualDataFunctional.getExpirationTime());
+			}
+
+			@Override
+			public long getNegativeExpirationTime() {
+				return memoryExpirationTime(actualDataFunctional.getNegativeExpirationTime());
+			}
+
+			@Override
+			public long getRefreshInterval() {
+				return actualDataFunctional.getRefreshInterval();
+			}
+
+			@Override
+			public double getRefreshThreshold() {
+				return actualDataFunctional.getRefreshThreshold();
+			}
+
+			@Override
+			public double getEarlyRefreshBeta() {
+				return actualDataFunctional.getEarlyRefreshBeta();
+			}
+
+			@Override
+			public double getStatisticsSampleRate() {
+				return actualDataFunctional.getStatisticsSampleRate();
+			}
+		}, id, remark, nullable, shared);
+	}
+
+	@Override
+	public List<CacheDataModel> getBatchCacheData(Method method, List<Object[]> elementArgs, int batchIndex,
+												  String id, boolean shared) {
+		List<CacheDataModel> cacheDataModels = memoryDataHelper.getBatchCacheData(method, elementArgs, batchIndex,
+				id, shared);
+
+		// 一级缓存未命中，从二级缓存获取
+		List<Integer> missIndexes = new ArrayList<>();
+		List<Object[]> missElementArgs = new ArrayList<>();
+		for (int i = 0; i < cacheDataModels.size(); i++) {
+			CacheDataModel cacheDataModel = cacheDataModels.get(i);
+			if (cacheDataModel == null || cacheDataModel.isExpired()) {
+				missIndexes.add(i);
+				missElementArgs.add(elementArgs.get(i));
+			}
+		}
+		if (missIndexes.isEmpty()) {
+			return cacheDataModels;
+		}
+
+		List<CacheDataModel> redisCacheDataModels = redisDataHelper.getBatchCacheData(method, missElementArgs,
+				batchIndex, id, shared);
+		if (redisCacheDataModels == null) {
+			return null;
+		}
+
+		for (int i = 0; i < missIndexes.size(); i++) {
+			CacheDataModel cacheDataModel = redisCacheDataModels.get(i);
+			if (cacheDataModel == null || cacheDataModel.isExpired()) {
+				continue;
+			}
+			cacheDataModels.set(missIndexes.get(i), cacheDataModel);
+
+			// 写入一级缓存，不超过二级缓存的过期时间
+			long expireTime = cacheDataModel.getExpireTime();
+			Object data = cacheDataModel.isNullData() ? NullObject.INSTANCE : cacheDataModel.getData();
+			memoryDataHelper.setBatchCacheData(method, Collections.singletonList(missElementArgs.get(i)), batchIndex,
+					Collections.singletonList(data), cacheDataModel.getLoadSpend(), new ActualDataFunctional() {
+						@Override
+						public Object getActualData() {
+							return data;
+						}
+
+						@Override
+						public long getExpirationTime() {
+							return memoryExpirationTime(expireTime);
+						}
+					}, cacheDataModel.getId(), cacheDataModel.getRemark());
+		}
+		return cacheDataModels;
+	}
+
+	@Override
+	public void setBatchCacheData(Method method, List<Object[]> elementArgs, int batchIndex, List<Object> data,
+								  long loadSpend, ActualDataFunctional actualDataFunctional,
+								  String id, String remark) {
+		redisDataHelper.setBatchCacheData(method, elementArgs, batchIndex, data, loadSpend, actualDataFunctional,
+				id, remark);
+		memoryDataHelper.setBatchCacheData(method, elementArgs, batchIndex, data, loadSpend, new ActualDataFunctional() {
+			@Override
+			public Object getActualData() throws Throwable {
+				return actualDataFunctional.getActualData();
+			}
+
+			@Override
+			public long getExpirationTime() {
+				return memoryExpirationTime(actualDataFunctional.getExpirationTime());
+			}
+
+			@Override
+			public long getNegativeExpirationTime() {
+				return memoryExpirationTime(actualDataFunctional.getNegativeExpirationTime());
+			}
+		}, id, remark);
+	}
+
+	@Override
+	public Map<String, Map<String, Object>> getCaches(String match) {
+		return redisDataHelper.getCaches(match);
+	}
+
+	@Override
+	public Map<String, Map<String, Object>> wipeCache(String id, String cacheHashCode) {
+		Map<String, Map<String, Object>> delCacheMap = new HashMap<>(memoryDataHelper.wipeCache(id, cacheHashCode));
+		delCacheMap.putAll(redisDataHelper.wipeCache(id, cacheHashCode));
+		return delCacheMap;
+	}
+
+	@Override
+	public Map<String, CacheStatisticsModel> getCacheStatistics() {
+		return memoryDataHelper.getCacheStatistics();
+	}
+
+	@Override
+	public CacheStatisticsModel getCacheStatistics(String methodSignature) {
+		return memoryDataHelper.getCacheStatistics(methodSignature);
+	}
+
+	@Override
+	public void setCacheStatistics(String methodSignature, CacheStatisticsModel cacheStatisticsModel) {
+		memoryDataHelper.setCacheStatistics(methodSignature, cacheStatisticsModel);
+	}
+
+	@Override
+	public CacheStatisticsModel getLocalStatistics(String cacheKey, String methodSignature,
+												   int methodSignatureHashCode, String id, String remark) {
+		return memoryDataHelper.getLocalStatistics(cacheKey, methodSignature, methodSignatureHashCode, id, remark);
+	}
+
+	@Override
+	public Map<String, CacheStatisticsModel> getLocalStatistics() {
+		return memoryDataHelper.getLocalStatistics();
+	}
+
+	@Override
+	public long getCacheCount() {
+		return memoryDataHelper.getCacheCount();
+	}
+
+	@Override
+	public long getCacheSize() {
+		return memoryDataHelper.getCacheSize();
+	}
+
+	@Override
+	public int getRefreshingCount() {
+		return memoryDataHelper.getRefreshingCount() + redisDataHelper.getRefreshingCount();
+	}
+
+	@Override
+	public void shutdown() {
+		redisDataHelper.shutdown();
+	}
+
+	@Override
+	public void wipeStatistics(CacheStatisticsModel statisticsModel) {
+		memoryDataHelper.wipeStatistics(statisticsModel);
+	}
+
+	@Override
+	public Map<String, CacheStatisticsModel> wipeStatisticsAll() {
+		return memoryDataHelper.wipeStatisticsAll();
+	}
+
+	/**
+	 * 一级缓存的过期时间
+	 * 不超过当前时间 + tiered-memory-expiration
+	 *
+	 * @param expirationTime 数据过期时间
+	 * @return 一级缓存的过期时间
+	 */
+	private long memoryExpirationTime(long expirationTime) {
+		long memoryExpirationTime = new Date().getTime() + memoryExpiration;
+		if (expirationTime < 0L || expirationTime > memoryExpirationTime) {
+			return memoryExpirationTime;
+		}
+		return expirationTime;
+	}
+}
@@ -0,0 +1,152 @@
+package love.kill.methodcache.jfr;
+
+/**
+ * JFR(JDK Flight Recorder)事件
+ * 运行环境支持JFR时，通过JFR配置开启对应事件(默认关闭)，如：
+ * 		-XX:StartFlightRecording:settings=default,+love.kill.methodcache.CacheLoad#enabled=true
+ * 运行环境不支持JFR时，所有方法直接返回；事件未开启时，事件对象可被JIT消除，没有额外开销
+ *
+ * @author Lycop
+ */
+public final class CacheEvents {
+
+	/**
+	 * 事件名前缀
+	 */
+	static final String NAME_PREFIX = "love.kill.methodcache.";
+
+	/**
+	 * 事件分类
+	 */
+	static final String CATEGORY = "Methodcache";
+
+	/**
+	 * 移除原因：过期
+	 */
+	public static final String EXPIRED = "EXPIRED";
+
+	/**
+	 * 移除原因：超出最大个数被淘汰
+	 */
+	public static final String EVICTED = "EVICTED";
+
+	/**
+	 * 移除原因：内存不足被回收
+	 */
+	public static final String GC = "GC";
+
+	/**
+	 * 运行环境支持JFR
+	 */
+	private static final boolean AVAILABLE = isAvailable();
+
+	private CacheEvents() {
+	}
+
+	/**
+	 * 缓存命中
+	 *
+	 * @param store           缓存存储介质
+	 * @param methodSignature 方法签名
+	 * @param id              缓存ID
+	 * @param cacheHashCode   缓存哈希值
+	 */
+	public static void hit(String store, String methodSignature, String id, int cacheHashCode) {
+		if (AVAILABLE) {
+			JfrEventRecorder.hit(store, methodSignature, id, cacheHashCode);
+		}
+	}
+
+	/**
+	 * 开始加载(发起实际请求)
+	 *
+	 * @return 事件，运行环境不支持JFR或事件未开启时为null
+	 */
+	public static Object beginLoad() {
+		return AVAILABLE ? JfrEventRecorder.beginLoad() : null;
+	}
+
+	/**
+	 * 结束加载
+	 *
+	 * @param event           {@link #beginLoad()} 返回的事件
+	 * @param store           缓存存储介质
+	 * @param methodSignature 方法签名
+	 * @param id              缓存ID
+	 * @param cacheHashCode   缓存哈希值
+	 * @param success         实际请求是否成功
+	 */
+	public static void endLoad(Object event, String store, String methodSignature, String id, int cacheHashCode,
+							   boolean success) {
+		if (event != null) {
+			JfrEventRecorder.endLoad(event, store, methodSignature, id, cacheHashCode, success);
+		}
+	}
+
+	/**
+	 * 缓存数据被移除
+	 *
+	 * @param cause           移除原因
+	 * @param methodSignature 方法签名
+	 * @param cacheHashCode   缓存哈希值
+	 * @param instanceSize    数据大小(字节)
+	 */
+	public static void eviction(String cause, String methodSignature, int cacheHashCode, long instanceSize) {
+		if (AVAILABLE) {
+			JfrEventRecorder.eviction(cause, methodSignature, cacheHashCode, instanceSize);
+		}
+	}
+
+	/**
+	 * 开始等待Redis锁
+	 *
+	 * @return 事件，运行环境不支持JFR或事件未开启时为null
+	 */
+	public static Object beginRedisLockWait() {
+		return AVAILABLE ? JfrEventRecorder.beginRedisLockWait() : null;
+	}
+
+	/**
+	 * 结束等待Redis锁
+	 *
+	 * @param event    {@link #beginRedisLockWait()} 返回的事件
+	 * @param key      锁
+	 * @param acquired 是否加锁成功
+	 */
+	public static void endRedisLockWait(Object event, String key, boolean acquired) {
+		if (event != null) {
+			JfrEventRecorder.endRedisLockWait(event, key, acquired);
+		}
+	}
+
+	/**
+	 * 开始累加统计信息
+	 *
+	 * @return 事件，运行环境不支持JFR或事件未开启时为null
+	 */
+	public static Object beginStatisticsFlush() {
+		return AVAILABLE ? JfrEventRecorder.beginStatisticsFlush() : null;
+	}
+
+	/**
+	 * 结束累加统计信息
+	 *
+	 * @param event          {@link #beginStatisticsFlush()} 返回的事件
+	 * @param pendingMethods 有待累加增量的方法个数
+	 * @param failedMethods  累加失败的方法个数
+	 */
+	public static void endStatisticsFlush(Object event, int pendingMethods, int failedMethods) {
+		if (event != null) {
+			JfrEventRecorder.endStatisticsFlush(event, pendingMethods, failedMethods);
+		}
+	}
+
+	private static boolean isAvailable() {
+		try {
+			Class.forName("jdk.jfr.Event");
+			return true;
+		} catch (Throwable e) {
+			return false;
+		}
+	}
+}
@@ -0,0 +1,41 @@
+package love.kill.methodcache.jfr;
+
+/**
+ * JFR事件记录(Java 8)
+ * 不发出任何事件；JDK 11及以上运行时使用 META-INF/versions/11 中的实现(源码：src/main/java11)
+ *
+ * @author Lycop
+ */
+final class JfrEventRecorder {
+
+	private JfrEventRecorder() {
+	}
+
+	static void hit(String store, String methodSignature, String id, int cacheHashCode) {
+	}
+
+	static Object beginLoad() {
+		return null;
+	}
+
+	static void endLoad(Object loadEvent, String store, String methodSignature, String id, int cacheHashCode,
+						boolean success) {
+	}
+
+	static void eviction(String cause, String methodSignature, int cacheHashCode, long instanceSize) {
+	}
+
+	static Object beginRedisLockWait() {
+		return null;
+	}
+
+	static void endRedisLockWait(Object lockWaitEvent, String key, boolean acquired) {
+	}
+
+	static Object beginStatisticsFlush() {
+		return null;
+	}
+
+	static void endStatisticsFlush(Object flushEvent, int pendingMethods, int failedMethods) {
+	}
+}
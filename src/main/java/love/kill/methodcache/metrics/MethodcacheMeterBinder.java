@@ -0,0 +1,187 @@
+package love.kill.methodcache.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import love.kill.methodcache.datahelper.CacheMetrics;
+import love.kill.methodcache.datahelper.CacheStatisticsModel;
+import love.kill.methodcache.datahelper.DataHelper;
+import love.kill.methodcache.util.ThreadPoolBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 缓存监控指标
+ * 将缓存数据条数、大小、淘汰、过期、等待锁耗时、刷新中的缓存个数及线程池(标签：name)状态发布至Micrometer；
+ * 开启统计(methodcache.enable-statistics)时，按方法(标签：id、method)发布请求次数、耗时及加载次数
+ *
+ * @author Lycop
+ */
+public class MethodcacheMeterBinder implements MeterBinder {
+
+	private static Logger logger = LoggerFactory.getLogger(MethodcacheMeterBinder.class);
+
+	/**
+	 * 检查新方法的间隔(毫秒)
+	 */
+	private static final long DISCOVERY_INTERVAL = 5000L;
+
+	private final DataHelper dataHelper;
+
+	/**
+	 * 已发布指标的方法签名
+	 * 内容：<指标注册中心,[方法签名]>
+	 */
+	private final Map<MeterRegistry, Set<String>> boundMethods = new ConcurrentHashMap<>();
+
+	/**
+	 * 已启动检查新方法的线程
+	 */
+	private final AtomicBoolean discoveryStarted = new AtomicBoolean(false);
+
+	public MethodcacheMeterBinder(DataHelper dataHelper) {
+		this.dataHelper = dataHelper;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		Gauge.builder("methodcache.entries", dataHelper, helper -> positiveOrNaN(helper.getCacheCount()))
+				.description("缓存数据条数")
+				.register(registry);
+		Gauge.builder("methodcache.weight", dataHelper, helper -> positiveOrNaN(helper.getCacheSize()))
+				.description("缓存数据大小")
+				.baseUnit("bytes")
+				.register(registry);
+		Gauge.builder("methodcache.refresh.pending", dataHelper, DataHelper::getRefreshingCount)
+				.description("刷新中的缓存个数")
+				.register(registry);
+		FunctionCounter.builder("methodcache.evictions", dataHelper, helper -> CacheMetrics.getEvictions())
+				.description("淘汰次数")
+				.register(registry);
+		FunctionCounter.builder("methodcache.expirations", dataHelper, helper -> CacheMetrics.getExpirations())
+				.description("过期移除次数")
+				.register(registry);
+		FunctionTimer.builder("methodcache.lock.wait", dataHelper, helper -> CacheMetrics.getLockWaits(),
+				helper -> CacheMetrics.getLockWaitNanos(), TimeUnit.NANOSECONDS)
+				.description("未命中时等待数据锁的耗时")
+				.register(registry);
+
+		for (ThreadPoolBuilder.Purpose purpose : ThreadPoolBuilder.Purpose.values()) {
+			Tags tags = Tags.of("name", purpose.getName());
+			Gauge.builder("methodcache.executor.queued", purpose, ThreadPoolBuilder::getQueuedCount)
+					.description("线程池队列中等待执行的任务数")
+					.tags(tags)
+					.register(registry);
+			Gauge.builder("methodcache.executor.active", purpose, ThreadPoolBuilder::getActiveCount)
+					.description("线程池正在执行任务的线程数")
+					.tags(tags)
+					.register(registry);
+			FunctionCounter.builder("methodcache.executor.rejected", purpose, ThreadPoolBuilder::getRejectedCount)
+					.description("线程池队列满后丢弃或由调用线程执行的任务数")
+					.tags(tags)
+					.register(registry);
+		}
+
+		boundMethods.putIfAbsent(registry, ConcurrentHashMap.newKeySet());
+		bindMethods(registry);
+
+		if (!discoveryStarted.compareAndSet(false, true)) {
+			return;
+		}
+
+		// 方法在首次被调用后才有统计信息，定期向所有注册中心发布新方法的指标
+		ThreadPoolBuilder.startDaemonThread("metrics", () -> {
+			while (true) {
+				try {
+					Thread.sleep(DISCOVERY_INTERVAL);
+					for (MeterRegistry boundRegistry : boundMethods.keySet()) {
+						bindMethods(boundRegistry);
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				} catch (Exception e) {
+					logger.error("发布缓存监控指标出现异常：" + e.getMessage());
+				}
+			}
+		});
+	}
+
+	/**
+	 * 发布方法的指标
+	 *
+	 * @param registry 指标注册中心
+	 */
+	private void bindMethods(MeterRegistry registry) {
+		Map<String, CacheStatisticsModel> localStatistics = dataHelper.getLocalStatistics();
+		if (localStatistics == null) {
+			return;
+		}
+
+		Set<String> registryMethods = boundMethods.get(registry);
+		for (Map.Entry<String, CacheStatisticsModel> entry : localStatistics.entrySet()) {
+			String methodSignature = entry.getKey();
+			if (!registryMethods.add(methodSignature)) {
+				continue;
+			}
+
+			Tags tags = Tags.of("id", Objects.toString(entry.getValue().getId(), ""), "method", methodSignature);
+			counter(registry, "methodcache.requests", "请求次数", tags.and("result", "hit"), methodSignature,
+					CacheStatisticsModel::getHit);
+			counter(registry, "methodcache.requests", "请求次数", tags.and("result", "miss"), methodSignature,
+					CacheStatisticsModel::getFailure);
+			counter(registry, "methodcache.loads", "发起实际请求次数", tags.and("result", "success"), methodSignature,
+					statisticsModel -> Math.max(statisticsModel.getFailure() - statisticsModel.getException(), 0L));
+			counter(registry, "methodcache.loads", "发起实际请求次数", tags.and("result", "failure"), methodSignature,
+					CacheStatisticsModel::getException);
+			timer(registry, tags.and("result", "hit"), methodSignature, CacheStatisticsModel::getHit,
+					CacheStatisticsModel::getTotalOfHitSpend);
+			timer(registry, tags.and("result", "miss"), methodSignature, CacheStatisticsModel::getFailure,
+					CacheStatisticsModel::getTotalOfFailureSpend);
+		}
+	}
+
+	private void counter(MeterRegistry registry, String name, String description, Tags tags, String methodSignature,
+						 ToDoubleFunction<CacheStatisticsModel> function) {
+		FunctionCounter.builder(name, this, binder -> binder.statistics(methodSignature, function))
+				.description(description)
+				.tags(tags)
+				.register(registry);
+	}
+
+	private void timer(MeterRegistry registry, Tags tags, String methodSignature,
+					   ToDoubleFunction<CacheStatisticsModel> countFunction,
+					   ToDoubleFunction<CacheStatisticsModel> totalTimeFunction) {
+		FunctionTimer.builder("methodcache.request.time", this,
+				binder -> (long) binder.statistics(methodSignature, countFunction),
+				binder -> binder.statistics(methodSignature, totalTimeFunction), TimeUnit.MILLISECONDS)
+				.description("请求耗时")
+				.tags(tags)
+				.register(registry);
+	}
+
+	/**
+	 * 读取方法的统计值
+	 * 统计被清空后从0开始
+	 */
+	private double statistics(String methodSignature, ToDoubleFunction<CacheStatisticsModel> function) {
+		Map<String, CacheStatisticsModel> localStatistics = dataHelper.getLocalStatistics();
+		CacheStatisticsModel statisticsModel = localStatistics == null ? null : localStatistics.get(methodSignature);
+		return statisticsModel == null ? 0D : function.applyAsDouble(statisticsModel);
+	}
+
+	private static double positiveOrNaN(long value) {
+		return value < 0L ? Double.NaN : value;
+	}
+}
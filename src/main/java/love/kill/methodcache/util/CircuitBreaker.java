@@ -0,0 +1,165 @@
+package love.kill.methodcache.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 熔断器
+ * 连续失败(异常或耗时超过阈值)达到次数后打开，打开期间拒绝请求；打开时长到达后进入半开状态，
+ * 仅放行一个探测请求，探测成功则关闭，失败则重新打开
+ *
+ * @author Lycop
+ */
+public class CircuitBreaker {
+
+	private static Logger logger = LoggerFactory.getLogger(CircuitBreaker.class);
+
+	/**
+	 * 熔断器状态
+	 */
+	public enum State {
+		/**
+		 * 关闭(正常放行)
+		 */
+		CLOSED,
+		/**
+		 * 打开(拒绝请求)
+		 */
+		OPEN,
+		/**
+		 * 半开(放行探测请求)
+		 */
+		HALF_OPEN
+	}
+
+	/**
+	 * 名称
+	 */
+	private final String name;
+
+	/**
+	 * 连续失败次数阈值
+	 */
+	private final int failureThreshold;
+
+	/**
+	 * 慢调用阈值(毫秒)
+	 */
+	private final long slowCallThreshold;
+
+	/**
+	 * 打开时长(毫秒)
+	 */
+	private final long openDuration;
+
+	/**
+	 * 状态
+	 */
+	private volatile State state = State.CLOSED;
+
+	/**
+	 * 打开时间
+	 */
+	private volatile long openTime;
+
+	/**
+	 * 连续失败次数
+	 */
+	private final AtomicInteger failures = new AtomicInteger(0);
+
+	/**
+	 * 探测请求的放行时间
+	 * 探测请求未在打开时长内返回结果时，放行下一个探测请求
+	 */
+	private final AtomicLong probeTime = new AtomicLong(0L);
+
+	public CircuitBreaker(String name, int failureThreshold, long slowCallThreshold, long openDuration) {
+		this.name = name;
+		this.failureThreshold = Math.max(failureThreshold, 1);
+		this.slowCallThreshold = slowCallThreshold;
+		this.openDuration = openDuration;
+	}
+
+	/**
+	 * 是否放行请求
+	 * 半开状态下仅放行一个探测请求
+	 *
+	 * @return 放行
+	 */
+	public boolean allowRequest() {
+		if (state == State.CLOSED) {
+			return true;
+		}
+
+		long now = System.currentTimeMillis();
+		if (state == State.OPEN) {
+			if (now - openTime < openDuration) {
+				return false;
+			}
+			synchronized (this) {
+				if (state == State.OPEN) {
+					state = State.HALF_OPEN;
+					probeTime.set(0L);
+				}
+			}
+		}
+
+		long lastProbeTime = probeTime.get();
+		return now - lastProbeTime >= openDuration && probeTime.compareAndSet(lastProbeTime, now);
+	}
+
+	/**
+	 * 是否已打开
+	 * 半开状态不视为打开，由 allowRequest() 放行探测请求
+	 *
+	 * @return 已打开(不含半开)
+	 */
+	public boolean isOpen() {
+		return state == State.OPEN;
+	}
+
+	/**
+	 * 记录调用结果
+	 *
+	 * @param spend 耗时(毫秒)
+	 */
+	public void record(long spend) {
+		if (slowCallThreshold > 0L && spend >= slowCallThreshold) {
+			recordFailure();
+			return;
+		}
+
+		failures.set(0);
+		if (state != State.CLOSED) {
+			synchronized (this) {
+				if (state == State.HALF_OPEN) {
+					state = State.CLOSED;
+					logger.info("[methodcache]熔断器(" + name + ")已关闭");
+				}
+			}
+		}
+	}
+
+	/**
+	 * 记录失败
+	 */
+	public void recordFailure() {
+		if (state == State.HALF_OPEN || failures.incrementAndGet() >= failureThreshold) {
+			synchronized (this) {
+				if (state != State.OPEN) {
+					state = State.OPEN;
+					openTime = System.currentTimeMillis();
+					logger.warn("[methodcache]熔断器(" + name + ")已打开，" + openDuration + "毫秒后尝试恢复");
+				}
+				failures.set(0);
+			}
+		}
+	}
+
+	public State getState() {
+		return state;
+	}
+}
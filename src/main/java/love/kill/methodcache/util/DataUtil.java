@@ -1,5 +1,8 @@
 package love.kill.methodcache.util;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import java.lang.reflect.Field;
 import java.util.*;
 
@@ -10,6 +13,8 @@ import java.util.*;
  */
 public class DataUtil {
 
+	private static Logger logger = LoggerFactory.getLogger(DataUtil.class);
+
 	public static int getArgsHashCode(Object[] args) {
 
 		Map<String, Integer> fieldHash = new LinkedHashMap<>();
@@ -33,6 +38,27 @@ public class DataUtil {
 		return fieldHash.hashCode();
 	}
 
+	/**
+	 * 批量参数中单个元素的入参哈希值
+	 * 由批量参数以外的入参哈希值与元素的哈希值组合而成，相邻的元素(如连续的ID)不会得到相同的哈希值
+	 *
+	 * @param args       入参，批量参数的位置为单个元素
+	 * @param batchIndex 批量参数下标
+	 * @return 入参哈希值
+	 * @throws IllegalStateException 无法读取元素的属性
+	 */
+	public static int getArgsHashCode(Object[] args, int batchIndex) {
+		Object[] otherArgs = args.clone();
+		otherArgs[batchIndex] = null;
+		try {
+			return 31 * getArgsHashCode(otherArgs) + doGetHash(args[batchIndex]);
+		} catch (IllegalAccessException e) {
+			// 不能退回整体参数的哈希值，否则所有元素将共用同一个缓存
+			logger.error("计算批量参数元素的哈希值出现异常：" + e.getMessage(), e);
+			throw new IllegalStateException("无法计算批量参数元素的哈希值：" + args[batchIndex], e);
+		}
+	}
+
 	private static int doGetHash(Object arg) throws IllegalAccessException {
 
 		if (arg == null) {
@@ -0,0 +1,32 @@
+package love.kill.methodcache.util;
+
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Redis异步工具类
+ * 基于响应式连接(如Lettuce)，命令在共享连接上自动流水线发送，不阻塞调用线程
+ *
+ * @author Lycop
+ */
+public class ReactiveRedisUtil {
+
+	private final ReactiveRedisTemplate<String, String> reactiveRedisTemplate;
+
+	public ReactiveRedisUtil(ReactiveRedisConnectionFactory connectionFactory) {
+		this.reactiveRedisTemplate = new ReactiveRedisTemplate<>(connectionFactory, RedisSerializationContext.string());
+	}
+
+	/**
+	 * 查询数据
+	 *
+	 * @param key 键
+	 * @return 值，不存在时为null
+	 */
+	public CompletableFuture<String> get(String key) {
+		return reactiveRedisTemplate.opsForValue().get(key).toFuture();
+	}
+}
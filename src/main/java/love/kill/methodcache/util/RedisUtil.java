@@ -1,11 +1,26 @@
 package love.kill.methodcache.util;
 
+import love.kill.methodcache.jfr.CacheEvents;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.ClusterSlotHashUtil;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.util.StringUtils;
 
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * @author Lycop
@@ -16,12 +31,53 @@ public class RedisUtil {
 
 	final private static ThreadLocal<ConcurrentHashMap<String, String>> threadLocal = new ThreadLocal<>();
 
+	final private static StringRedisSerializer stringRedisSerializer = new StringRedisSerializer();
+
 	private RedisTemplate redisTemplate;
 
+	/**
+	 * 熔断器
+	 */
+	private CircuitBreaker circuitBreaker;
+
+	/**
+	 * 命令超时(毫秒)
+	 */
+	private volatile long commandTimeout = 0L;
+
+	/**
+	 * 消息监听容器
+	 */
+	private final List<RedisMessageListenerContainer> listenerContainers = new CopyOnWriteArrayList<>();
+
 	public RedisUtil(RedisTemplate redisTemplate) {
 		this.redisTemplate = redisTemplate;
 	}
 
+	/**
+	 * 设置熔断器
+	 * 设置后查询、批量查询、脚本、加锁及解锁的耗时和异常会记录至熔断器
+	 *
+	 * @param circuitBreaker 熔断器
+	 */
+	public void setCircuitBreaker(CircuitBreaker circuitBreaker) {
+		this.circuitBreaker = circuitBreaker;
+	}
+
+	public CircuitBreaker getCircuitBreaker() {
+		return circuitBreaker;
+	}
+
+	/**
+	 * 设置命令超时
+	 * 设置后查询、批量查询、脚本、加锁及解锁在线程池中执行，超过超时时间未返回时放弃等待并抛出 QueryTimeoutException
+	 *
+	 * @param commandTimeout 超时(毫秒)，小于等于0表示仅使用Redis客户端的超时设置
+	 */
+	public void setCommandTimeout(long commandTimeout) {
+		this.commandTimeout = commandTimeout;
+	}
+
 	/**
 	 * 查询数据
 	 *
@@ -29,7 +85,10 @@ public class RedisUtil {
 	 * @return 值
 	 */
 	public Object get(String key) {
-		return key == null ? null : redisTemplate.opsForValue().get(key);
+		if (key == null) {
+			return null;
+		}
+		return call(() -> redisTemplate.opsForValue().get(key));
 	}
 
 	/**
@@ -87,6 +146,52 @@ public class RedisUtil {
 
 	}
 
+	/**
+	 * 批量获取数据
+	 * Redis Cluster 下所有key需位于同一slot
+	 *
+	 * @param keys 键
+	 * @return 值(与键的顺序一致)，不存在的键对应null
+	 */
+	@SuppressWarnings("unchecked")
+	public List<Object> multiGet(Collection<String> keys) {
+		try {
+			return call(() -> (List<Object>) redisTemplate.opsForValue().multiGet(keys));
+		} catch (Exception e) {
+			e.printStackTrace();
+			return null;
+		}
+	}
+
+	/**
+	 * 批量删除数据
+	 * Redis Cluster 下所有key需位于同一slot
+	 *
+	 * @param keys 键
+	 * @return 删除的个数
+	 */
+	@SuppressWarnings("unchecked")
+	public long del(Collection<String> keys) {
+		try {
+			Long count = redisTemplate.delete(keys);
+			return count == null ? 0L : count;
+		} catch (Exception e) {
+			e.printStackTrace();
+			return 0L;
+		}
+	}
+
+	/**
+	 * 获取key所在的slot
+	 * key中包含哈希标签({...})时，仅按标签内容计算
+	 *
+	 * @param key 键
+	 * @return slot
+	 */
+	public static int getSlot(String key) {
+		return ClusterSlotHashUtil.calculateSlot(key);
+	}
+
 	/**
 	 * 删除数据
 	 *
@@ -171,6 +276,131 @@ public class RedisUtil {
 		}
 	}
 
+	/**
+	 * 获取hash所有字段
+	 *
+	 * @param key 键
+	 * @return 字段及值
+	 */
+	@SuppressWarnings("unchecked")
+	public Map<Object, Object> hGetAll(String key) {
+		try {
+			return key == null ? null : redisTemplate.opsForHash().entries(key);
+		} catch (Exception e) {
+			e.printStackTrace();
+			return null;
+		}
+	}
+
+	/**
+	 * 添加集合元素
+	 *
+	 * @param key    键
+	 * @param values 元素
+	 */
+	@SuppressWarnings("unchecked")
+	public void sAdd(String key, String... values) {
+		try {
+			redisTemplate.opsForSet().add(key, (Object[]) values);
+		} catch (Exception e) {
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * 删除集合元素
+	 *
+	 * @param key    键
+	 * @param values 元素
+	 */
+	@SuppressWarnings("unchecked")
+	public void sRem(String key, String... values) {
+		try {
+			redisTemplate.opsForSet().remove(key, (Object[]) values);
+		} catch (Exception e) {
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * 获取集合所有元素
+	 *
+	 * @param key 键
+	 * @return 元素
+	 */
+	@SuppressWarnings("unchecked")
+	public Set<Object> sMembers(String key) {
+		try {
+			return key == null ? null : redisTemplate.opsForSet().members(key);
+		} catch (Exception e) {
+			e.printStackTrace();
+			return null;
+		}
+	}
+
+	/**
+	 * 执行脚本
+	 *
+	 * @param script 脚本
+	 * @param keys   键
+	 * @param args   参数
+	 * @param <T>    返回值类型
+	 * @return 执行结果
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T execute(RedisScript<T> script, List<String> keys, String... args) {
+		return call(() -> (T) redisTemplate.execute(script, stringRedisSerializer, stringRedisSerializer, keys,
+				(Object[]) args));
+	}
+
+	/**
+	 * 发布消息
+	 *
+	 * @param channel 频道
+	 * @param message 消息
+	 */
+	public void publish(String channel, String message) {
+		try {
+			redisTemplate.convertAndSend(channel, message);
+		} catch (Exception e) {
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * 订阅消息
+	 *
+	 * @param channel    频道
+	 * @param subscriber 订阅者
+	 * @return 消息监听容器
+	 */
+	public RedisMessageListenerContainer subscribe(String channel, Consumer<String> subscriber) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(redisTemplate.getConnectionFactory());
+		container.addMessageListener((message, pattern) ->
+				subscriber.accept(new String(message.getBody(), StandardCharsets.UTF_8)), new ChannelTopic(channel));
+		container.afterPropertiesSet();
+		container.start();
+		listenerContainers.add(container);
+		return container;
+	}
+
+	/**
+	 * 取消所有订阅
+	 * 停止并销毁订阅时创建的消息监听容器
+	 */
+	public void unsubscribeAll() {
+		for (RedisMessageListenerContainer container : listenerContainers) {
+			try {
+				container.stop();
+				container.destroy();
+			} catch (Exception e) {
+				e.printStackTrace();
+			}
+		}
+		listenerContainers.clear();
+	}
+
 	/**
 	 * 加锁
 	 *
@@ -179,7 +409,8 @@ public class RedisUtil {
 	 * @return 加锁成功
 	 */
 	public boolean lock(String key, int expireTime) {
-		return RedisLockUtil.lock(redisTemplate, key, getLockValue(key), expireTime);
+		String lockValue = getLockValue(key);
+		return call(() -> RedisLockUtil.lock(redisTemplate, key, lockValue, expireTime));
 	}
 
 	/**
@@ -193,12 +424,22 @@ public class RedisUtil {
 	 */
 	public boolean lock(String key, int expireTime, boolean block) throws InterruptedException {
 		if (block) {
-			while (!lock(key, expireTime)) {
-				if (Thread.currentThread().isInterrupted()) {
-					throw new InterruptedException();
+			Object lockWaitEvent = CacheEvents.beginRedisLockWait();
+			boolean acquired = false;
+			try {
+				while (!lock(key, expireTime)) {
+					if (Thread.currentThread().isInterrupted()) {
+						throw new InterruptedException();
+					}
+					if (circuitBreaker != null && circuitBreaker.isOpen()) {
+						throw new IllegalStateException("Redis已熔断，放弃加锁：" + key);
+					}
 				}
+				acquired = true;
+				return true;
+			} finally {
+				CacheEvents.endRedisLockWait(lockWaitEvent, key, acquired);
 			}
-			return true;
 		}
 		return lock(key, expireTime);
 	}
@@ -210,7 +451,76 @@ public class RedisUtil {
 	 * @return 解锁成功
 	 */
 	public boolean unlock(String key) {
-		return RedisLockUtil.unlock(redisTemplate, key, getLockValue(key));
+		String lockValue = getLockValue(key);
+		return call(() -> RedisLockUtil.unlock(redisTemplate, key, lockValue));
+	}
+
+	/**
+	 * 执行命令
+	 * 耗时及异常记录至熔断器；设置了命令超时时，在线程池中执行并限制等待时间
+	 *
+	 * @param command 命令
+	 * @param <T>     返回值类型
+	 * @return 执行结果
+	 */
+	private <T> T call(Supplier<T> command) {
+		long startTime = System.currentTimeMillis();
+		try {
+			T result = commandTimeout > 0L ? callWithTimeout(command) : command.get();
+			record(startTime);
+			return result;
+		} catch (RuntimeException e) {
+			recordFailure();
+			throw e;
+		}
+	}
+
+	/**
+	 * 在线程池中执行命令，超过命令超时未返回时放弃等待
+	 * 锁内容保存在调用线程中，需在调用线程中取出后再提交命令
+	 *
+	 * @param command 命令
+	 * @param <T>     返回值类型
+	 * @return 执行结果
+	 */
+	private <T> T callWithTimeout(Supplier<T> command) {
+		Future<T> future = ThreadPoolBuilder.getExecutor(ThreadPoolBuilder.Purpose.REDIS).submit(command::get);
+		try {
+			return future.get(commandTimeout, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			future.cancel(true);
+			throw new QueryTimeoutException("Redis命令超过" + commandTimeout + "毫秒未返回", e);
+		} catch (InterruptedException e) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new QueryTimeoutException("等待Redis命令时被中断", e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			throw new RedisSystemException("Redis命令执行失败", cause);
+		}
+	}
+
+	/**
+	 * 记录调用耗时至熔断器
+	 *
+	 * @param startTime 开始时间
+	 */
+	private void record(long startTime) {
+		if (circuitBreaker != null) {
+			circuitBreaker.record(System.currentTimeMillis() - startTime);
+		}
+	}
+
+	/**
+	 * 记录调用失败至熔断器
+	 */
+	private void recordFailure() {
+		if (circuitBreaker != null) {
+			circuitBreaker.recordFailure();
+		}
 	}
 
 	/**
@@ -5,6 +5,9 @@ import org.slf4j.LoggerFactory;
 
 import java.io.*;
 import java.util.Base64;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
 
 /**
  * 序列化工具类
@@ -17,6 +20,12 @@ public class SerializeUtil {
 
 	private static Logger logger = LoggerFactory.getLogger(SerializeUtil.class);
 
+	/**
+	 * 压缩标识
+	 * 序列化结果固定以 0xAC(STREAM_MAGIC) 开头，压缩结果以此标识开头，因此压缩与未压缩的数据可以共存
+	 */
+	private static final byte COMPRESSED_FLAG = 0x1F;
+
 	/**
 	 * 序列化
 	 *
@@ -71,4 +80,77 @@ public class SerializeUtil {
 	public static byte[] string2ByteArray(String str) {
 		return Base64.getDecoder().decode(str);
 	}
+
+	/**
+	 * 压缩
+	 * 数据长度达到阈值时，使用 Deflate 进行压缩，并在头部写入压缩标识；压缩后没有变小则返回原数据
+	 *
+	 * @param bytes     待压缩数据
+	 * @param threshold 压缩阈值(字节)，小于等于0表示不压缩
+	 * @return 压缩结果
+	 */
+	public static byte[] compress(byte[] bytes, int threshold) {
+		if (bytes == null || threshold <= 0 || bytes.length < threshold) {
+			return bytes;
+		}
+
+		Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+		try {
+			deflater.setInput(bytes);
+			deflater.finish();
+			ByteArrayOutputStream bos = new ByteArrayOutputStream(bytes.length >> 1);
+			bos.write(COMPRESSED_FLAG);
+			byte[] buffer = new byte[8192];
+			while (!deflater.finished()) {
+				bos.write(buffer, 0, deflater.deflate(buffer));
+			}
+			return bos.size() < bytes.length ? bos.toByteArray() : bytes;
+		} finally {
+			deflater.end();
+		}
+	}
+
+	/**
+	 * 解压
+	 * 没有压缩标识的数据原样返回
+	 *
+	 * @param bytes 待解压数据
+	 * @return 解压结果
+	 */
+	public static byte[] decompress(byte[] bytes) {
+		if (!isCompressed(bytes)) {
+			return bytes;
+		}
+
+		Inflater inflater = new Inflater();
+		try {
+			inflater.setInput(bytes, 1, bytes.length - 1);
+			ByteArrayOutputStream bos = new ByteArrayOutputStream(bytes.length << 2);
+			byte[] buffer = new byte[8192];
+			while (!inflater.finished()) {
+				int count = inflater.inflate(buffer);
+				if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+					break;
+				}
+				bos.write(buffer, 0, count);
+			}
+			return bos.toByteArray();
+		} catch (DataFormatException e) {
+			e.printStackTrace();
+			logger.error("解压时发生异常：" + e.getMessage());
+			return null;
+		} finally {
+			inflater.end();
+		}
+	}
+
+	/**
+	 * 是否为压缩数据
+	 *
+	 * @param bytes 数据
+	 * @return 压缩数据
+	 */
+	public static boolean isCompressed(byte[] bytes) {
+		return bytes != null && bytes.length > 0 && bytes[0] == COMPRESSED_FLAG;
+	}
 }
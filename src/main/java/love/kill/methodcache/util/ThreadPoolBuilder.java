@@ -2,16 +2,29 @@ package love.kill.methodcache.util;
 
 /**
  * 线程池构建
+ * 按用途统一管理缓存使用的线程池：队列有界，队列满后按用途丢弃任务或由调用线程执行；线程均为守护线程并按用途命名。
+ * 开启虚拟线程(JDK 21及以上)时，以I/O为主的用途改为每个任务一个虚拟线程，同时执行的任务数由信号量限制
  *
  * @author Lycop
  * @version 1.0.0
  * @since 1.0
  */
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 public class ThreadPoolBuilder {
 
+	private static Logger logger = LoggerFactory.getLogger(ThreadPoolBuilder.class);
+
 	/**
 	 * CPU数量
 	 */
@@ -26,34 +39,344 @@ public class ThreadPoolBuilder {
 	private static final int MAXIMUM_POOL_SIZE = CPU_COUNT * 2 + 1;
 
 	/**
-	 * 构建默认配置的线程池
+	 * 线程名前缀
+	 */
+	private static final String THREAD_NAME_PREFIX = "methodcache-";
+
+	/**
+	 * 线程池用途
+	 */
+	public enum Purpose {
+
+		/**
+		 * 命中后刷新数据，队列满时丢弃(数据仍由缓存返回)
+		 */
+		REFRESH("refresh", false, true),
+
+		/**
+		 * 写入缓存数据、Redis批量读取/删除、反序列化，队列满时由调用线程执行
+		 */
+		IO("io", true, true),
+
+		/**
+		 * 执行设置了超时的Redis命令，队列满时由调用线程执行(此时不限制超时)
+		 */
+		REDIS("redis", true, true),
+
+		/**
+		 * 异步获取数据，队列满时由调用线程执行
+		 */
+		ASYNC("async", true, true),
+
+		/**
+		 * 删除缓存(@DeleteData)，队列满时由调用线程执行
+		 */
+		DELETE("delete", true, true),
+
+		/**
+		 * 内存告警通知，队列满时丢弃
+		 */
+		MONITOR("monitor", false, false);
+
+		private final String name;
+
+		/**
+		 * 队列满时由调用线程执行，否则丢弃
+		 */
+		private final boolean callerRuns;
+
+		/**
+		 * 开启虚拟线程时使用虚拟线程执行
+		 */
+		private final boolean virtual;
+
+		Purpose(String name, boolean callerRuns, boolean virtual) {
+			this.name = name;
+			this.callerRuns = callerRuns;
+			this.virtual = virtual;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public boolean isCallerRuns() {
+			return callerRuns;
+		}
+
+		public boolean isVirtual() {
+			return virtual;
+		}
+	}
+
+	/**
+	 * 核心线程数
+	 */
+	private static volatile int coreSize = CORE_POOL_SIZE;
+
+	/**
+	 * 最大线程数
+	 */
+	private static volatile int maxSize = MAXIMUM_POOL_SIZE;
+
+	/**
+	 * 队列容量
+	 */
+	private static volatile int queueCapacity = 1000;
+
+	/**
+	 * 关闭时等待任务结束的时间(毫秒)
+	 */
+	private static volatile long shutdownTimeout = 5000L;
+
+	/**
+	 * 使用虚拟线程
+	 */
+	private static volatile boolean virtualThreads = false;
+
+	/**
+	 * 使用虚拟线程时，每个用途同时执行的任务数上限
+	 */
+	private static volatile int virtualConcurrency = 256;
+
+	/**
+	 * 线程池
+	 * 每个用途只创建一次，关闭后保留已关闭的线程池以拒绝后续任务
+	 */
+	private static final Map<Purpose, ExecutorService> executors = new ConcurrentHashMap<>();
+
+	/**
+	 * 已关闭
+	 */
+	private static volatile boolean shutdown = false;
+
+	/**
+	 * 拒绝(丢弃或由调用线程执行)次数
+	 */
+	private static final Map<Purpose, LongAdder> rejections = new EnumMap<>(Purpose.class);
+
+	/**
+	 * 后台线程
+	 */
+	private static final Set<Thread> daemonThreads = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+	static {
+		for (Purpose purpose : Purpose.values()) {
+			rejections.put(purpose, new LongAdder());
+		}
+	}
+
+	/**
+	 * 配置线程池
+	 * 仅影响此后创建的线程池
 	 *
-	 * @return 线程池
+	 * @param coreSize        核心线程数，小于等于0时使用默认值(CPU核心数 + 1)
+	 * @param maxSize         最大线程数，小于等于0时使用默认值(CPU核心数 * 2 + 1)
+	 * @param queueCapacity   队列容量
+	 * @param shutdownTimeout    关闭时等待任务结束的时间(毫秒)
+	 * @param virtualThreads     使用虚拟线程，运行环境不支持(JDK 21以下)时仍使用线程池
+	 * @param virtualConcurrency 使用虚拟线程时，每个用途同时执行的任务数上限
 	 */
-	public static ExecutorService buildDefaultThreadPool() {
-		return new ThreadPoolExecutor(
-				CORE_POOL_SIZE,
-				MAXIMUM_POOL_SIZE,
-				1000L,
-				TimeUnit.MILLISECONDS,
-				new LinkedBlockingQueue<>());
+	public static void configure(int coreSize, int maxSize, int queueCapacity, long shutdownTimeout,
+								 boolean virtualThreads, int virtualConcurrency) {
+		ThreadPoolBuilder.coreSize = coreSize > 0 ? coreSize : CORE_POOL_SIZE;
+		ThreadPoolBuilder.maxSize = Math.max(maxSize > 0 ? maxSize : MAXIMUM_POOL_SIZE, ThreadPoolBuilder.coreSize);
+		ThreadPoolBuilder.queueCapacity = Math.max(queueCapacity, 1);
+		ThreadPoolBuilder.shutdownTimeout = Math.max(shutdownTimeout, 0L);
+		ThreadPoolBuilder.virtualConcurrency = Math.max(virtualConcurrency, 1);
+		if (virtualThreads && !VirtualThreadExecutor.isSupported()) {
+			logger.warn("methodcache: 当前运行环境(Java " + System.getProperty("java.version") + ")不支持虚拟线程，仍使用线程池");
+			virtualThreads = false;
+		}
+		ThreadPoolBuilder.virtualThreads = virtualThreads;
 	}
 
 	/**
-	 * 构建单一线程池
+	 * 获取线程池
+	 * 首次获取时创建，此后不再加锁；关闭后返回已关闭的线程池，提交的任务被拒绝
 	 *
+	 * @param purpose 用途
 	 * @return 线程池
+	 * @throws RejectedExecutionException 关闭前未创建该用途的线程池
+	 */
+	public static ExecutorService getExecutor(Purpose purpose) {
+		ExecutorService executor = executors.get(purpose);
+		if (executor != null) {
+			return executor;
+		}
+		synchronized (executors) {
+			if (shutdown) {
+				throw new RejectedExecutionException("methodcache: 线程池(" + purpose.getName() + ")已关闭，丢弃任务");
+			}
+			return executors.computeIfAbsent(purpose, ThreadPoolBuilder::buildExecutor);
+		}
+	}
+
+	/**
+	 * 等待执行的任务数
+	 *
+	 * @param purpose 用途
+	 * @return 线程池队列中(或等待信号量)的任务数，线程池未创建时为0
+	 */
+	public static int getQueuedCount(Purpose purpose) {
+		ExecutorService executor = executors.get(purpose);
+		if (executor instanceof VirtualThreadExecutor) {
+			return ((VirtualThreadExecutor) executor).getQueuedCount();
+		}
+		return executor == null ? 0 : ((ThreadPoolExecutor) executor).getQueue().size();
+	}
+
+	/**
+	 * 执行中的任务数
+	 *
+	 * @param purpose 用途
+	 * @return 正在执行任务的线程数，线程池未创建时为0
+	 */
+	public static int getActiveCount(Purpose purpose) {
+		ExecutorService executor = executors.get(purpose);
+		if (executor instanceof VirtualThreadExecutor) {
+			return ((VirtualThreadExecutor) executor).getActiveCount();
+		}
+		return executor == null ? 0 : ((ThreadPoolExecutor) executor).getActiveCount();
+	}
+
+	/**
+	 * 拒绝次数
+	 *
+	 * @param purpose 用途
+	 * @return 队列满后丢弃或由调用线程执行的任务数
+	 */
+	public static long getRejectedCount(Purpose purpose) {
+		return rejections.get(purpose).sum();
+	}
+
+	/**
+	 * 启动后台线程
+	 * 线程为守护线程，关闭时被中断
+	 *
+	 * @param name     线程名
+	 * @param runnable 任务
+	 */
+	public static void startDaemonThread(String name, Runnable runnable) {
+		Thread thread = new Thread(() -> {
+			try {
+				runnable.run();
+			} finally {
+				daemonThreads.remove(Thread.currentThread());
+			}
+		}, THREAD_NAME_PREFIX + name);
+		thread.setDaemon(true);
+		daemonThreads.add(thread);
+		thread.start();
+	}
+
+	/**
+	 * 关闭所有线程池及后台线程
+	 * 等待已提交的任务结束，超时后中断；关闭后不再创建线程池，提交的任务均被拒绝
 	 */
-	public static ExecutorService buildSingleThreadPool() {
-		return Executors.newSingleThreadExecutor();
+	public static void shutdown() {
+		for (Thread thread : daemonThreads) {
+			thread.interrupt();
+		}
+
+		Map<Purpose, ExecutorService> shutdownExecutors;
+		synchronized (executors) {
+			shutdown = true;
+			shutdownExecutors = new EnumMap<>(executors);
+		}
+		for (ExecutorService executor : shutdownExecutors.values()) {
+			executor.shutdown();
+		}
+
+		long deadline = System.currentTimeMillis() + shutdownTimeout;
+		for (Map.Entry<Purpose, ExecutorService> entry : shutdownExecutors.entrySet()) {
+			try {
+				if (!entry.getValue().awaitTermination(Math.max(deadline - System.currentTimeMillis(), 0L),
+						TimeUnit.MILLISECONDS)) {
+					logger.warn("methodcache: 线程池(" + entry.getKey().getName() + ")未能在" + shutdownTimeout +
+							"毫秒内结束，剩余任务数：" + entry.getValue().shutdownNow().size());
+				}
+			} catch (InterruptedException e) {
+				entry.getValue().shutdownNow();
+				Thread.currentThread().interrupt();
+			}
+		}
 	}
 
 	/**
-	 * 构建固定线程池
+	 * 构建执行器
+	 * 开启虚拟线程且用途支持时使用虚拟线程执行器，否则使用线程池
 	 *
+	 * @param purpose 用途
+	 * @return 执行器
+	 */
+	private static ExecutorService buildExecutor(Purpose purpose) {
+		ExecutorService executor = virtualThreads && purpose.isVirtual() ? buildVirtualThreadExecutor(purpose) : null;
+		return executor != null ? executor : buildThreadPool(purpose);
+	}
+
+	/**
+	 * 构建线程池
+	 *
+	 * @param purpose 用途
 	 * @return 线程池
 	 */
-	public static ExecutorService buildFixedThreadPool() {
-		return Executors.newFixedThreadPool(CORE_POOL_SIZE);
+	private static ThreadPoolExecutor buildThreadPool(Purpose purpose) {
+		LongAdder rejection = rejections.get(purpose);
+		RejectedExecutionHandler handler = (runnable, executor) -> {
+			rejection.increment();
+			if (executor.isShutdown()) {
+				throw new RejectedExecutionException("methodcache: 线程池(" + purpose.getName() + ")已关闭，丢弃任务");
+			}
+			if (purpose.isCallerRuns()) {
+				runnable.run();
+				return;
+			}
+			throw new RejectedExecutionException("methodcache: 线程池(" + purpose.getName() + ")已满，丢弃任务");
+		};
+
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(
+				coreSize,
+				maxSize,
+				1000L,
+				TimeUnit.MILLISECONDS,
+				new LinkedBlockingQueue<>(queueCapacity),
+				new NamedThreadFactory(THREAD_NAME_PREFIX + purpose.getName()),
+				handler);
+		return executor;
+	}
+
+	/**
+	 * 构建虚拟线程执行器
+	 * 同时执行的任务数达到上限后，任务在虚拟线程中等待信号量；等待的任务数超过队列容量时按用途丢弃任务或由调用线程执行
+	 *
+	 * @param purpose 用途
+	 * @return 虚拟线程执行器，运行环境不支持虚拟线程时返回null
+	 */
+	private static ExecutorService buildVirtualThreadExecutor(Purpose purpose) {
+		LongAdder rejection = rejections.get(purpose);
+		return VirtualThreadExecutor.build(THREAD_NAME_PREFIX + purpose.getName() + "-virtual-", virtualConcurrency,
+				queueCapacity, purpose.isCallerRuns(), rejection::increment);
+	}
+
+	/**
+	 * 按用途命名的守护线程
+	 */
+	private static class NamedThreadFactory implements ThreadFactory {
+
+		private final String namePrefix;
+
+		private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+		private NamedThreadFactory(String namePrefix) {
+			this.namePrefix = namePrefix;
+		}
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, namePrefix + "-" + threadNumber.getAndIncrement());
+			thread.setDaemon(true);
+			return thread;
+		}
 	}
 }
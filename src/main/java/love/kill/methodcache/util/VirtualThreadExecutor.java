@@ -0,0 +1,232 @@
+package love.kill.methodcache.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 虚拟线程执行器
+ * 每个任务使用一个虚拟线程执行，同时执行的任务数由信号量限制；等待执行的任务数超过队列容量时按溢出策略处理。
+ * 虚拟线程通过反射创建，仅在JDK 21及以上版本可用
+ *
+ * @author Lycop
+ */
+public class VirtualThreadExecutor extends AbstractExecutorService {
+
+	/**
+	 * 虚拟线程工厂
+	 */
+	private final ThreadFactory threadFactory;
+
+	/**
+	 * 同时执行的任务数
+	 */
+	private final Semaphore permits;
+
+	/**
+	 * 同时执行的任务数上限
+	 */
+	private final int concurrency;
+
+	/**
+	 * 等待执行的任务数上限
+	 */
+	private final int queueCapacity;
+
+	/**
+	 * 溢出时由调用线程执行，否则丢弃
+	 */
+	private final boolean callerRuns;
+
+	/**
+	 * 溢出回调
+	 */
+	private final Runnable onRejected;
+
+	/**
+	 * 已提交未结束的任务数
+	 */
+	private final AtomicInteger pending = new AtomicInteger();
+
+	/**
+	 * 执行中的线程
+	 */
+	private final Set<Thread> threads = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+	private volatile boolean shutdown = false;
+
+	private VirtualThreadExecutor(ThreadFactory threadFactory, int concurrency, int queueCapacity, boolean callerRuns,
+								  Runnable onRejected) {
+		this.threadFactory = threadFactory;
+		this.concurrency = concurrency;
+		this.permits = new Semaphore(concurrency);
+		this.queueCapacity = queueCapacity;
+		this.callerRuns = callerRuns;
+		this.onRejected = onRejected;
+	}
+
+	/**
+	 * 构建虚拟线程执行器
+	 *
+	 * @param name          线程名前缀
+	 * @param concurrency   同时执行的任务数上限
+	 * @param queueCapacity 等待执行的任务数上限
+	 * @param callerRuns    溢出时由调用线程执行，否则丢弃
+	 * @param onRejected    溢出回调
+	 * @return 虚拟线程执行器，运行环境不支持虚拟线程时返回null
+	 */
+	public static VirtualThreadExecutor build(String name, int concurrency, int queueCapacity, boolean callerRuns,
+											  Runnable onRejected) {
+		ThreadFactory threadFactory = virtualThreadFactory(name);
+		if (threadFactory == null) {
+			return null;
+		}
+		return new VirtualThreadExecutor(threadFactory, Math.max(concurrency, 1), Math.max(queueCapacity, 0),
+				callerRuns, onRejected);
+	}
+
+	/**
+	 * 运行环境是否支持虚拟线程
+	 *
+	 * @return 支持虚拟线程
+	 */
+	public static boolean isSupported() {
+		return virtualThreadFactory("methodcache-probe-") != null;
+	}
+
+	@Override
+	public void execute(Runnable command) {
+		if (shutdown) {
+			throw new RejectedExecutionException("methodcache: 执行器已关闭");
+		}
+
+		if (pending.incrementAndGet() > concurrency + queueCapacity) {
+			pending.decrementAndGet();
+			onRejected.run();
+			if (callerRuns) {
+				command.run();
+				return;
+			}
+			throw new RejectedExecutionException("methodcache: 等待执行的任务数已达上限，丢弃任务");
+		}
+
+		try {
+			Thread thread = threadFactory.newThread(() -> {
+				threads.add(Thread.currentThread());
+				try {
+					permits.acquire();
+					try {
+						command.run();
+					} finally {
+						permits.release();
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				} finally {
+					threads.remove(Thread.currentThread());
+					finish();
+				}
+			});
+			thread.start();
+		} catch (RuntimeException | Error e) {
+			finish();
+			throw e;
+		}
+	}
+
+	/**
+	 * 等待执行的任务数
+	 *
+	 * @return 等待执行的任务数
+	 */
+	public int getQueuedCount() {
+		return Math.max(pending.get() - getActiveCount(), 0);
+	}
+
+	/**
+	 * 执行中的任务数
+	 *
+	 * @return 执行中的任务数
+	 */
+	public int getActiveCount() {
+		return concurrency - permits.availablePermits();
+	}
+
+	@Override
+	public void shutdown() {
+		shutdown = true;
+		synchronized (pending) {
+			pending.notifyAll();
+		}
+	}
+
+	@Override
+	public List<Runnable> shutdownNow() {
+		shutdown();
+		for (Thread thread : threads) {
+			thread.interrupt();
+		}
+		return new ArrayList<>();
+	}
+
+	@Override
+	public boolean isShutdown() {
+		return shutdown;
+	}
+
+	@Override
+	public boolean isTerminated() {
+		return shutdown && pending.get() == 0;
+	}
+
+	@Override
+	public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+		long deadline = System.nanoTime() + unit.toNanos(timeout);
+		synchronized (pending) {
+			while (!isTerminated()) {
+				long remaining = deadline - System.nanoTime();
+				if (remaining <= 0L) {
+					return false;
+				}
+				TimeUnit.NANOSECONDS.timedWait(pending, remaining);
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 任务结束
+	 */
+	private void finish() {
+		if (pending.decrementAndGet() == 0 && shutdown) {
+			synchronized (pending) {
+				pending.notifyAll();
+			}
+		}
+	}
+
+	/**
+	 * 通过反射获取虚拟线程工厂：Thread.ofVirtual().name(name, 1).factory()
+	 *
+	 * @param name 线程名前缀
+	 * @return 虚拟线程工厂，运行环境不支持虚拟线程时返回null
+	 */
+	private static ThreadFactory virtualThreadFactory(String name) {
+		try {
+			Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+			Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+			builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, name, 1L);
+			return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+		} catch (Exception e) {
+			return null;
+		}
+	}
+}
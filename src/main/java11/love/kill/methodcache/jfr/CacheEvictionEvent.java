@@ -0,0 +1,37 @@
+package love.kill.methodcache.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 缓存移除事件
+ *
+ * @author Lycop
+ */
+@Name(CacheEvents.NAME_PREFIX + "CacheEviction")
+@Label("Cache Eviction")
+@Category(CacheEvents.CATEGORY)
+@Description("缓存数据被移除")
+@Enabled(false)
+@StackTrace(false)
+class CacheEvictionEvent extends jdk.jfr.Event {
+
+	@Label("Cause")
+	@Description("移除原因：EXPIRED-过期，EVICTED-超出最大个数被淘汰，GC-内存不足被回收")
+	String cause;
+
+	@Label("Method Signature")
+	String methodSignature;
+
+	@Label("Cache Hash Code")
+	int cacheHashCode;
+
+	@Label("Instance Size")
+	@DataAmount
+	long instanceSize;
+}
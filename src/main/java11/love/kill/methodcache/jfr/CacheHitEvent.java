@@ -0,0 +1,35 @@
+package love.kill.methodcache.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 缓存命中事件
+ *
+ * @author Lycop
+ */
+@Name(CacheEvents.NAME_PREFIX + "CacheHit")
+@Label("Cache Hit")
+@Category(CacheEvents.CATEGORY)
+@Description("缓存命中")
+@Enabled(false)
+@StackTrace(false)
+class CacheHitEvent extends jdk.jfr.Event {
+
+	@Label("Store")
+	@Description("缓存存储介质")
+	String store;
+
+	@Label("Method Signature")
+	String methodSignature;
+
+	@Label("Cache ID")
+	String id;
+
+	@Label("Cache Hash Code")
+	int cacheHashCode;
+}
@@ -0,0 +1,40 @@
+package love.kill.methodcache.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 缓存加载事件
+ * 缓存未命中时发起实际请求，事件时长为实际请求的耗时
+ *
+ * @author Lycop
+ */
+@Name(CacheEvents.NAME_PREFIX + "CacheLoad")
+@Label("Cache Load")
+@Category(CacheEvents.CATEGORY)
+@Description("缓存未命中，发起实际请求")
+@Enabled(false)
+@StackTrace(false)
+class CacheLoadEvent extends jdk.jfr.Event {
+
+	@Label("Store")
+	@Description("缓存存储介质")
+	String store;
+
+	@Label("Method Signature")
+	String methodSignature;
+
+	@Label("Cache ID")
+	String id;
+
+	@Label("Cache Hash Code")
+	int cacheHashCode;
+
+	@Label("Success")
+	@Description("实际请求是否成功")
+	boolean success;
+}
@@ -0,0 +1,96 @@
+package love.kill.methodcache.jfr;
+
+/**
+ * JFR事件记录
+ * 仅在运行环境支持JFR时由 {@link CacheEvents} 加载
+ *
+ * @author Lycop
+ */
+final class JfrEventRecorder {
+
+	private JfrEventRecorder() {
+	}
+
+	static void hit(String store, String methodSignature, String id, int cacheHashCode) {
+		CacheHitEvent event = new CacheHitEvent();
+		if (event.shouldCommit()) {
+			event.store = store;
+			event.methodSignature = methodSignature;
+			event.id = id;
+			event.cacheHashCode = cacheHashCode;
+			event.commit();
+		}
+	}
+
+	static Object beginLoad() {
+		CacheLoadEvent event = new CacheLoadEvent();
+		if (!event.isEnabled()) {
+			return null;
+		}
+		event.begin();
+		return event;
+	}
+
+	static void endLoad(Object loadEvent, String store, String methodSignature, String id, int cacheHashCode,
+						boolean success) {
+		CacheLoadEvent event = (CacheLoadEvent) loadEvent;
+		event.end();
+		if (event.shouldCommit()) {
+			event.store = store;
+			event.methodSignature = methodSignature;
+			event.id = id;
+			event.cacheHashCode = cacheHashCode;
+			event.success = success;
+			event.commit();
+		}
+	}
+
+	static void eviction(String cause, String methodSignature, int cacheHashCode, long instanceSize) {
+		CacheEvictionEvent event = new CacheEvictionEvent();
+		if (event.shouldCommit()) {
+			event.cause = cause;
+			event.methodSignature = methodSignature;
+			event.cacheHashCode = cacheHashCode;
+			event.instanceSize = instanceSize;
+			event.commit();
+		}
+	}
+
+	static Object beginRedisLockWait() {
+		RedisLockWaitEvent event = new RedisLockWaitEvent();
+		if (!event.isEnabled()) {
+			return null;
+		}
+		event.begin();
+		return event;
+	}
+
+	static void endRedisLockWait(Object lockWaitEvent, String key, boolean acquired) {
+		RedisLockWaitEvent event = (RedisLockWaitEvent) lockWaitEvent;
+		event.end();
+		if (event.shouldCommit()) {
+			event.key = key;
+			event.acquired = acquired;
+			event.commit();
+		}
+	}
+
+	static Object beginStatisticsFlush() {
+		StatisticsBacklogEvent event = new StatisticsBacklogEvent();
+		if (!event.isEnabled()) {
+			return null;
+		}
+		event.begin();
+		return event;
+	}
+
+	static void endStatisticsFlush(Object flushEvent, int pendingMethods, int failedMethods) {
+		StatisticsBacklogEvent event = (StatisticsBacklogEvent) flushEvent;
+		event.end();
+		if (event.shouldCommit()) {
+			event.pendingMethods = pendingMethods;
+			event.failedMethods = failedMethods;
+			event.commit();
+		}
+	}
+}
@@ -0,0 +1,30 @@
+package love.kill.methodcache.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Redis锁等待事件
+ * 事件时长为阻塞等待Redis锁的耗时
+ *
+ * @author Lycop
+ */
+@Name(CacheEvents.NAME_PREFIX + "RedisLockWait")
+@Label("Redis Lock Wait")
+@Category(CacheEvents.CATEGORY)
+@Description("阻塞等待Redis锁")
+@Enabled(false)
+@StackTrace(false)
+class RedisLockWaitEvent extends jdk.jfr.Event {
+
+	@Label("Key")
+	String key;
+
+	@Label("Acquired")
+	@Description("是否加锁成功")
+	boolean acquired;
+}
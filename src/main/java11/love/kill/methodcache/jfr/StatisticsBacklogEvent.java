@@ -0,0 +1,31 @@
+package love.kill.methodcache.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 统计积压事件
+ * 本地统计信息累加至Redis时记录，事件时长为本次累加的耗时
+ *
+ * @author Lycop
+ */
+@Name(CacheEvents.NAME_PREFIX + "StatisticsBacklog")
+@Label("Statistics Backlog")
+@Category(CacheEvents.CATEGORY)
+@Description("本地统计信息累加至Redis")
+@Enabled(false)
+@StackTrace(false)
+class StatisticsBacklogEvent extends jdk.jfr.Event {
+
+	@Label("Pending Methods")
+	@Description("有待累加增量的方法个数")
+	int pendingMethods;
+
+	@Label("Failed Methods")
+	@Description("累加失败、留待下次累加的方法个数")
+	int failedMethods;
+}
@@ -0,0 +1,103 @@
+package love.kill.methodcache.datahelper;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 缓存数据头测试
+ *
+ * @author Lycop
+ */
+public class CacheDataHeaderTest {
+
+	private static CacheDataModel dataModel(Object data, long expireTime) {
+		CacheDataModel cacheDataModel = new CacheDataModel("demo", "public User Demo.find(Long)", "[1]",
+				-123456, data, expireTime);
+		cacheDataModel.setCacheTime(1600000000000L);
+		cacheDataModel.setId("findUser");
+		cacheDataModel.setRemark("查询用户");
+		return cacheDataModel;
+	}
+
+	@Test
+	public void encodeHasFixedLength() {
+		String header = CacheDataHeader.encode(dataModel("user", 1700000000000L), 0);
+
+		assertEquals(CacheDataHeader.HEADER_LENGTH, header.length());
+		assertTrue(header.startsWith(CacheDataHeader.magic()));
+	}
+
+	@Test
+	public void encodeParseRoundTrip() {
+		CacheDataModel cacheDataModel = dataModel("user", 1700000000000L);
+		String header = CacheDataHeader.encode(cacheDataModel, CacheDataHeader.FLAG_COMPRESSED);
+
+		CacheDataHeader parsed = CacheDataHeader.parse(header + "payload");
+		assertTrue(parsed.hasFlag(CacheDataHeader.FLAG_COMPRESSED));
+		assertFalse(parsed.hasFlag(CacheDataHeader.FLAG_NULL));
+		assertEquals(1700000000000L, parsed.getExpireTime());
+		assertEquals(1600000000000L, parsed.getCacheTime());
+		assertEquals(cacheDataModel.getInstanceSize(), parsed.getInstanceSize());
+		assertEquals(-123456, parsed.getCacheHashCode());
+		assertEquals(CacheDataHeader.idHashCode("findUser"), parsed.getIdHashCode());
+		assertEquals("payload", CacheDataHeader.payload(header + "payload"));
+	}
+
+	@Test
+	public void cacheTimeAtDocumentedOffset() {
+		String header = CacheDataHeader.encode(dataModel("user", 1700000000000L), 0);
+		String cacheTime = header.substring(CacheDataHeader.CACHE_TIME_OFFSET,
+				CacheDataHeader.CACHE_TIME_OFFSET + CacheDataHeader.CACHE_TIME_LENGTH);
+
+		assertEquals(1600000000000L, Long.parseUnsignedLong(cacheTime, 16));
+	}
+
+	@Test
+	public void permanentDataNeverExpires() {
+		CacheDataHeader parsed = CacheDataHeader.parse(CacheDataHeader.encode(dataModel("user", -1L), 0));
+
+		assertEquals(-1L, parsed.getExpireTime());
+		assertFalse(parsed.isExpired());
+		assertTrue(CacheDataHeader.parse(CacheDataHeader.encode(dataModel("user", 1L), 0)).isExpired());
+	}
+
+	@Test
+	public void valueWithoutHeaderIsNotParsed() {
+		assertNull(CacheDataHeader.parse(null));
+		assertNull(CacheDataHeader.parse("rO0ABXQABHVzZXI="));
+		assertNull(CacheDataHeader.parse(CacheDataHeader.magic() + "zz"));
+		assertEquals("rO0ABXQABHVzZXI=", CacheDataHeader.payload("rO0ABXQABHVzZXI="));
+	}
+
+	@Test
+	public void negativeRoundTrip() {
+		CacheDataModel cacheDataModel = dataModel(DataHelper.NullObject.INSTANCE, 1700000000000L);
+		cacheDataModel.setRemark(null);
+		String value = CacheDataHeader.encodeNegative(cacheDataModel);
+
+		assertTrue(CacheDataHeader.isNegative(value));
+		CacheDataModel decoded = CacheDataHeader.decodeNegative(value);
+		assertTrue(decoded.isNullData());
+		assertEquals("demo", decoded.getApplicationName());
+		assertEquals("public User Demo.find(Long)", decoded.getMethodSignature());
+		assertEquals("[1]", decoded.getArgs());
+		assertEquals("findUser", decoded.getId());
+		assertNull(decoded.getRemark());
+		assertEquals(-123456, decoded.getCacheHashCode());
+		assertEquals(1600000000000L, decoded.getCacheTime());
+		assertEquals(1700000000000L, decoded.getExpireTime());
+		assertEquals(value.length() * 2L, decoded.getInstanceSize());
+	}
+
+	@Test
+	public void dataIsNotNegative() {
+		String value = CacheDataHeader.encode(dataModel("user", 1700000000000L), 0) + "rO0ABXQABHVzZXI=";
+
+		assertFalse(CacheDataHeader.isNegative(value));
+		assertNull(CacheDataHeader.decodeNegative(value));
+	}
+}
@@ -0,0 +1,105 @@
+package love.kill.methodcache.datahelper;
+
+import org.junit.Test;
+
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 耗时分布测试
+ *
+ * @author Lycop
+ */
+public class LatencyHistogramTest {
+
+	@Test
+	public void emptyHistogramHasNoPercentile() {
+		LatencyHistogram histogram = new LatencyHistogram();
+
+		assertEquals(0L, histogram.getTotalCount());
+		assertEquals(-1L, histogram.getValueAtPercentile(50D));
+		assertEquals("", histogram.printPercentiles().get("p50"));
+	}
+
+	@Test
+	public void smallValuesAreExact() {
+		for (long nanos = 0L; nanos < 8L; nanos++) {
+			LatencyHistogram histogram = new LatencyHistogram();
+			histogram.record(nanos);
+			assertEquals(nanos, histogram.getValueAtPercentile(100D));
+		}
+	}
+
+	@Test
+	public void percentileIsUpperBoundWithinRelativeError() {
+		long[] values = {8L, 9L, 15L, 16L, 1000L, 123456L, 1000000L, 987654321L};
+		for (long value : values) {
+			LatencyHistogram histogram = new LatencyHistogram();
+			histogram.record(value);
+			long upper = histogram.getValueAtPercentile(50D);
+			assertTrue(value + " -> " + upper, upper >= value);
+			assertTrue(value + " -> " + upper, upper - value <= value / 8L);
+		}
+	}
+
+	@Test
+	public void percentilesFollowDistribution() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record(1000L, 90L);
+		histogram.record(1000000L, 10L);
+
+		assertEquals(100L, histogram.getTotalCount());
+		assertTrue(histogram.getValueAtPercentile(50D) < 1200L);
+		assertTrue(histogram.getValueAtPercentile(90D) < 1200L);
+		assertTrue(histogram.getValueAtPercentile(99D) >= 1000000L);
+	}
+
+	@Test
+	public void invalidRecordsAreIgnored() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record(-1L);
+		histogram.record(100L, 0L);
+		histogram.add(-1, 1L);
+		histogram.add(LatencyHistogram.BUCKET_COUNT, 1L);
+
+		assertEquals(0L, histogram.getTotalCount());
+	}
+
+	@Test
+	public void overflowGoesToLastBucket() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record(Long.MAX_VALUE);
+
+		assertEquals(1L, histogram.getCount(LatencyHistogram.BUCKET_COUNT - 1));
+	}
+
+	@Test
+	public void mergeAndDeltaAreBucketWise() {
+		LatencyHistogram first = new LatencyHistogram();
+		first.record(100L, 3L);
+		LatencyHistogram second = new LatencyHistogram();
+		second.record(100L, 2L);
+		second.record(5000L);
+
+		first.merge(second);
+		assertEquals(6L, first.getTotalCount());
+
+		LatencyHistogram snapshot = first.delta(null);
+		first.record(5000L, 4L);
+		LatencyHistogram delta = first.delta(snapshot);
+		assertEquals(4L, delta.getTotalCount());
+		assertEquals(delta.getValueAtPercentile(50D), second.getValueAtPercentile(100D));
+	}
+
+	@Test
+	public void printsPercentilesInMillis() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record(7L);
+
+		Map<String, String> percentiles = histogram.printPercentiles();
+		assertEquals("[p50, p90, p99, p99.9]", percentiles.keySet().toString());
+		assertEquals("0.000", percentiles.get("p99.9"));
+	}
+}
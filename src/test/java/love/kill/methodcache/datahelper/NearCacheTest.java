@@ -0,0 +1,60 @@
+package love.kill.methodcache.datahelper;
+
+import love.kill.methodcache.util.SerializeUtil;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * 近端缓存测试
+ *
+ * @author Lycop
+ */
+public class NearCacheTest {
+
+	private static byte[] bytes(String data) {
+		return SerializeUtil.serizlize(new CacheDataModel("demo", "find", "[1]", 1, data, -1L));
+	}
+
+	@Test
+	public void sharedDataIsDeserializedOnce() {
+		NearCache nearCache = new NearCache(60000L, 10);
+		nearCache.put("key", bytes("user"), -1L);
+
+		assertEquals("user", nearCache.get("key", true).getData());
+		assertSame(nearCache.get("key", true), nearCache.get("key", true));
+		assertNotSame(nearCache.get("key", false), nearCache.get("key", false));
+	}
+
+	@Test
+	public void expiredDataIsRemoved() {
+		NearCache nearCache = new NearCache(60000L, 10);
+		nearCache.put("key", bytes("user"), System.currentTimeMillis() - 1L);
+
+		assertNull(nearCache.get("key", true));
+		assertEquals(0, nearCache.size());
+	}
+
+	@Test
+	public void evictsLeastRecentlyAccessed() {
+		NearCache nearCache = new NearCache(60000L, 10);
+		for (int i = 0; i < 10; i++) {
+			nearCache.put("key" + i, bytes("user" + i), -1L);
+		}
+		for (int i = 0; i < 5; i++) {
+			assertNotNull(nearCache.get("key" + i, true));
+		}
+
+		nearCache.put("key10", bytes("user10"), -1L);
+		assertEquals(10, nearCache.size());
+		assertNull(nearCache.get("key5", true));
+		for (int i = 0; i < 5; i++) {
+			assertNotNull(nearCache.get("key" + i, true));
+		}
+		assertNotNull(nearCache.get("key10", true));
+	}
+}
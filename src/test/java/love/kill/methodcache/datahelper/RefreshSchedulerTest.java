@@ -0,0 +1,122 @@
+package love.kill.methodcache.datahelper;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 刷新调度测试
+ *
+ * @author Lycop
+ */
+public class RefreshSchedulerTest {
+
+	private static final String CACHE_KEY = "demo@find@1";
+
+	private static DataHelper.ActualDataFunctional functional(double refreshThreshold, double earlyRefreshBeta) {
+		return new DataHelper.ActualDataFunctional() {
+			@Override
+			public Object getActualData() {
+				return "user";
+			}
+
+			@Override
+			public long getExpirationTime() {
+				return System.currentTimeMillis() + 1000L;
+			}
+
+			@Override
+			public double getRefreshThreshold() {
+				return refreshThreshold;
+			}
+
+			@Override
+			public double getEarlyRefreshBeta() {
+				return earlyRefreshBeta;
+			}
+		};
+	}
+
+	private static CacheDataModel dataModel(long cacheTime, long expireTime) {
+		CacheDataModel cacheDataModel = new CacheDataModel("demo", "find", "[1]", 1, "user", expireTime);
+		cacheDataModel.setCacheTime(cacheTime);
+		return cacheDataModel;
+	}
+
+	@Test
+	public void freshDataIsNotDue() {
+		long now = System.currentTimeMillis();
+
+		assertFalse(new RefreshScheduler().isRefreshDue(CACHE_KEY, false, dataModel(now, now + 60000L),
+				functional(0D, 0D)));
+	}
+
+	@Test
+	public void staleDataIsDue() {
+		long now = System.currentTimeMillis();
+		CacheDataModel cacheDataModel = dataModel(now - 2000L, now - 1000L);
+		cacheDataModel.setStaleExpiration(60000L);
+
+		assertTrue(cacheDataModel.isStale());
+		assertTrue(new RefreshScheduler().isRefreshDue(CACHE_KEY, false, cacheDataModel, functional(0D, 0D)));
+	}
+
+	@Test
+	public void refreshIntervalLimitsRefresh() {
+		long now = System.currentTimeMillis();
+		CacheDataModel cacheDataModel = dataModel(now, now + 60000L);
+		RefreshScheduler refreshScheduler = new RefreshScheduler();
+		assertTrue(refreshScheduler.isRefreshDue(CACHE_KEY, true, cacheDataModel, functional(0D, 0D)));
+
+		refreshScheduler.refresh(CACHE_KEY, 60000L, Runnable::run, () -> {
+		});
+		assertFalse(refreshScheduler.isRefreshDue(CACHE_KEY, true, cacheDataModel, functional(0D, 0D)));
+		assertTrue(refreshScheduler.isRefreshDue("other", true, cacheDataModel, functional(0D, 0D)));
+	}
+
+	@Test
+	public void thresholdTriggersNearExpiry() {
+		long now = System.currentTimeMillis();
+		RefreshScheduler refreshScheduler = new RefreshScheduler();
+
+		assertFalse(refreshScheduler.isRefreshDue(CACHE_KEY, false, dataModel(now - 100L, now + 900L),
+				functional(0.5D, 0D)));
+		assertTrue(refreshScheduler.isRefreshDue(CACHE_KEY, false, dataModel(now - 900L, now + 100L),
+				functional(0.5D, 0D)));
+	}
+
+	@Test
+	public void earlyRefreshNearExpiryWithLongLoad() {
+		long now = System.currentTimeMillis();
+		CacheDataModel cacheDataModel = dataModel(now - 60000L, now);
+		cacheDataModel.setLoadSpend(60000L);
+
+		assertTrue(new RefreshScheduler().isRefreshDue(CACHE_KEY, false, cacheDataModel, functional(0D, 1D)));
+	}
+
+	@Test
+	public void onlyOneRefreshAtATime() {
+		long now = System.currentTimeMillis();
+		CacheDataModel cacheDataModel = dataModel(now - 2000L, now - 1000L);
+		cacheDataModel.setStaleExpiration(60000L);
+		RefreshScheduler refreshScheduler = new RefreshScheduler();
+		List<Runnable> pending = new ArrayList<>();
+		int[] runs = {0};
+
+		refreshScheduler.refresh(CACHE_KEY, 0L, pending::add, () -> runs[0]++);
+		refreshScheduler.refresh(CACHE_KEY, 0L, pending::add, () -> runs[0]++);
+		assertEquals(1, pending.size());
+		assertEquals(1, refreshScheduler.getRefreshingCount());
+		assertFalse(refreshScheduler.isRefreshDue(CACHE_KEY, false, cacheDataModel, functional(0D, 0D)));
+
+		pending.get(0).run();
+		assertEquals(1, runs[0]);
+		assertEquals(0, refreshScheduler.getRefreshingCount());
+		assertTrue(refreshScheduler.isRefreshDue(CACHE_KEY, false, cacheDataModel, functional(0D, 0D)));
+	}
+}
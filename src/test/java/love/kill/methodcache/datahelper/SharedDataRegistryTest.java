@@ -0,0 +1,76 @@
+package love.kill.methodcache.datahelper;
+
+import org.junit.Test;
+
+import java.lang.ref.WeakReference;
+
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 共享式缓存数据注册表测试
+ *
+ * @author Lycop
+ */
+public class SharedDataRegistryTest {
+
+	private static CacheDataModel dataModel(String methodSignature, long cacheTime) {
+		CacheDataModel cacheDataModel = new CacheDataModel("demo", methodSignature, "[1]", 1, "user", -1L);
+		cacheDataModel.setCacheTime(cacheTime);
+		return cacheDataModel;
+	}
+
+	@Test
+	public void sameVersionIsShared() {
+		CacheDataModel first = dataModel("sameVersionIsShared", 1L);
+		CacheDataModel second = dataModel("sameVersionIsShared", 1L);
+
+		assertSame(first, SharedDataRegistry.canonicalize(first));
+		assertSame(first, SharedDataRegistry.canonicalize(second));
+	}
+
+	@Test
+	public void differentVersionIsNotShared() {
+		CacheDataModel first = dataModel("differentVersionIsNotShared", 1L);
+		CacheDataModel second = dataModel("differentVersionIsNotShared", 2L);
+
+		assertSame(first, SharedDataRegistry.canonicalize(first));
+		assertSame(second, SharedDataRegistry.canonicalize(second));
+		assertNotSame(first, SharedDataRegistry.canonicalize(dataModel("differentVersionIsNotShared", 2L)));
+	}
+
+	@Test
+	public void collectedDataIsReplaced() throws InterruptedException {
+		CacheDataModel first = dataModel("collectedDataIsReplaced", 1L);
+		SharedDataRegistry.canonicalize(first);
+		WeakReference<CacheDataModel> reference = new WeakReference<>(first);
+		first = null;
+		collect(reference);
+
+		CacheDataModel replacement = dataModel("collectedDataIsReplaced", 1L);
+		assertSame(replacement, SharedDataRegistry.canonicalize(replacement));
+	}
+
+	@Test
+	public void collectedDataIsExpunged() throws InterruptedException {
+		WeakReference<CacheDataModel> reference = null;
+		for (int i = 0; i < 1000; i++) {
+			CacheDataModel cacheDataModel = dataModel("collectedDataIsExpunged", i);
+			SharedDataRegistry.canonicalize(cacheDataModel);
+			reference = new WeakReference<>(cacheDataModel);
+		}
+		collect(reference);
+
+		assertTrue(SharedDataRegistry.size() < 1000);
+	}
+
+	private static void collect(WeakReference<?> reference) throws InterruptedException {
+		for (int i = 0; i < 50 && reference.get() != null; i++) {
+			System.gc();
+			Thread.sleep(20L);
+		}
+		assertNull(reference.get());
+	}
+}
@@ -0,0 +1,58 @@
+package love.kill.methodcache.datahelper;
+
+import org.junit.Test;
+
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * 滑动窗口统计测试
+ *
+ * @author Lycop
+ */
+public class SlidingWindowTest {
+
+	@Test
+	public void emptyWindows() {
+		Map<String, Map<String, String>> windows = new SlidingWindow().printWindows();
+
+		assertEquals("[1m, 5m, 15m]", windows.keySet().toString());
+		for (Map<String, String> window : windows.values()) {
+			assertEquals("0", window.get("times"));
+			assertEquals("", window.get("hitRatio"));
+			assertEquals("", window.get("avgOfLoadSpend"));
+		}
+	}
+
+	@Test
+	public void countsHitsFailuresAndLoads() {
+		SlidingWindow slidingWindow = new SlidingWindow();
+		slidingWindow.record(true, false, 0L, 1);
+		slidingWindow.record(true, false, 0L, 1);
+		slidingWindow.record(true, false, 0L, 1);
+		slidingWindow.record(false, false, 2000000L, 1);
+		slidingWindow.record(false, true, 4000000L, 1);
+
+		for (Map<String, String> window : slidingWindow.printWindows().values()) {
+			assertEquals("4", window.get("times"));
+			assertEquals("3", window.get("hit"));
+			assertEquals("1", window.get("failure"));
+			assertEquals("1", window.get("exception"));
+			assertEquals("0.7500", window.get("hitRatio"));
+			assertEquals("3.000", window.get("avgOfLoadSpend"));
+		}
+	}
+
+	@Test
+	public void weightScalesCounts() {
+		SlidingWindow slidingWindow = new SlidingWindow();
+		slidingWindow.record(true, false, 0L, 10);
+		slidingWindow.record(false, false, 1000000L, 10);
+
+		Map<String, String> window = slidingWindow.printWindows().get("1m");
+		assertEquals("20", window.get("times"));
+		assertEquals("0.5000", window.get("hitRatio"));
+		assertEquals("1.000", window.get("avgOfLoadSpend"));
+	}
+}
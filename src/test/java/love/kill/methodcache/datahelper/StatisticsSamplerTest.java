@@ -0,0 +1,54 @@
+package love.kill.methodcache.datahelper;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 统计采样测试
+ *
+ * @author Lycop
+ */
+public class StatisticsSamplerTest {
+
+	private static final String METHOD = "public java.lang.String Demo.find(java.lang.String)";
+
+	@Test
+	public void zeroRateNeverSamples() {
+		StatisticsSampler sampler = new StatisticsSampler(0D, 0L);
+		for (int i = 0; i < 1000; i++) {
+			assertEquals(0, sampler.sample(METHOD, -1D));
+		}
+	}
+
+	@Test
+	public void fullRateSamplesEveryRequest() {
+		StatisticsSampler sampler = new StatisticsSampler(1D, 0L);
+		for (int i = 0; i < 1000; i++) {
+			assertEquals(1, sampler.sample(METHOD, -1D));
+		}
+	}
+
+	@Test
+	public void methodRateOverridesGlobalRate() {
+		StatisticsSampler sampler = new StatisticsSampler(1D, 0L);
+		assertEquals(0, sampler.sample(METHOD, 0D));
+
+		sampler = new StatisticsSampler(0D, 0L);
+		assertEquals(1, sampler.sample(METHOD, 1D));
+	}
+
+	@Test
+	public void sampledWeightIsUnbiased() {
+		StatisticsSampler sampler = new StatisticsSampler(0.1D, 0L);
+		int requests = 200000;
+		long total = 0L;
+		for (int i = 0; i < requests; i++) {
+			int weight = sampler.sample(METHOD, -1D);
+			assertTrue(weight == 0 || weight == 10);
+			total += weight;
+		}
+		assertTrue(String.valueOf(total), Math.abs(total - requests) < requests / 10);
+	}
+}
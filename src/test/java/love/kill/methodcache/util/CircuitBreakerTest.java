@@ -0,0 +1,81 @@
+package love.kill.methodcache.util;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 熔断器测试
+ *
+ * @author Lycop
+ */
+public class CircuitBreakerTest {
+
+	private static final long OPEN_DURATION = 50L;
+
+	@Test
+	public void opensAfterConsecutiveFailures() {
+		CircuitBreaker circuitBreaker = new CircuitBreaker("test", 3, 0L, OPEN_DURATION);
+		circuitBreaker.recordFailure();
+		circuitBreaker.recordFailure();
+		assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+		assertTrue(circuitBreaker.allowRequest());
+
+		circuitBreaker.recordFailure();
+		assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+		assertTrue(circuitBreaker.isOpen());
+		assertFalse(circuitBreaker.allowRequest());
+	}
+
+	@Test
+	public void successResetsFailureCount() {
+		CircuitBreaker circuitBreaker = new CircuitBreaker("test", 2, 0L, OPEN_DURATION);
+		circuitBreaker.recordFailure();
+		circuitBreaker.record(1L);
+		circuitBreaker.recordFailure();
+
+		assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+	}
+
+	@Test
+	public void slowCallCountsAsFailure() {
+		CircuitBreaker circuitBreaker = new CircuitBreaker("test", 1, 100L, OPEN_DURATION);
+		circuitBreaker.record(99L);
+		assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+
+		circuitBreaker.record(100L);
+		assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+	}
+
+	@Test
+	public void halfOpenAdmitsOneProbeAndClosesOnSuccess() throws InterruptedException {
+		CircuitBreaker circuitBreaker = new CircuitBreaker("test", 1, 0L, OPEN_DURATION);
+		circuitBreaker.recordFailure();
+		Thread.sleep(OPEN_DURATION + 10L);
+
+		assertTrue(circuitBreaker.allowRequest());
+		assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+		assertFalse(circuitBreaker.isOpen());
+		assertFalse(circuitBreaker.allowRequest());
+
+		circuitBreaker.record(1L);
+		assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+		assertTrue(circuitBreaker.allowRequest());
+	}
+
+	@Test
+	public void halfOpenReopensOnFailure() throws InterruptedException {
+		CircuitBreaker circuitBreaker = new CircuitBreaker("test", 3, 0L, OPEN_DURATION);
+		for (int i = 0; i < 3; i++) {
+			circuitBreaker.recordFailure();
+		}
+		Thread.sleep(OPEN_DURATION + 10L);
+		assertTrue(circuitBreaker.allowRequest());
+
+		circuitBreaker.recordFailure();
+		assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+		assertFalse(circuitBreaker.allowRequest());
+	}
+}
@@ -0,0 +1,75 @@
+package love.kill.methodcache.util;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 序列化工具类测试
+ *
+ * @author Lycop
+ */
+public class SerializeUtilTest {
+
+	private static byte[] compressible() {
+		List<String> list = new ArrayList<>();
+		for (int i = 0; i < 1000; i++) {
+			list.add("methodcache-" + (i % 10));
+		}
+		return SerializeUtil.serizlize(list);
+	}
+
+	@Test
+	public void serializedDataIsNotCompressed() {
+		byte[] bytes = SerializeUtil.serizlize("user");
+
+		assertFalse(SerializeUtil.isCompressed(bytes));
+		assertSame(bytes, SerializeUtil.decompress(bytes));
+		assertEquals("user", SerializeUtil.deserialize(bytes));
+	}
+
+	@Test
+	public void belowThresholdIsUnchanged() {
+		byte[] bytes = compressible();
+
+		assertSame(bytes, SerializeUtil.compress(bytes, 0));
+		assertSame(bytes, SerializeUtil.compress(bytes, bytes.length + 1));
+	}
+
+	@Test
+	public void compressRoundTrip() {
+		byte[] bytes = compressible();
+		byte[] compressed = SerializeUtil.compress(bytes, 1);
+
+		assertTrue(SerializeUtil.isCompressed(compressed));
+		assertTrue(compressed.length < bytes.length);
+		assertArrayEquals(bytes, SerializeUtil.decompress(compressed));
+		assertEquals(SerializeUtil.deserialize(bytes), SerializeUtil.deserialize(SerializeUtil.decompress(compressed)));
+	}
+
+	@Test
+	public void incompressibleDataIsUnchanged() {
+		byte[] random = new byte[4096];
+		new Random(1L).nextBytes(random);
+		random[0] = 0;
+
+		assertSame(random, SerializeUtil.compress(random, 1));
+	}
+
+	@Test
+	public void compressedDataSurvivesStringEncoding() {
+		byte[] compressed = SerializeUtil.compress(compressible(), 1);
+		byte[] decoded = SerializeUtil.string2ByteArray(SerializeUtil.byteArray2String(compressed));
+
+		assertArrayEquals(compressed, decoded);
+		assertTrue(SerializeUtil.isCompressed(decoded));
+	}
+}